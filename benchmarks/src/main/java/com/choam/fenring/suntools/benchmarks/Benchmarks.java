@@ -0,0 +1,34 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Takes the usual JMH command line and always adds the GC profiler,
+ * so every run reports gc.alloc.rate and gc.alloc.rate.norm (bytes per operation) next to the timings.
+ *
+ *   java -jar benchmarks/target/benchmarks.jar Suntime
+ *   java -jar benchmarks/target/benchmarks.jar SuntimeBenchmark.sunrise -p latitude=0,89.5
+ */
+public class Benchmarks {
+
+    public static void main(String[] args) throws Exception {
+
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListProfilers() || commandLineOptions.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.GregorianCalendar;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Handles into the per-tick text paths of the dial: the Sunutil and Sunformat formatters and DotMatrix.
+ * Same reasoning as SuntimeHandles, the classes sit in the default package. A DotMatrix is passed around as Object.
+ */
+final class DialHandles {
+
+    static final MethodHandle GET_SHORT_TIME_STRING;
+    static final MethodHandle GET_SHORTER_TIME_STRING;
+    static final MethodHandle GET_SHORTER_TIME_STRING_MILLIS;
+    static final MethodHandle GET_SHORT_TIME_LENGTH_STRING;
+    static final MethodHandle FORMAT_COORDINATE_TO_STRING;
+    static final MethodHandle PUT_DIGITS;
+    static final MethodHandle PUT_TIME_LENGTH;
+    static final MethodHandle PUT_COORDINATE;
+    static final MethodHandle SET_STRING;
+    static final MethodHandle SET_CHARS;
+
+    private static final Class<?> DOT_MATRIX;
+
+    static {
+        try {
+            Class<?> sunutil = Class.forName("Sunutil");
+            Class<?> sunformat = Class.forName("Sunformat");
+            DOT_MATRIX = Class.forName("DotMatrix");
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            GET_SHORT_TIME_STRING = lookup.findStatic(sunutil, "getShortTimeString", methodType(String.class, GregorianCalendar.class));
+            GET_SHORTER_TIME_STRING = lookup.findStatic(sunutil, "getShorterTimeString", methodType(String.class, GregorianCalendar.class));
+            GET_SHORTER_TIME_STRING_MILLIS = lookup.findStatic(sunutil, "getShorterTimeString", methodType(String.class, long.class));
+            GET_SHORT_TIME_LENGTH_STRING = lookup.findStatic(sunutil, "getShortTimeLengthString", methodType(String.class, double.class));
+            FORMAT_COORDINATE_TO_STRING = lookup.findStatic(sunutil, "formatCoordinateToString", methodType(String.class, double.class, String.class, String.class));
+
+            PUT_DIGITS = lookup.findStatic(sunformat, "putDigits", methodType(int.class, char[].class, int.class, int.class, int.class));
+            PUT_TIME_LENGTH = lookup.findStatic(sunformat, "putTimeLength", methodType(int.class, char[].class, int.class, double.class));
+            PUT_COORDINATE = lookup.findStatic(sunformat, "putCoordinate", methodType(int.class, char[].class, int.class, double.class));
+
+            MethodHandle setString = lookup.findVirtual(DOT_MATRIX, "setString", methodType(void.class, String.class));
+            SET_STRING = setString.asType(setString.type().changeParameterType(0, Object.class));
+
+            MethodHandle setChars = lookup.findVirtual(DOT_MATRIX, "setChars", methodType(void.class, char[].class, int.class, int.class));
+            SET_CHARS = setChars.asType(setChars.type().changeParameterType(0, Object.class));
+
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private DialHandles() {}
+
+    /**
+     * Same as new DotMatrix(text, null), which uses the default dot paint. Setup only.
+     */
+    static Object newDotMatrix(String text) {
+        try {
+            Class<?> paint = Class.forName("javafx.scene.paint.Paint");
+            return DOT_MATRIX.getConstructor(String.class, paint).newInstance(text, null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot build DotMatrix", e);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.choam.fenring.suntools.benchmarks.DialHandles.*;
+
+/**
+ * DotMatrix.setString and setChars, the glyph decode plus one setVisible per dot of every glyph that changed.
+ * The matrices are never put in a scene, so this is the cost on the FX thread before any rendering.
+ * JavaFX has to be on the class path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DotMatrixBenchmark {
+
+    // what the second hand matrix and the coordinate matrix go through
+    private static final String[] SECONDS = { "00", "17", "38", "59" };
+    private static final String[] COORDINATES = { " 15.98E", "  0.00W", "178.31W", " 45.78N" };
+
+    private static final char[][] COORDINATE_CHARS = {
+            COORDINATES[0].toCharArray(), COORDINATES[1].toCharArray(), COORDINATES[2].toCharArray(), COORDINATES[3].toCharArray()
+    };
+
+    private Object secondMatrix;
+    private Object coordinateMatrix;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        secondMatrix = newDotMatrix("00");
+        coordinateMatrix = newDotMatrix("000.00E");
+    }
+
+    @Benchmark
+    public void setStringSeconds() throws Throwable {
+        index = (index + 1) & 3;
+        SET_STRING.invokeExact(secondMatrix, SECONDS[index]);
+    }
+
+    @Benchmark
+    public void setStringCoordinate() throws Throwable {
+        index = (index + 1) & 3;
+        SET_STRING.invokeExact(coordinateMatrix, COORDINATES[index]);
+    }
+
+    @Benchmark
+    public void setCharsCoordinate() throws Throwable {
+        index = (index + 1) & 3;
+        SET_CHARS.invokeExact(coordinateMatrix, COORDINATE_CHARS[index], 0, 7);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Path;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Handles into Sunephemeris, the file Sunyear reads its year from. Same reasoning as SuntimeHandles,
+ * the class sits in the default package. A Sunephemeris is passed around as Object.
+ */
+final class EphemerisHandles {
+
+    static final MethodHandle LOAD;
+    static final MethodHandle FIND;
+    static final MethodHandle WRITE;
+    static final MethodHandle GET_SUNRISE_JULIAN_DATE;
+    static final MethodHandle GET_SUNSET_JULIAN_DATE;
+    static final MethodHandle GET_FIRST_JULIAN_DAY_NUMBER;
+    static final MethodHandle GET_DAY_COUNT;
+
+    private static final Class<?> SUNEPHEMERIS;
+
+    static {
+        try {
+            SUNEPHEMERIS = Class.forName("Sunephemeris");
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            LOAD = returningObject(lookup.findStatic(SUNEPHEMERIS, "load", methodType(SUNEPHEMERIS, Path.class, double.class, double.class, int.class)));
+            FIND = returningObject(lookup.findStatic(SUNEPHEMERIS, "find", methodType(SUNEPHEMERIS, Path.class, double.class, double.class, int.class)));
+            WRITE = lookup.findStatic(SUNEPHEMERIS, "write", methodType(void.class, Path.class, double.class, double.class, long.class, int.class));
+
+            GET_SUNRISE_JULIAN_DATE = virtual(lookup, "getSunriseJulianDate", methodType(double.class, long.class));
+            GET_SUNSET_JULIAN_DATE = virtual(lookup, "getSunsetJulianDate", methodType(double.class, long.class));
+            GET_FIRST_JULIAN_DAY_NUMBER = virtual(lookup, "getFirstJulianDayNumber", methodType(long.class));
+            GET_DAY_COUNT = virtual(lookup, "getDayCount", methodType(int.class));
+
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private EphemerisHandles() {}
+
+    private static MethodHandle returningObject(MethodHandle handle) {
+        return handle.asType(handle.type().changeReturnType(Object.class));
+    }
+
+    private static MethodHandle virtual(MethodHandles.Lookup lookup, String name, MethodType type) throws ReflectiveOperationException {
+        MethodHandle handle = lookup.findVirtual(SUNEPHEMERIS, name, type);
+        return handle.asType(handle.type().changeParameterType(0, Object.class));
+    }
+
+}
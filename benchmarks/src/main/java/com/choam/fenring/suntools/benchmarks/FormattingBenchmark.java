@@ -0,0 +1,158 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static com.choam.fenring.suntools.benchmarks.DialHandles.*;
+
+/**
+ * String building that runs every second while the dial is up. Look at gc.alloc.rate.norm for bytes per call.
+ *
+ * Inputs rotate through a small table so the JIT cannot fold a constant argument.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FormattingBenchmark {
+
+    private static final int INPUTS = 64;
+    private static final int MASK = INPUTS - 1;
+
+    private GregorianCalendar[] calendars = new GregorianCalendar[INPUTS];
+    private long[] millisOfDay = new long[INPUTS];
+    private double[] dayLengths = new double[INPUTS];
+    private double[] coordinates = new double[INPUTS];
+
+    private char[] chars = new char[16];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+
+        Random random = new Random(42);
+        TimeZone timeZone = TimeZone.getTimeZone("Europe/Zagreb");
+
+        for (int i = 0; i < INPUTS; i++) {
+            calendars[i] = new GregorianCalendar(timeZone);
+            calendars[i].setTimeInMillis(1767225600000L + (long) (random.nextDouble() * 365 * 24 * 60 * 60 * 1000L));
+            calendars[i].get(Calendar.HOUR_OF_DAY);
+            millisOfDay[i] = (long) (random.nextDouble() * 24 * 60 * 60 * 1000L);
+            dayLengths[i] = random.nextDouble() * 24 * 60 * 60;
+            coordinates[i] = random.nextDouble() * 360 - 180;
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public String shortTimeString() throws Throwable {
+        return (String) GET_SHORT_TIME_STRING.invokeExact(calendars[next()]);
+    }
+
+    @Benchmark
+    public String shorterTimeString() throws Throwable {
+        return (String) GET_SHORTER_TIME_STRING.invokeExact(calendars[next()]);
+    }
+
+    @Benchmark
+    public String shorterTimeStringMillis() throws Throwable {
+        return (String) GET_SHORTER_TIME_STRING_MILLIS.invokeExact(millisOfDay[next()]);
+    }
+
+    @Benchmark
+    public String shortTimeLengthString() throws Throwable {
+        return (String) GET_SHORT_TIME_LENGTH_STRING.invokeExact(dayLengths[next()]);
+    }
+
+    @Benchmark
+    public String formatCoordinateToString() throws Throwable {
+        return (String) FORMAT_COORDINATE_TO_STRING.invokeExact(coordinates[next()], "E", "W");
+    }
+
+    @Benchmark
+    public char[] putTimeLength() throws Throwable {
+        int offset = (int) PUT_TIME_LENGTH.invokeExact(chars, 0, dayLengths[next()]);
+        return chars;
+    }
+
+    @Benchmark
+    public char[] putCoordinate() throws Throwable {
+        int offset = (int) PUT_COORDINATE.invokeExact(chars, 0, coordinates[next()]);
+        return chars;
+    }
+
+    /**
+     * The seven padded fields Sunface.updateCurrentTime used to build for the date and time matrices,
+     * kept as the baseline for updateCurrentTimeChars.
+     */
+    @Benchmark
+    public void updateCurrentTimePadding(Blackhole blackhole) {
+
+        GregorianCalendar offsetLocalTime = calendars[next()];
+
+        String yearString = ("0000" + offsetLocalTime.get(Calendar.YEAR));
+        yearString = yearString.substring(yearString.length() - 4);
+        String monthString = ("00" + (offsetLocalTime.get(Calendar.MONTH) + 1));
+        monthString = monthString.substring(monthString.length() - 2);
+        String dayString = ("00" + offsetLocalTime.get(Calendar.DAY_OF_MONTH));
+        dayString = dayString.substring(dayString.length() - 2);
+        String hourString = ("00" + offsetLocalTime.get(Calendar.HOUR_OF_DAY));
+        hourString = hourString.substring(hourString.length() - 2);
+        String minuteString = ("00" + offsetLocalTime.get(Calendar.MINUTE));
+        minuteString = minuteString.substring(minuteString.length() - 2);
+        String secondString = ("00" + offsetLocalTime.get(Calendar.SECOND));
+        secondString = secondString.substring(secondString.length() - 2);
+        String weekString = ("00" + offsetLocalTime.get(Calendar.WEEK_OF_YEAR));
+        weekString = weekString.substring(weekString.length() - 2);
+
+        blackhole.consume(yearString);
+        blackhole.consume(monthString);
+        blackhole.consume(dayString);
+        blackhole.consume(hourString);
+        blackhole.consume(minuteString);
+        blackhole.consume(secondString);
+        blackhole.consume(weekString);
+    }
+
+    /**
+     * The same seven fields the way Sunface.updateCurrentTime writes them now, through one reused buffer.
+     */
+    @Benchmark
+    public char[] updateCurrentTimeChars() throws Throwable {
+
+        GregorianCalendar offsetLocalTime = calendars[next()];
+        int offset;
+
+        offset = (int) PUT_DIGITS.invokeExact(chars, 0, offsetLocalTime.get(Calendar.YEAR), 4);
+        offset = (int) PUT_DIGITS.invokeExact(chars, offset, offsetLocalTime.get(Calendar.MONTH) + 1, 2);
+        offset = (int) PUT_DIGITS.invokeExact(chars, offset, offsetLocalTime.get(Calendar.DAY_OF_MONTH), 2);
+        offset = (int) PUT_DIGITS.invokeExact(chars, offset, offsetLocalTime.get(Calendar.HOUR_OF_DAY), 2);
+        offset = (int) PUT_DIGITS.invokeExact(chars, offset, offsetLocalTime.get(Calendar.MINUTE), 2);
+        offset = (int) PUT_DIGITS.invokeExact(chars, offset, offsetLocalTime.get(Calendar.SECOND), 2);
+        offset = (int) PUT_DIGITS.invokeExact(chars, offset, offsetLocalTime.get(Calendar.WEEK_OF_YEAR), 2);
+
+        return chars;
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.choam.fenring.suntools.benchmarks.EphemerisHandles.*;
+import static com.choam.fenring.suntools.benchmarks.SuntimeHandles.GET_JULIAN_DAY_NUMBER;
+
+/**
+ * The three costs behind the Sunyear chart, called on Sunephemeris itself so they can't drift from what the app runs:
+ * writing a file (twenty years through the solver, what a new position costs in the background), mapping one
+ * that's on disk (what the chart pays on the FX thread) and reading a year of sunrises and sunsets out of it.
+ * The whole chart year, calendar work included, is in SunyearBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class SunephemerisBenchmark {
+
+    private static final int DAYS_IN_YEAR = 367;
+
+    @Param({"0.0", "45.7831", "78.22"})
+    double latitude;
+
+    @Param({"15.9789"})
+    double longitude;
+
+    @Param({"2026"})
+    int year;
+
+    private Path directory;
+    private Path writeFile;
+    private Object ephemeris;
+    private long firstJulianDayNumber;
+    private int dayCount;
+    private long yearJulianDayNumber;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+
+        directory = Files.createTempDirectory("sunephemeris-benchmark");
+        writeFile = directory.resolve("write.bin");
+
+        ephemeris = (Object) LOAD.invokeExact(directory, longitude, latitude, year);
+        firstJulianDayNumber = (long) GET_FIRST_JULIAN_DAY_NUMBER.invokeExact(ephemeris);
+        dayCount = (int) GET_DAY_COUNT.invokeExact(ephemeris);
+        yearJulianDayNumber = (long) GET_JULIAN_DAY_NUMBER.invokeExact(new GregorianCalendar(year, 0, 1, 12, 0, 0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    public void write() throws Throwable {
+        WRITE.invokeExact(writeFile, longitude, latitude, firstJulianDayNumber, dayCount);
+    }
+
+    @Benchmark
+    public Object find() throws Throwable {
+        return (Object) FIND.invokeExact(directory, longitude, latitude, year);
+    }
+
+    @Benchmark
+    public void readYear(Blackhole blackhole) throws Throwable {
+
+        for (int i = 0; i < DAYS_IN_YEAR; i++) {
+            blackhole.consume((double) GET_SUNRISE_JULIAN_DATE.invokeExact(ephemeris, yearJulianDayNumber + i));
+            blackhole.consume((double) GET_SUNSET_JULIAN_DATE.invokeExact(ephemeris, yearJulianDayNumber + i));
+        }
+    }
+
+}
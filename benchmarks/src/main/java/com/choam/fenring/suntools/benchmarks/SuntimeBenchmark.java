@@ -0,0 +1,114 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static com.choam.fenring.suntools.benchmarks.SuntimeHandles.*;
+
+/**
+ * Single calls into Suntime, one benchmark per public entry point the dial and the chart use.
+ *
+ * Latitudes cover the equator, the default position (Zagreb), the arctic circle, Svalbard and almost the
+ * south pole, the last two in polar day or night on the solstices. That is where calcHorizonJulianDate
+ * behaves differently, so sunrise and sunset are worth comparing across them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SuntimeBenchmark {
+
+    @Param({"0.0", "45.7831", "66.56", "78.22", "-89.5"})
+    double latitude;
+
+    @Param({"15.9789"})
+    double longitude;
+
+    @Param({"2026-06-21", "2026-12-21"})
+    String date;
+
+    private GregorianCalendar calendar;
+    private GregorianCalendar nextCalendar;
+    private TimeZone timeZone;
+    private double julianDate;
+    private Object suntime;
+
+    // setters skip the work when nothing changed, so every call alternates between two inputs
+    private boolean flipEh;
+
+    @Setup
+    public void setup() throws Throwable {
+
+        LocalDate localDate = LocalDate.parse(date);
+
+        timeZone = TimeZone.getTimeZone("Europe/Zagreb");
+
+        calendar = new GregorianCalendar(timeZone);
+        calendar.clear();
+        calendar.set(localDate.getYear(), localDate.getMonthValue() - 1, localDate.getDayOfMonth(), 14, 30, 15);
+
+        nextCalendar = (GregorianCalendar) calendar.clone();
+        nextCalendar.add(GregorianCalendar.DAY_OF_YEAR, 1);
+
+        julianDate = (double) GET_JULIAN_DATE.invokeExact(calendar);
+
+        suntime = newSuntime((GregorianCalendar) calendar.clone(), longitude, latitude);
+    }
+
+    @Benchmark
+    public long julianDayNumber() throws Throwable {
+        return (long) GET_JULIAN_DAY_NUMBER.invokeExact(calendar);
+    }
+
+    @Benchmark
+    public double julianDate() throws Throwable {
+        return (double) GET_JULIAN_DATE.invokeExact(calendar);
+    }
+
+    @Benchmark
+    public GregorianCalendar calendarDate() throws Throwable {
+        return (GregorianCalendar) GET_CALENDAR_DATE.invokeExact(julianDate, timeZone);
+    }
+
+    // the setters write into the Suntime fields, which the JIT cannot drop, so there is nothing to return
+    @Benchmark
+    public void observerTime() throws Throwable {
+        flipEh = !flipEh;
+        GregorianCalendar observerTime = flipEh ? nextCalendar : calendar;
+        SET_OBSERVER_TIME.invokeExact(suntime, observerTime);
+    }
+
+    @Benchmark
+    public void observerPosition() throws Throwable {
+        flipEh = !flipEh;
+        double observerLatitude = flipEh ? latitude + 0.001 : latitude;
+        SET_OBSERVER_POSITION.invokeExact(suntime, longitude, observerLatitude);
+    }
+
+    @Benchmark
+    public double sunrise() throws Throwable {
+        return (double) GET_SUNRISE_JULIAN_DATE.invokeExact(suntime);
+    }
+
+    @Benchmark
+    public double sunset() throws Throwable {
+        return (double) GET_SUNSET_JULIAN_DATE.invokeExact(suntime);
+    }
+
+}
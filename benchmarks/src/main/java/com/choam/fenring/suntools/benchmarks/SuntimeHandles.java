@@ -0,0 +1,75 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Suntime lives in the default package, which cannot be imported from here, and JMH refuses benchmark
+ * classes in the default package. The benchmarks reach it through these handles instead. They are static
+ * final and called with invokeExact, so the JIT binds them like a direct call and they add nothing measurable.
+ * A Suntime instance is passed around as Object.
+ */
+final class SuntimeHandles {
+
+    static final MethodHandle GET_JULIAN_DAY_NUMBER;
+    static final MethodHandle GET_JULIAN_DATE;
+    static final MethodHandle GET_CALENDAR_DATE;
+    static final MethodHandle SET_OBSERVER_TIME;
+    static final MethodHandle SET_OBSERVER_POSITION;
+    static final MethodHandle GET_SUNRISE_JULIAN_DATE;
+    static final MethodHandle GET_SUNSET_JULIAN_DATE;
+
+    private static final Class<?> SUNTIME;
+    private static final Class<?> BUILDER;
+
+    static {
+        try {
+            SUNTIME = Class.forName("Suntime");
+            BUILDER = Class.forName("Suntime$PleaseBuildSuntime");
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            GET_JULIAN_DAY_NUMBER = lookup.findStatic(SUNTIME, "getJulianDayNumber", methodType(long.class, GregorianCalendar.class));
+            GET_JULIAN_DATE = lookup.findStatic(SUNTIME, "getJulianDate", methodType(double.class, GregorianCalendar.class));
+            GET_CALENDAR_DATE = lookup.findStatic(SUNTIME, "getCalendarDate", methodType(GregorianCalendar.class, double.class, TimeZone.class));
+
+            SET_OBSERVER_TIME = virtual(lookup, "setObserverTime", methodType(void.class, GregorianCalendar.class));
+            SET_OBSERVER_POSITION = virtual(lookup, "setObserverPosition", methodType(void.class, double.class, double.class));
+            GET_SUNRISE_JULIAN_DATE = virtual(lookup, "getSunriseJulianDate", methodType(double.class));
+            GET_SUNSET_JULIAN_DATE = virtual(lookup, "getSunsetJulianDate", methodType(double.class));
+
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private SuntimeHandles() {}
+
+    // (Suntime, args...) -> (Object, args...) so benchmarks can hold the instance without naming its class
+    private static MethodHandle virtual(MethodHandles.Lookup lookup, String name, MethodType type) throws ReflectiveOperationException {
+        MethodHandle handle = lookup.findVirtual(SUNTIME, name, type);
+        return handle.asType(handle.type().changeParameterType(0, Object.class));
+    }
+
+    /**
+     * Same as new Suntime.PleaseBuildSuntime().localTime(..).observerLongitude(..).observerLatitude(..).thankYou(),
+     * only used in setup so plain reflection is fine.
+     */
+    static Object newSuntime(GregorianCalendar localTime, double longitude, double latitude) {
+        try {
+            Object builder = BUILDER.getConstructor().newInstance();
+            builder = BUILDER.getMethod("localTime", GregorianCalendar.class).invoke(builder, localTime);
+            builder = BUILDER.getMethod("observerLongitude", double.class).invoke(builder, longitude);
+            builder = BUILDER.getMethod("observerLatitude", double.class).invoke(builder, latitude);
+            return BUILDER.getMethod("thankYou").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot build Suntime", e);
+        }
+    }
+
+}
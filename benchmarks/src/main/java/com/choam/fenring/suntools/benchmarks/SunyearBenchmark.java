@@ -0,0 +1,111 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.choam.fenring.suntools.benchmarks.EphemerisHandles.LOAD;
+import static com.choam.fenring.suntools.benchmarks.SuntimeHandles.newSuntime;
+import static com.choam.fenring.suntools.benchmarks.SunyearHandles.CALCULATE_DATA_POINTS;
+
+/**
+ * A full year of the chart through Sunyear.calculateDataPoints, the same method recalculateDataPoints calls, once
+ * with no ephemeris (what the chart does on a miss, the solver and the calendar conversion for every day) and once
+ * with a mapped one. Its allocations show up in gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class SunyearBenchmark {
+
+    @Param({"0.0", "45.7831", "66.56", "78.22", "-89.5"})
+    double latitude;
+
+    @Param({"15.9789"})
+    double longitude;
+
+    @Param({"2026"})
+    int year;
+
+    private GregorianCalendar calendar;
+    private long timeZoneOffset;
+    private Object suntime;
+    private Path directory;
+    private Object ephemeris;
+
+    private final List<GregorianCalendar> sunriseDateList = new ArrayList<>();
+    private final List<GregorianCalendar> sunsetDateList = new ArrayList<>();
+    private final List<Double> sunriseList = new ArrayList<>();
+    private final List<Double> sunsetList = new ArrayList<>();
+    private final List<Double> daylengthList = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+
+        TimeZone timeZone = TimeZone.getTimeZone("Europe/Zagreb");
+        timeZoneOffset = timeZone.getRawOffset();
+
+        calendar = new GregorianCalendar(timeZone);
+        calendar.set(Calendar.YEAR, year);
+
+        suntime = newSuntime(calendar, longitude, latitude);
+
+        directory = Files.createTempDirectory("sunyear-benchmark");
+        ephemeris = (Object) LOAD.invokeExact(directory, longitude, latitude, year);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int solverYear() throws Throwable {
+        return calculate(null);
+    }
+
+    @Benchmark
+    public int ephemerisYear() throws Throwable {
+        return calculate(ephemeris);
+    }
+
+    private int calculate(Object ephemeris) throws Throwable {
+
+        sunriseDateList.clear();
+        sunsetDateList.clear();
+        sunriseList.clear();
+        sunsetList.clear();
+        daylengthList.clear();
+
+        return (int) CALCULATE_DATA_POINTS.invokeExact(suntime, ephemeris, calendar, longitude, latitude, timeZoneOffset,
+                sunriseDateList, sunsetDateList, sunriseList, sunsetList, daylengthList);
+    }
+
+}
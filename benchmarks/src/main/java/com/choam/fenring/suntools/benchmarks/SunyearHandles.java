@@ -0,0 +1,37 @@
+package com.choam.fenring.suntools.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Handle into Sunyear.calculateDataPoints, the per-day loop of the year chart. Same reasoning as SuntimeHandles,
+ * the class sits in the default package. The Suntime and Sunephemeris arguments are passed as Object.
+ */
+final class SunyearHandles {
+
+    static final MethodHandle CALCULATE_DATA_POINTS;
+
+    static {
+        try {
+            Class<?> sunyear = Class.forName("Sunyear");
+            Class<?> suntime = Class.forName("Suntime");
+            Class<?> sunephemeris = Class.forName("Sunephemeris");
+
+            MethodHandle handle = MethodHandles.publicLookup().findStatic(sunyear, "calculateDataPoints", methodType(int.class,
+                    suntime, sunephemeris, GregorianCalendar.class, double.class, double.class, long.class,
+                    List.class, List.class, List.class, List.class, List.class));
+
+            CALCULATE_DATA_POINTS = handle.asType(handle.type().changeParameterType(0, Object.class).changeParameterType(1, Object.class));
+
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private SunyearHandles() {}
+
+}
@@ -131,7 +131,7 @@ public class ArcHour extends Group {
                 double y = matrixRadius * Math.sin(Math.toRadians(i * 3));
 
                 DotMatrix dotMatrix = new DotMatrix(i + "", Color.WHITE);
-                dotMatrix.setStyle(Sunconfig.LOCALMINUTE_GLOW);
+                Sunstyle.setStyleClass(dotMatrix, Sunconfig.LOCALMINUTE_GLOW);
                 dotMatrix.setOpacity(DEFAULT_MATRIX_OPACITY);
                 dotMatrix.setScaleX(DEFAULT_MATRIX_SCALE);
                 dotMatrix.setScaleY(DEFAULT_MATRIX_SCALE);
@@ -149,7 +149,7 @@ public class ArcHour extends Group {
                 double y = matrixRadius * Math.sin(Math.toRadians(i * 3 + 180));
 
                 DotMatrix dotMatrix = new DotMatrix(i + "", Color.WHITE);
-                dotMatrix.setStyle(Sunconfig.LOCALSECOND_GLOW);
+                Sunstyle.setStyleClass(dotMatrix, Sunconfig.LOCALSECOND_GLOW);
                 dotMatrix.setOpacity(DEFAULT_MATRIX_OPACITY);
                 dotMatrix.setScaleX(DEFAULT_MATRIX_SCALE);
                 dotMatrix.setScaleY(DEFAULT_MATRIX_SCALE);
@@ -193,20 +193,20 @@ public class ArcHour extends Group {
         arcMinuteProgress.setStroke(paint);
     }
 
-    public void setSecondStyle(String style) {
-        arcSecondProgress.setStyle(style);
+    public void setSecondStyle(String styleClass) {
+        Sunstyle.setStyleClass(arcSecondProgress, styleClass);
     }
 
-    public void setMinuteStyle(String style) {
-        arcMinuteProgress.setStyle(style);
+    public void setMinuteStyle(String styleClass) {
+        Sunstyle.setStyleClass(arcMinuteProgress, styleClass);
     }
 
     public void setLineStartStroke(Paint paint) {
         lineStart.setStroke(paint);
     }
 
-    public void setLineStartStyle(String style) {
-        lineStart.setStyle(style);
+    public void setLineStartStyle(String styleClass) {
+        Sunstyle.setStyleClass(lineStart, styleClass);
     }
 
     public void setShadowOpacity(double opacity) {
@@ -6,6 +6,7 @@ import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.time.Clock;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -49,13 +50,21 @@ public class Cetustime {
     private String result;
     private String shortResult;
 
+    private Clock clock;
+
     public Cetustime() {
+        this(Sunclock.real());
+    }
+
+    public Cetustime(Clock clock) {
+
+        this.clock = clock;
 
         cetusTimeOkEh = false;
         cetusTimeExpiredEh = true;
         result = "unknown";
 
-        lastUpdateDate = new GregorianCalendar();
+        lastUpdateDate = Sunclock.now(clock);
 
         reloadCounter = 0;
 
@@ -82,7 +91,7 @@ public class Cetustime {
             dayEh = dataMap.get(ISDAY_KEY).equals("true");
             expiry = parseDate(dataMap.get(EXPIRY_KEY), expiry.getTimeZone());
 
-            lastUpdateDate = new GregorianCalendar();
+            lastUpdateDate = Sunclock.now(clock);
 
             cetusTimeOkEh = true;
             cetusTimeExpiredEh = false;
@@ -218,7 +227,7 @@ public class Cetustime {
 
     public boolean cetusTimeExpiredEh() {
 
-        long curentTimeMs = new GregorianCalendar().getTimeInMillis();
+        long curentTimeMs = clock.millis();
         long lastUpdateTimeMs = lastUpdateDate.getTimeInMillis();
 
         if (abs(curentTimeMs - lastUpdateTimeMs) > CETUS_DATA_EXPIRY_TIMEOUT) {
@@ -2,7 +2,6 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.Cursor;
 import javafx.scene.Group;
-import javafx.scene.SceneAntialiasing;
 import javafx.scene.SubScene;
 import javafx.scene.effect.BlendMode;
 import javafx.scene.image.Image;
@@ -29,7 +28,7 @@ public class ControlThingy extends Group {
     private Color matrixColorOn;
     private String matrixShadow;
     private double matrixScale;
-    private String styleShadow, styleGlow;
+    private String styleClass;
     private Cursor cursor;
     private String helpTextString;
     private Text helpTextObject;
@@ -67,8 +66,7 @@ public class ControlThingy extends Group {
         this.matrixColorOn = builder.matrixColorOn;
         this.matrixShadow = builder.matrixShadow;
         this.matrixScale = builder.matrixScale;
-        this.styleShadow = builder.styleShadow;
-        this.styleGlow = builder.styleGlow;
+        this.styleClass = builder.styleClass;
         this.helpTextString = builder.helpTextString;
         this.helpTextObject = builder.helpTextObject;
         this.cursor = builder.cursor;
@@ -123,31 +121,31 @@ public class ControlThingy extends Group {
         super.setTranslateX(x);
         super.setTranslateY(y);
 
-        super.setStyle(styleShadow);
+        Sunstyle.setStyleClass(this, styleClass);
 
         // Events
         super.setOnMouseEntered(event -> {
             helpTextObject.setText(helpTextString);
             super.setCursor(cursor);
-            super.setStyle(styleGlow);
+            Sunstyle.setGlow(this, true);
         });
 
         super.setOnMouseExited(event -> {
             helpTextObject.setText(Sunconfig.HELPTEXT_DEFAULT);
             super.setCursor(Cursor.DEFAULT);
-            super.setStyle(styleShadow);
+            Sunstyle.setGlow(this, false);
         });
 
     }
 
     private SubScene createImageBox() {
         ImageView imageView = new ImageView(image);
-        SubScene imageScene = new SubScene(new Group(imageView), image.getWidth(), image.getHeight(), true, SceneAntialiasing.BALANCED);
+        SubScene imageScene = new SubScene(new Group(imageView), image.getWidth(), image.getHeight(), true, Sunquality.ANTIALIASING);
         imageScene.setTranslateX(-image.getWidth() / 2 + imageOffsetX);
         imageScene.setTranslateY(-image.getHeight() / 2 + imageOffsetY);
         imageScene.setScaleX(((size * 2) / image.getWidth()) * imageScale);
         imageScene.setScaleY(((size * 2) / image.getHeight()) * imageScale);
-        imageScene.setStyle(imageStyle);
+        Sunstyle.setStyleClass(imageScene, imageStyle);
         return imageScene;
     }
 
@@ -205,7 +203,7 @@ public class ControlThingy extends Group {
         dotMatrix.setScaleY(matrixScale);
         dotMatrix.setTranslateX(-dotMatrix.getLayoutBounds().getWidth() / 2);
         dotMatrix.setTranslateY(-dotMatrix.getLayoutBounds().getHeight() / 2);
-        dotMatrix.setStyle(matrixShadow);
+        Sunstyle.setStyleClass(dotMatrix, matrixShadow);
         return dotMatrix;
     }
 
@@ -221,7 +219,7 @@ public class ControlThingy extends Group {
         private Color matrixColorOn;
         private String matrixShadow;
         private double matrixScale;
-        private String styleShadow, styleGlow;
+        private String styleClass;
         private Color strokeColorOff, strokeColorOn;
         private Color colorFill;
         private Cursor cursor;
@@ -245,8 +243,7 @@ public class ControlThingy extends Group {
             this.matrixColorOn = Color.WHITE;
             this.matrixShadow = Sunconfig.MATRIX_SHADOW;
             this.matrixScale = Sunconfig.MATRIX_CONTROLTHINGY_SCALE;
-            this.styleShadow = Sunconfig.CONTROL_THINGY_SHADOW;
-            this.styleGlow = Sunconfig.CONTROL_THINGY_GLOW;
+            this.styleClass = Sunconfig.CONTROL_THINGY;
             this.strokeColorOff = Sunconfig.Color_Of_ThingyStroke;
             this.strokeColorOn = Sunconfig.Color_Of_ThingyStroke;
             this.cursor = Cursor.DEFAULT;
@@ -307,9 +304,8 @@ public class ControlThingy extends Group {
             return this;
         }
 
-        public PleaseBuildControlThingy style(String styleShadow, String styleGlow) {
-            this.styleShadow = styleShadow;
-            this.styleGlow = styleGlow;
+        public PleaseBuildControlThingy style(String styleClass) {
+            this.styleClass = styleClass;
             return this;
         }
 
@@ -0,0 +1,310 @@
+import javafx.scene.effect.BlendMode;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+public class CycleLook {
+
+    // marker lines and labels
+    private double markerWidth;
+    private double markerLength;
+    private Color markerColor;
+    private String markerShadow;
+    private double horizonScale;
+    private double horizonOffset;
+
+    // main phase arcs
+    private Color arcColor;
+    private double arcFillStop1;
+    private double arcFillStop2;
+    private double arcOpacity;
+    private boolean arcMouseTransparentEh;
+    private boolean overlayMouseTransparentEh;
+    private BlendMode blendMode;
+    private double animationDuration;
+
+    // countdown timer
+    private Color mainColor;
+    private Color lastColor;
+    private String timerStyle;            // style class, :last during the last phase
+    private double timerScale;
+    private double timerOffset;
+
+    // control thingy
+    private Image logo;
+    private double logoScale;
+    private double logoOffsetX;
+    private double logoOffsetY;
+    private double controlAngle;
+    private String helpText;
+
+
+    // Constructor
+    private CycleLook(PleaseBuildCycleLook builder) {
+        this.markerWidth = builder.markerWidth;
+        this.markerLength = builder.markerLength;
+        this.markerColor = builder.markerColor;
+        this.markerShadow = builder.markerShadow;
+        this.horizonScale = builder.horizonScale;
+        this.horizonOffset = builder.horizonOffset;
+        this.arcColor = builder.arcColor;
+        this.arcFillStop1 = builder.arcFillStop1;
+        this.arcFillStop2 = builder.arcFillStop2;
+        this.arcOpacity = builder.arcOpacity;
+        this.arcMouseTransparentEh = builder.arcMouseTransparentEh;
+        this.overlayMouseTransparentEh = builder.overlayMouseTransparentEh;
+        this.blendMode = builder.blendMode;
+        this.animationDuration = builder.animationDuration;
+        this.mainColor = builder.mainColor;
+        this.lastColor = builder.lastColor;
+        this.timerStyle = builder.timerStyle;
+        this.timerScale = builder.timerScale;
+        this.timerOffset = builder.timerOffset;
+        this.logo = builder.logo;
+        this.logoScale = builder.logoScale;
+        this.logoOffsetX = builder.logoOffsetX;
+        this.logoOffsetY = builder.logoOffsetY;
+        this.controlAngle = builder.controlAngle;
+        this.helpText = builder.helpText;
+    }
+
+    // Builder
+    public static class PleaseBuildCycleLook {
+        private double markerWidth;
+        private double markerLength;
+        private Color markerColor;
+        private String markerShadow;
+        private double horizonScale;
+        private double horizonOffset;
+        private Color arcColor;
+        private double arcFillStop1;
+        private double arcFillStop2;
+        private double arcOpacity;
+        private boolean arcMouseTransparentEh;
+        private boolean overlayMouseTransparentEh;
+        private BlendMode blendMode;
+        private double animationDuration;
+        private Color mainColor;
+        private Color lastColor;
+        private String timerStyle;
+        private double timerScale;
+        private double timerOffset;
+        private Image logo;
+        private double logoScale;
+        private double logoOffsetX;
+        private double logoOffsetY;
+        private double controlAngle;
+        private String helpText;
+
+        public PleaseBuildCycleLook() {
+            this.markerWidth = Sunconfig.CETUS_MARKER_WIDTH;
+            this.markerLength = Sunconfig.CETUS_MARKER_LENGTH;
+            this.markerColor = Color.WHITE;
+            this.markerShadow = "";
+            this.horizonScale = Sunconfig.CETUS_HORIZON_SCALE;
+            this.horizonOffset = Sunconfig.CETUS_HORIZON_OFFSET;
+            this.arcColor = Color.WHITE;
+            this.arcFillStop1 = Sunconfig.CETUS_ARC_GRADIENT_STOP1;
+            this.arcFillStop2 = Sunconfig.CETUS_ARC_GRADIENT_STOP2;
+            this.arcOpacity = Sunconfig.CETUS_ARC_OPACITY;
+            this.arcMouseTransparentEh = false;
+            this.overlayMouseTransparentEh = false;
+            this.blendMode = BlendMode.SRC_OVER;
+            this.animationDuration = Sunconfig.CETUS_MARKER_DURATION;
+            this.mainColor = Color.WHITE;
+            this.lastColor = Color.WHITE;
+            this.timerStyle = "";
+            this.timerScale = Sunconfig.CETUS_TIMER_SCALE;
+            this.timerOffset = Sunconfig.CETUS_TIMER_OFFSET;
+            this.logo = null;
+            this.logoScale = 1.0;
+            this.logoOffsetX = 0;
+            this.logoOffsetY = 0;
+            this.controlAngle = Sunconfig.CONTROL_CETUS_ANGLE;
+            this.helpText = "";
+        }
+
+        public PleaseBuildCycleLook marker(double markerWidth, double markerLength, Color markerColor, String markerShadow) {
+            this.markerWidth = markerWidth;
+            this.markerLength = markerLength;
+            this.markerColor = markerColor;
+            this.markerShadow = markerShadow;
+            return this;
+        }
+
+        public PleaseBuildCycleLook horizon(double horizonScale, double horizonOffset) {
+            this.horizonScale = horizonScale;
+            this.horizonOffset = horizonOffset;
+            return this;
+        }
+
+        public PleaseBuildCycleLook arc(Color arcColor, double arcFillStop1, double arcFillStop2, double arcOpacity) {
+            this.arcColor = arcColor;
+            this.arcFillStop1 = arcFillStop1;
+            this.arcFillStop2 = arcFillStop2;
+            this.arcOpacity = arcOpacity;
+            return this;
+        }
+
+        public PleaseBuildCycleLook arcMouseTransparent(boolean arcMouseTransparentEh) {
+            this.arcMouseTransparentEh = arcMouseTransparentEh;
+            return this;
+        }
+
+        public PleaseBuildCycleLook overlayMouseTransparent(boolean overlayMouseTransparentEh) {
+            this.overlayMouseTransparentEh = overlayMouseTransparentEh;
+            return this;
+        }
+
+        public PleaseBuildCycleLook blendMode(BlendMode blendMode) {
+            this.blendMode = blendMode;
+            return this;
+        }
+
+        public PleaseBuildCycleLook animationDuration(double animationDuration) {
+            this.animationDuration = animationDuration;
+            return this;
+        }
+
+        public PleaseBuildCycleLook timerColor(Color mainColor, Color lastColor) {
+            this.mainColor = mainColor;
+            this.lastColor = lastColor;
+            return this;
+        }
+
+        public PleaseBuildCycleLook timerStyle(String timerStyle) {
+            this.timerStyle = timerStyle;
+            return this;
+        }
+
+        public PleaseBuildCycleLook timer(double timerScale, double timerOffset) {
+            this.timerScale = timerScale;
+            this.timerOffset = timerOffset;
+            return this;
+        }
+
+        public PleaseBuildCycleLook logo(Image logo, double logoScale, double logoOffsetX, double logoOffsetY) {
+            this.logo = logo;
+            this.logoScale = logoScale;
+            this.logoOffsetX = logoOffsetX;
+            this.logoOffsetY = logoOffsetY;
+            return this;
+        }
+
+        public PleaseBuildCycleLook controlAngle(double controlAngle) {
+            this.controlAngle = controlAngle;
+            return this;
+        }
+
+        public PleaseBuildCycleLook helpText(String helpText) {
+            this.helpText = helpText;
+            return this;
+        }
+
+        public CycleLook thankYou() {
+            return new CycleLook(this);
+        }
+    }
+
+
+    // Getterers
+    public double getMarkerWidth() {
+        return markerWidth;
+    }
+
+    public double getMarkerLength() {
+        return markerLength;
+    }
+
+    public Color getMarkerColor() {
+        return markerColor;
+    }
+
+    public String getMarkerShadow() {
+        return markerShadow;
+    }
+
+    public double getHorizonScale() {
+        return horizonScale;
+    }
+
+    public double getHorizonOffset() {
+        return horizonOffset;
+    }
+
+    public Color getArcColor() {
+        return arcColor;
+    }
+
+    public double getArcFillStop1() {
+        return arcFillStop1;
+    }
+
+    public double getArcFillStop2() {
+        return arcFillStop2;
+    }
+
+    public double getArcOpacity() {
+        return arcOpacity;
+    }
+
+    public boolean getArcMouseTransparentEh() {
+        return arcMouseTransparentEh;
+    }
+
+    public boolean getOverlayMouseTransparentEh() {
+        return overlayMouseTransparentEh;
+    }
+
+    public BlendMode getBlendMode() {
+        return blendMode;
+    }
+
+    public double getAnimationDuration() {
+        return animationDuration;
+    }
+
+    public Color getMainColor() {
+        return mainColor;
+    }
+
+    public Color getLastColor() {
+        return lastColor;
+    }
+
+    public String getTimerStyle() {
+        return timerStyle;
+    }
+
+    public double getTimerScale() {
+        return timerScale;
+    }
+
+    public double getTimerOffset() {
+        return timerOffset;
+    }
+
+    public Image getLogo() {
+        return logo;
+    }
+
+    public double getLogoScale() {
+        return logoScale;
+    }
+
+    public double getLogoOffsetX() {
+        return logoOffsetX;
+    }
+
+    public double getLogoOffsetY() {
+        return logoOffsetY;
+    }
+
+    public double getControlAngle() {
+        return controlAngle;
+    }
+
+    public String getHelpText() {
+        return helpText;
+    }
+
+}
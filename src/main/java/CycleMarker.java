@@ -0,0 +1,249 @@
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.binding.Bindings;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.Line;
+import javafx.scene.transform.Rotate;
+import javafx.util.Duration;
+
+/**
+ * One main phase on the dial: start and end marker with time labels plus the arc between them.
+ * Instances are handed out by CycleMarkerPool and restyled for whichever cycle provider acquires them.
+ */
+public class CycleMarker {
+
+    private Rotate startRotate;
+    private Rotate endRotate;
+
+    private Line lineStart;
+    private Line lineEnd;
+    private DotMatrix matrixStart;
+    private DotMatrix matrixEnd;
+
+    private Group startHorizonGroup;
+    private Group endHorizonGroup;
+    private Arc arc;
+
+    private Timeline transitionOn;
+    private Timeline transitionOff;
+
+    private double startAngle;
+    private double endAngle;
+
+    private int startLabelMinute = -1;
+    private int endLabelMinute = -1;
+
+    public CycleMarker(Rotate centerRotate) {
+
+        startRotate = centerRotate.clone();
+        endRotate = centerRotate.clone();
+
+        lineStart = new Line();
+        lineStart.setMouseTransparent(true);
+
+        matrixStart = new DotMatrix("00:00", Color.WHITE);
+        matrixStart.setRotate(90d);
+        matrixStart.setMouseTransparent(true);
+
+        startHorizonGroup = new Group(lineStart, matrixStart);
+        startHorizonGroup.getTransforms().add(startRotate);
+
+        lineEnd = new Line();
+        lineEnd.setMouseTransparent(true);
+
+        matrixEnd = new DotMatrix("00:00", Color.WHITE);
+        matrixEnd.setRotate(90d);
+        matrixEnd.setMouseTransparent(true);
+
+        endHorizonGroup = new Group(lineEnd, matrixEnd);
+        endHorizonGroup.getTransforms().add(endRotate);
+
+        arc = new Arc(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sunconfig.CENTER_X - Sunconfig.MARGIN_X, Sunconfig.CENTER_Y - Sunconfig.MARGIN_Y, 90, 0);
+        arc.setType(ArcType.ROUND);
+        arc.setStroke(Sunconfig.Color_Of_Void);
+
+        transitionOn = new Timeline();
+        transitionOn.setCycleCount(1);
+        transitionOn.setAutoReverse(false);
+
+        transitionOff = new Timeline();
+        transitionOff.setCycleCount(1);
+        transitionOff.setAutoReverse(false);
+
+        arc.setOnMouseEntered(event -> {
+            transitionOff.stop();
+            transitionOn.play();
+        });
+        arc.setOnMouseExited(event -> {
+            transitionOn.stop();
+            transitionOff.play();
+        });
+    }
+
+    public void applyLook(CycleLook look) {
+
+        double markerLength = look.getMarkerLength();
+        double animationDuration = look.getAnimationDuration();
+
+        for (Line line : new Line[] {lineStart, lineEnd}) {
+            line.setStartX(Sunconfig.CENTER_X);
+            line.setStartY(markerLength + Sunconfig.MARGIN_Y);
+            line.setEndX(Sunconfig.CENTER_X);
+            line.setEndY(Sunconfig.MARGIN_Y);
+            line.setStroke(look.getMarkerColor());
+            line.setStrokeWidth(look.getMarkerWidth());
+            Sunstyle.setStyleClass(line, look.getMarkerShadow());
+            line.setVisible(true);
+        }
+
+        for (DotMatrix matrix : new DotMatrix[] {matrixStart, matrixEnd}) {
+            matrix.setFill(look.getMarkerColor());
+            matrix.setScaleX(look.getHorizonScale());
+            matrix.setScaleY(look.getHorizonScale());
+            Sunstyle.setStyleClass(matrix, look.getMarkerShadow());
+            matrix.setOpacity(0);
+        }
+
+        matrixStart.setLayoutX(Sunconfig.CENTER_X - matrixStart.getLayoutBounds().getWidth() / 2 - matrixStart.getLayoutBounds().getHeight() / 2);
+        matrixStart.setLayoutY(look.getHorizonOffset());
+
+        matrixEnd.setTranslateX(Sunconfig.CENTER_X - matrixEnd.getLayoutBounds().getWidth() / 2 + matrixEnd.getLayoutBounds().getHeight() / 2);
+        matrixEnd.setTranslateY(look.getHorizonOffset());
+
+        arc.setOpacity(look.getArcOpacity());
+        arc.setMouseTransparent(look.getArcMouseTransparentEh());
+
+        // Animations
+        transitionOn.stop();
+        transitionOff.stop();
+        transitionOn.getKeyFrames().setAll(
+                new KeyFrame(Duration.millis(animationDuration), new KeyValue(matrixStart.opacityProperty(), 1.0, Interpolator.EASE_BOTH)),
+                new KeyFrame(Duration.millis(animationDuration), new KeyValue(matrixEnd.opacityProperty(), 1.0, Interpolator.EASE_BOTH)),
+                new KeyFrame(Duration.millis(animationDuration), new KeyValue(lineStart.startYProperty(), markerLength * 3, Interpolator.EASE_BOTH)),
+                new KeyFrame(Duration.millis(animationDuration), new KeyValue(lineEnd.startYProperty(), markerLength * 3, Interpolator.EASE_BOTH))
+        );
+        transitionOff.getKeyFrames().setAll(
+                new KeyFrame(Duration.millis(animationDuration), new KeyValue(matrixStart.opacityProperty(), 0.0, Interpolator.EASE_BOTH)),
+                new KeyFrame(Duration.millis(animationDuration), new KeyValue(matrixEnd.opacityProperty(), 0.0, Interpolator.EASE_BOTH)),
+                new KeyFrame(Duration.millis(animationDuration), new KeyValue(lineStart.startYProperty(), markerLength + Sunconfig.MARGIN_Y, Interpolator.EASE_BOTH)),
+                new KeyFrame(Duration.millis(animationDuration), new KeyValue(lineEnd.startYProperty(), markerLength + Sunconfig.MARGIN_Y, Interpolator.EASE_BOTH))
+        );
+
+        double arcFillStop1 = look.getArcFillStop1();
+        double arcFillStop2 = look.getArcFillStop2();
+        Color arcColor = look.getArcColor();
+
+        arc.fillProperty().unbind();
+        arc.fillProperty().bind(Bindings.createObjectBinding(() -> {
+            double stop1 = arcFillStop1 - (0.40 * matrixStart.opacityProperty().get());
+            double stop2 = arcFillStop2 - (0.15 * matrixStart.opacityProperty().get());
+            return new RadialGradient(
+                    0, 0,
+                    Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sunconfig.CENTER_Y - Sunconfig.MARGIN_Y,
+                    false,
+                    CycleMethod.NO_CYCLE,
+                    new Stop(stop1, Sunconfig.Color_Of_Void),
+                    new Stop(stop2, arcColor)
+            );
+        }, matrixStart.opacityProperty()));
+    }
+
+    public void reset() {
+        transitionOn.stop();
+        transitionOff.stop();
+        matrixStart.setOpacity(0);
+        matrixEnd.setOpacity(0);
+    }
+
+    public void setCycle(long startMillisOfDay, long endMillisOfDay, boolean startVisibleEh, boolean endVisibleEh) {
+
+        lineStart.setVisible(startVisibleEh);
+        lineEnd.setVisible(endVisibleEh);
+
+        startAngle = Sunutil.getRemainder(Sunutil.getCleanAngle(startMillisOfDay), 360d);
+        endAngle = Sunutil.getRemainder(Sunutil.getCleanAngle(endMillisOfDay), 360d);
+
+        // labels only change once a minute, skip glyph decoding otherwise
+        int startMinute = Sunutil.getRoundedMinuteOfDay(startMillisOfDay);
+        if (startMinute != startLabelMinute) {
+            matrixStart.setString(Sunutil.getShorterTimeString(startMillisOfDay));
+            startLabelMinute = startMinute;
+        }
+
+        int endMinute = Sunutil.getRoundedMinuteOfDay(endMillisOfDay);
+        if (endMinute != endLabelMinute) {
+            matrixEnd.setString(Sunutil.getShorterTimeString(endMillisOfDay));
+            endLabelMinute = endMinute;
+        }
+
+        matrixStart.setRotate((startAngle > 0 && startAngle <= 180) ? 270 : 90);
+        matrixEnd.setRotate((endAngle > 0 && endAngle <= 180) ? 270 : 90);
+    }
+
+    public void setAnimationRate(double rate) {
+        transitionOn.setRate(rate);
+        transitionOff.setRate(rate);
+    }
+
+    public void updateRotations(double nightCompression) {
+
+        double adjustedStartAngle = Sunutil.getNightCompressionAngle(startAngle, nightCompression);
+        double adjustedEndAngle = Sunutil.getNightCompressionAngle(endAngle, nightCompression);
+
+        startRotate.setAngle(adjustedStartAngle);
+        endRotate.setAngle(adjustedEndAngle);
+
+        double length = adjustedStartAngle - adjustedEndAngle;
+        if (length > 0) { length = -1 * ((360 - adjustedStartAngle) + adjustedEndAngle); }
+
+        arc.setStartAngle(90 - adjustedStartAngle);
+        arc.setLength(length);
+    }
+
+
+    // Getterers
+    public Group getStartHorizonGroup() {
+        return startHorizonGroup;
+    }
+
+    public Group getEndHorizonGroup() {
+        return endHorizonGroup;
+    }
+
+    public Arc getArc() {
+        return arc;
+    }
+
+    public Line getLineStart() {
+        return lineStart;
+    }
+
+    public Line getLineEnd() {
+        return lineEnd;
+    }
+
+    public DotMatrix getMatrixStart() {
+        return matrixStart;
+    }
+
+    public DotMatrix getMatrixEnd() {
+        return matrixEnd;
+    }
+
+    public double getStartAngle() {
+        return startAngle;
+    }
+
+    public double getEndAngle() {
+        return endAngle;
+    }
+
+}
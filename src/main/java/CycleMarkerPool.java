@@ -0,0 +1,52 @@
+import javafx.scene.transform.Rotate;
+
+import java.util.ArrayDeque;
+
+/**
+ * Shared pool of cycle markers, all cycle overlays on a dial draw their nodes from here.
+ */
+public class CycleMarkerPool {
+
+    private Rotate centerRotate;
+    private ArrayDeque<CycleMarker> freeMarkers;
+    private int createdCount;
+
+    public CycleMarkerPool(Rotate centerRotate) {
+        this.centerRotate = centerRotate;
+        this.freeMarkers = new ArrayDeque<>();
+        this.createdCount = 0;
+    }
+
+    public CycleMarker acquire(CycleLook look) {
+
+        CycleMarker marker = freeMarkers.pollFirst();
+
+        if (marker == null) {
+            marker = new CycleMarker(centerRotate);
+            createdCount++;
+        }
+
+        marker.applyLook(look);
+
+        return marker;
+    }
+
+    public void release(CycleMarker marker) {
+
+        if (marker == null) { return; }
+
+        marker.reset();
+        freeMarkers.addFirst(marker);
+    }
+
+
+    // Getterers
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public int getFreeCount() {
+        return freeMarkers.size();
+    }
+
+}
@@ -0,0 +1,194 @@
+import javafx.scene.Group;
+import javafx.scene.text.Text;
+
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * Dial overlay for a single cycle provider: main phase arcs with start/end markers, countdown timer and toggle.
+ * Markers exist only for cycles that touch the displayed day, they go back to the shared pool when scrolled out.
+ */
+public class CycleOverlay {
+
+    private static final long DAY_LENGTH = 24 * 60 * 60 * 1000; // ms
+
+    private CycleProvider provider;
+    private CycleLook look;
+    private CycleMarkerPool markerPool;
+
+    private Group overlayGroup;
+    private Group arcGroup;
+    private Group horizonGroup;
+    private ArrayList<CycleMarker> markerList;
+
+    private DotMatrix timer;
+    private final char[] timerChars = new char[Sunformat.TIME_LENGTH_LENGTH];
+    private ControlThingy controlThingy;
+
+    private boolean visibleEh;
+    private boolean animationEh = true;
+
+    public CycleOverlay(CycleProvider provider, CycleLook look, CycleMarkerPool markerPool, Text helpText) {
+
+        this.provider = provider;
+        this.look = look;
+        this.markerPool = markerPool;
+
+        arcGroup = new Group();
+        arcGroup.setBlendMode(look.getBlendMode());
+
+        horizonGroup = new Group();
+
+        overlayGroup = new Group(arcGroup, horizonGroup);
+        overlayGroup.setMouseTransparent(look.getOverlayMouseTransparentEh());
+
+        markerList = new ArrayList<>();
+
+        timer = Suncreator.createCycleTimer(look);
+        timer.setMouseTransparent(true);
+
+        controlThingy = Suncreator.createCycleControlThingy(look, helpText);
+        controlThingy.stateProperty().bind(timer.visibleProperty());
+
+        setVisibleEh(false);
+    }
+
+    public void setCycles(ArrayList<ArrayList<GregorianCalendar>> cycleList, GregorianCalendar calendar, long timeZoneCorrection) {
+
+        if (cycleList == null || cycleList.isEmpty()) { return; }
+
+        long currentDay = floorDiv(calendar.getTimeInMillis(), DAY_LENGTH);
+
+        int markerCount = 0;
+
+        for (ArrayList<GregorianCalendar> cycle : cycleList) {
+
+            long startTime = cycle.get(0).getTimeInMillis() + timeZoneCorrection;
+            long endTime = cycle.get(1).getTimeInMillis() + timeZoneCorrection;
+
+            boolean startVisibleEh = floorDiv(startTime, DAY_LENGTH) == currentDay;
+            boolean endVisibleEh = floorDiv(endTime, DAY_LENGTH) == currentDay;
+
+            if (!startVisibleEh && !endVisibleEh) { continue; }
+
+            // clamp to the displayed day
+            long startMillisOfDay = startVisibleEh ? floorMod(startTime, DAY_LENGTH) : 0;
+            long endMillisOfDay = endVisibleEh ? floorMod(endTime, DAY_LENGTH) : DAY_LENGTH;
+
+            getMarker(markerCount).setCycle(startMillisOfDay, endMillisOfDay, startVisibleEh, endVisibleEh);
+            markerCount++;
+        }
+
+        releaseMarkers(markerCount);
+    }
+
+    private CycleMarker getMarker(int index) {
+
+        if (index < markerList.size()) { return markerList.get(index); }
+
+        CycleMarker marker = markerPool.acquire(look);
+        marker.setAnimationRate(animationEh ? 1 : look.getAnimationDuration());
+
+        arcGroup.getChildren().add(marker.getArc());
+        horizonGroup.getChildren().addAll(marker.getStartHorizonGroup(), marker.getEndHorizonGroup());
+
+        markerList.add(marker);
+
+        return marker;
+    }
+
+    private void releaseMarkers(int keepCount) {
+
+        while (markerList.size() > keepCount) {
+
+            CycleMarker marker = markerList.remove(markerList.size() - 1);
+
+            arcGroup.getChildren().remove(marker.getArc());
+            horizonGroup.getChildren().removeAll(marker.getStartHorizonGroup(), marker.getEndHorizonGroup());
+
+            markerPool.release(marker);
+        }
+    }
+
+    public void updateTimer(ArrayList<ArrayList<GregorianCalendar>> cycleList, GregorianCalendar localTime) {
+
+        if (cycleList == null) { return; }
+
+        long offsetTime = 0;
+
+        int i = 0;
+        while (offsetTime <= 0 && (i / 2) < cycleList.size()) {
+            int cycleIndex = i / 2;
+            int cyclePhase = i % 2;
+            offsetTime = cycleList.get(cycleIndex).get(cyclePhase).getTimeInMillis() - localTime.getTimeInMillis();
+            i++;
+        }
+
+        // drop the leading hour digit, the timer matrix is one character short
+        Sunformat.putTimeLength(timerChars, 0, offsetTime / 1000d);
+        timer.setChars(timerChars, 1, timerChars.length - 1);
+
+        boolean lastPhaseEh = (i % 2 != 0);
+
+        timer.setFill(lastPhaseEh ? look.getLastColor() : look.getMainColor());
+        timer.pseudoClassStateChanged(Sunstyle.LAST, lastPhaseEh);
+    }
+
+    public void updateMarkers(double nightCompression) {
+        for (CycleMarker marker : markerList) {
+            marker.updateRotations(nightCompression);
+        }
+    }
+
+    public void setAnimation(boolean animationEh) {
+        this.animationEh = animationEh;
+        double rate = animationEh ? 1 : look.getAnimationDuration();
+        for (CycleMarker marker : markerList) {
+            marker.setAnimationRate(rate);
+        }
+    }
+
+    public void setVisibleEh(boolean visibleEh) {
+        this.visibleEh = visibleEh;
+        overlayGroup.setVisible(visibleEh);
+        timer.setVisible(visibleEh);
+    }
+
+    public void dispose() {
+        releaseMarkers(0);
+    }
+
+
+    // Getterers
+    public CycleProvider getProvider() {
+        return provider;
+    }
+
+    public CycleLook getLook() {
+        return look;
+    }
+
+    public Group getOverlayGroup() {
+        return overlayGroup;
+    }
+
+    public DotMatrix getTimer() {
+        return timer;
+    }
+
+    public ControlThingy getControlThingy() {
+        return controlThingy;
+    }
+
+    public boolean getVisibleEh() {
+        return visibleEh;
+    }
+
+    public int getMarkerCount() {
+        return markerList.size();
+    }
+
+}
@@ -0,0 +1,49 @@
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+
+/**
+ * Source of a periodic two-phase cycle that can be drawn on the dial.
+ * Cycle list entries are [mainPhaseStart, mainPhaseEnd], the rest of each cycle is the last phase.
+ */
+public interface CycleProvider {
+
+    String getCode();
+
+    String getFullName();
+
+    String getMainPhaseName();
+
+    String getLastPhaseName();
+
+    long getMainPhaseLength();
+
+    long getLastPhaseLength();
+
+    default long getCycleLength() {
+        return getMainPhaseLength() + getLastPhaseLength();
+    }
+
+    ArrayList<ArrayList<GregorianCalendar>> getCycleList(GregorianCalendar date);
+
+    void requestNewData();
+
+    boolean dataExpiredEh();
+
+    boolean getStatusOkEh();
+
+    boolean getTimedOutEh();
+
+    long getExpiryMillis();
+
+    long getDataExpiryMillis();
+
+    String getResult();
+
+    String getShortResult();
+
+    int getReloadCounter();
+
+    HashMap<String, String> getDataMap();
+
+}
@@ -0,0 +1,48 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+public class CycleProviderRegistry {
+
+    private LinkedHashMap<String, CycleProvider> providerMap;
+    private LinkedHashMap<String, CycleLook> lookMap;
+
+    public CycleProviderRegistry() {
+        providerMap = new LinkedHashMap<>();
+        lookMap = new LinkedHashMap<>();
+    }
+
+    public void register(CycleProvider provider, CycleLook look) {
+
+        if (provider == null || look == null) { return; }
+
+        providerMap.put(provider.getCode(), provider);
+        lookMap.put(provider.getCode(), look);
+    }
+
+    public void unregister(CycleProvider provider) {
+
+        if (provider == null) { return; }
+
+        providerMap.remove(provider.getCode());
+        lookMap.remove(provider.getCode());
+    }
+
+
+    // Getterers
+    public ArrayList<CycleProvider> getProviders() {
+        return new ArrayList<>(providerMap.values());
+    }
+
+    public CycleProvider getProvider(String code) {
+        return providerMap.get(code);
+    }
+
+    public CycleLook getLook(CycleProvider provider) {
+        return lookMap.get(provider.getCode());
+    }
+
+    public int size() {
+        return providerMap.size();
+    }
+
+}
@@ -0,0 +1,194 @@
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Keeps cycle provider data fresh in the background.
+ * Each provider is refreshed shortly before its data expires. Failed requests back off exponentially with jitter,
+ * and repeated connection timeouts open a circuit breaker that pauses the provider for a while. After that one
+ * probe request goes out, if it fails as well the breaker opens again right away.
+ * Changes are handed to the publish executor (the FX thread) only when the cycle data actually changed.
+ */
+public class CycleRefreshScheduler {
+
+    private static final long REFRESH_LEAD = 30 * 1000;                     // ms before expiry
+    private static final long MIN_REFRESH_DELAY = 30 * 1000;                // ms
+    private static final long BACKOFF_BASE = 15 * 1000;                     // ms
+    private static final long BACKOFF_MAX = 30 * 60 * 1000;                 // ms
+    private static final double BACKOFF_JITTER = 0.5;                       // +/- 50%
+    private static final int CIRCUIT_BREAKER_THRESHOLD = 3;                 // consecutive timeouts
+    private static final long CIRCUIT_BREAKER_OPEN_DURATION = 60 * 60 * 1000; // ms
+
+    private class ProviderState {
+        int failures = 0;
+        int timeouts = 0;
+        boolean circuitOpenEh = false;
+        boolean probeEh = false;
+        long lastExpiryMillis = Long.MIN_VALUE;
+        boolean lastStatusOkEh = false;
+        long lastRefreshDuration = 0;
+        ScheduledFuture<?> future;
+    }
+
+    private CycleProviderRegistry registry;
+    private Executor publishExecutor;
+    private Consumer<CycleProvider> changeListener;
+
+    private ScheduledExecutorService scheduler;
+    private HashMap<String, ProviderState> stateMap;
+    private Random random;
+
+    public CycleRefreshScheduler(CycleProviderRegistry registry, Executor publishExecutor, Consumer<CycleProvider> changeListener) {
+
+        this.registry = registry;
+        this.publishExecutor = publishExecutor;
+        this.changeListener = changeListener;
+
+        this.stateMap = new HashMap<>();
+        this.random = new Random();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cycle-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        for (CycleProvider provider : registry.getProviders()) {
+            schedule(provider, 0);
+        }
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private synchronized void schedule(CycleProvider provider, long delay) {
+
+        if (scheduler.isShutdown()) { return; }
+
+        ProviderState state = stateMap.computeIfAbsent(provider.getCode(), code -> new ProviderState());
+
+        if (state.future != null) { state.future.cancel(false); }
+
+        state.future = scheduler.schedule(() -> refresh(provider), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh(CycleProvider provider) {
+
+        ProviderState state;
+
+        synchronized (this) {
+            state = stateMap.get(provider.getCode());
+
+            // the breaker half-opens: this request is the probe
+            if (state.circuitOpenEh) {
+                state.circuitOpenEh = false;
+                state.probeEh = true;
+            }
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            provider.requestNewData();
+        } catch (RuntimeException e) {
+            // keep the schedule alive, a broken response is just another failure
+        }
+        long refreshDuration = (System.nanoTime() - startTime) / 1000000;
+        Sunrecorder.record(Sunrecorder.CYCLE_REFRESH, startTime);
+
+        long delay;
+        boolean changedEh;
+
+        // state is read by the getters from the JMX threads, so it's written under the same lock
+        synchronized (this) {
+
+            state.lastRefreshDuration = refreshDuration;
+            delay = updateState(provider, state);
+
+            changedEh = provider.getStatusOkEh() != state.lastStatusOkEh
+                    || provider.getExpiryMillis() != state.lastExpiryMillis;
+
+            state.lastStatusOkEh = provider.getStatusOkEh();
+            state.lastExpiryMillis = provider.getExpiryMillis();
+        }
+
+        if (changedEh) {
+            publishExecutor.execute(() -> changeListener.accept(provider));
+        }
+
+        schedule(provider, max(delay, MIN_REFRESH_DELAY));
+    }
+
+    /**
+     * Counts the outcome of a refresh and returns the delay until the next one. Called holding the lock.
+     */
+    private long updateState(CycleProvider provider, ProviderState state) {
+
+        long delay;
+
+        if (provider.getStatusOkEh()) {
+
+            state.failures = 0;
+            state.timeouts = 0;
+            state.probeEh = false;
+
+            long nextExpiry = min(provider.getExpiryMillis(), provider.getDataExpiryMillis());
+            delay = nextExpiry - System.currentTimeMillis() - REFRESH_LEAD;
+
+        } else {
+
+            state.failures++;
+            state.timeouts = provider.getTimedOutEh() ? state.timeouts + 1 : 0;
+
+            if (state.probeEh || state.timeouts >= CIRCUIT_BREAKER_THRESHOLD) {
+                // stop hammering an unreachable server, try again once the breaker half-opens
+                state.circuitOpenEh = true;
+                state.probeEh = false;
+                state.timeouts = 0;
+                delay = CIRCUIT_BREAKER_OPEN_DURATION;
+            } else {
+                delay = getBackoffDelay(state.failures);
+            }
+        }
+
+        return delay;
+    }
+
+    private long getBackoffDelay(int failures) {
+
+        long backoff = BACKOFF_BASE << min(failures - 1, 16);
+        backoff = min(backoff, BACKOFF_MAX);
+
+        double jitter = 1.0 + BACKOFF_JITTER * (2 * random.nextDouble() - 1);
+
+        return (long) (backoff * jitter);
+    }
+
+
+    // Getterers
+    public synchronized boolean getCircuitOpenEh(CycleProvider provider) {
+        ProviderState state = stateMap.get(provider.getCode());
+        return state != null && state.circuitOpenEh;
+    }
+
+    public synchronized int getFailureCount(CycleProvider provider) {
+        ProviderState state = stateMap.get(provider.getCode());
+        return (state == null) ? 0 : state.failures;
+    }
+
+    public synchronized long getLastRefreshDuration(CycleProvider provider) {
+        ProviderState state = stateMap.get(provider.getCode());
+        return (state == null) ? 0 : state.lastRefreshDuration;
+    }
+
+}
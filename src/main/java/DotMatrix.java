@@ -5,6 +5,8 @@ import javafx.scene.paint.Paint;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 
+import static java.lang.Math.min;
+
 /**
  *
  * @author Miro
@@ -58,7 +60,11 @@ public class DotMatrix extends Group {
     final private static long MATRIX_DEGREE =      0b00000_00000_00000_01100_10010_10010_01100L;
     final private static long MATRIX_HASH =        0b01010_01010_11111_01010_11111_01010_01010L;
 
+    // glyphs redrawn by all matrices, FX thread only, for profiling
+    private static long glyphWriteCount = 0;
+
     private Circle[][][] dots;
+    private char[] shownChars;
     private String string;
     private Group stringGroup;
     private Paint dotPaint;
@@ -113,6 +119,7 @@ public class DotMatrix extends Group {
         if (stringSize > MAX_CHARS) { string = string.substring(0, MAX_CHARS - 1); }
 
         dots = new Circle[stringSize][MATRIX_ROWS][MATRIX_COLUMNS];
+        shownChars = new char[stringSize];
 
         for (int index = 0; index < stringSize; index++) {
             char regularChar = string.charAt(index);
@@ -132,6 +139,10 @@ public class DotMatrix extends Group {
     }
 
     // methods
+    public static long getGlyphWriteCount() {
+        return glyphWriteCount;
+    }
+
     public void setString(String s) {
 
         if (s == null) { return; }
@@ -140,67 +151,93 @@ public class DotMatrix extends Group {
 
         int stringSize = s.length();
         for (int index = 0; index < stringSize; index++) {
+            setChar(index, s.charAt(index));
+        }
+    }
 
-            char regularChar = s.charAt(index);
-
-            long charCode;
-
-            switch(regularChar) {
-                case '0': charCode = MATRIX_0; break;
-                case '1': charCode = MATRIX_1; break;
-                case '2': charCode = MATRIX_2; break;
-                case '3': charCode = MATRIX_3; break;
-                case '4': charCode = MATRIX_4; break;
-                case '5': charCode = MATRIX_5; break;
-                case '6': charCode = MATRIX_6; break;
-                case '7': charCode = MATRIX_7; break;
-                case '8': charCode = MATRIX_8; break;
-                case '9': charCode = MATRIX_9; break;
-                case 'h': charCode = MATRIX_h; break;
-                case 'm': charCode = MATRIX_m; break;
-                case 's': charCode = MATRIX_s; break;
-                case 'N': charCode = MATRIX_N; break;
-                case 'E': charCode = MATRIX_E; break;
-                case 'W': charCode = MATRIX_W; break;
-                case 'S': charCode = MATRIX_S; break;
-                case 'G': charCode = MATRIX_G; break;
-                case 'M': charCode = MATRIX_M; break;
-                case 'T': charCode = MATRIX_T; break;
-                case 'D': charCode = MATRIX_D; break;
-                case 'U': charCode = MATRIX_U; break;
-                case 'C': charCode = MATRIX_C; break;
-                case 'L': charCode = MATRIX_L; break;
-                case 'Y': charCode = MATRIX_Y; break;
-                case 'A': charCode = MATRIX_A; break;
-                case 'I': charCode = MATRIX_I; break;
-                case ' ': charCode = MATRIX_SPACE; break;
-                case '-': charCode = MATRIX_MINUS; break;
-                case '+': charCode = MATRIX_PLUS; break;
-                case ':': charCode = MATRIX_COLON; break;
-                case '.': charCode = MATRIX_DOT; break;
-                case '?': charCode = MATRIX_QUESTION; break;
-                case '^': charCode = MATRIX_DEGREE; break;
-                case '#': charCode = MATRIX_HASH; break;
-                default : charCode = MATRIX_UNKNOWN; break;
-            }
+    /**
+     * Same as setString without needing a String, for callers that format into a reused buffer.
+     */
+    public void setChars(char[] chars, int offset, int length) {
+
+        int size = min(length, dots.length);
+        for (int index = 0; index < size; index++) {
+            setChar(index, chars[offset + index]);
+        }
+    }
 
-            for (int dy = 0; dy < MATRIX_ROWS; dy++) {
-                for (int dx = 0; dx < MATRIX_COLUMNS; dx++) {
+    private void setChar(int index, char regularChar) {
 
-                    Circle dot = dots[index][dy][dx];
+        // most ticks only change the last digit, leave the other glyphs alone
+        if (shownChars[index] == regularChar) { return; }
+        shownChars[index] = regularChar;
 
-                    if ((charCode & bitMask) != 0) {
-                        dot.setVisible(true);
-                    } else {
-                        dot.setVisible(false);
-                    }
+        glyphWriteCount++;
 
-                    charCode <<= 1;
+        long charCode = getCharCode(regularChar);
+
+        for (int dy = 0; dy < MATRIX_ROWS; dy++) {
+            for (int dx = 0; dx < MATRIX_COLUMNS; dx++) {
+
+                Circle dot = dots[index][dy][dx];
+
+                if ((charCode & bitMask) != 0) {
+                    dot.setVisible(true);
+                } else {
+                    dot.setVisible(false);
                 }
+
+                charCode <<= 1;
             }
         }
     }
 
+    private static long getCharCode(char regularChar) {
+
+        long charCode;
+
+        switch(regularChar) {
+            case '0': charCode = MATRIX_0; break;
+            case '1': charCode = MATRIX_1; break;
+            case '2': charCode = MATRIX_2; break;
+            case '3': charCode = MATRIX_3; break;
+            case '4': charCode = MATRIX_4; break;
+            case '5': charCode = MATRIX_5; break;
+            case '6': charCode = MATRIX_6; break;
+            case '7': charCode = MATRIX_7; break;
+            case '8': charCode = MATRIX_8; break;
+            case '9': charCode = MATRIX_9; break;
+            case 'h': charCode = MATRIX_h; break;
+            case 'm': charCode = MATRIX_m; break;
+            case 's': charCode = MATRIX_s; break;
+            case 'N': charCode = MATRIX_N; break;
+            case 'E': charCode = MATRIX_E; break;
+            case 'W': charCode = MATRIX_W; break;
+            case 'S': charCode = MATRIX_S; break;
+            case 'G': charCode = MATRIX_G; break;
+            case 'M': charCode = MATRIX_M; break;
+            case 'T': charCode = MATRIX_T; break;
+            case 'D': charCode = MATRIX_D; break;
+            case 'U': charCode = MATRIX_U; break;
+            case 'C': charCode = MATRIX_C; break;
+            case 'L': charCode = MATRIX_L; break;
+            case 'Y': charCode = MATRIX_Y; break;
+            case 'A': charCode = MATRIX_A; break;
+            case 'I': charCode = MATRIX_I; break;
+            case ' ': charCode = MATRIX_SPACE; break;
+            case '-': charCode = MATRIX_MINUS; break;
+            case '+': charCode = MATRIX_PLUS; break;
+            case ':': charCode = MATRIX_COLON; break;
+            case '.': charCode = MATRIX_DOT; break;
+            case '?': charCode = MATRIX_QUESTION; break;
+            case '^': charCode = MATRIX_DEGREE; break;
+            case '#': charCode = MATRIX_HASH; break;
+            default : charCode = MATRIX_UNKNOWN; break;
+        }
+
+        return charCode;
+    }
+
     public void setFill(Paint dotPaint) {
         this.dotPaint = dotPaint;
 
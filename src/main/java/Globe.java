@@ -62,7 +62,7 @@ public class Globe extends Group {
     private DoubleProperty lightScale;
 
     public Globe(double radius) {
-        this(Sunconfig.GLOBE_DAY_IMAGE, radius, DEFAULT_ANIMATION_DURATION);
+        this(Sunresources.getGlobeDayImage(), radius, DEFAULT_ANIMATION_DURATION);
     }
 
     public Globe(Image dayDiffuseMap, double radius, int animationDuration) {
@@ -6,6 +6,8 @@ import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -13,7 +15,7 @@ import java.util.regex.Pattern;
 import static java.lang.Math.abs;
 import static java.lang.Math.ceil;
 
-public class KriegsrahmenZeit {
+public class KriegsrahmenZeit implements CycleProvider {
 
     public enum Platform {
 
@@ -40,6 +42,8 @@ public class KriegsrahmenZeit {
                 "cetusCycle",
                 50 * 60 * 1000,        // 50 minutes (NIGHT)
                 100 * 60 * 1000,       // 100 minutes (DAY)
+                "night",
+                "day",
                 "isDay",
                 "expiry",
                 true
@@ -50,6 +54,8 @@ public class KriegsrahmenZeit {
                 "vallisCycle",
                 (6 * 60 + 40) * 1000,    // 6 minutes and 40 seconds (WARM)
                 20 * 60 * 1000,        // 20 minutes (COLD)
+                "warm",
+                "cold",
                 "isWarm",
                 "expiry",
                 false
@@ -59,6 +65,8 @@ public class KriegsrahmenZeit {
         private String code;
         private int mainPhaseLength;
         private int lastPhaseLength;
+        private String mainPhaseName;
+        private String lastPhaseName;
         private String mainPhaseKeyword;
         private String expiryKeyword;
         private boolean flipMainPhase;
@@ -68,6 +76,8 @@ public class KriegsrahmenZeit {
                 String code,
                 int mainPhaseLength,
                 int lastPhaseLength,
+                String mainPhaseName,
+                String lastPhaseName,
                 String mainPhaseKeyword,
                 String expiryKeyword,
                 boolean flipMainPhase
@@ -76,6 +86,8 @@ public class KriegsrahmenZeit {
             this.code = code;
             this.mainPhaseLength = mainPhaseLength;
             this.lastPhaseLength = lastPhaseLength;
+            this.mainPhaseName = mainPhaseName;
+            this.lastPhaseName = lastPhaseName;
             this.mainPhaseKeyword = mainPhaseKeyword;
             this.expiryKeyword = expiryKeyword;
             this.flipMainPhase = flipMainPhase;
@@ -97,6 +109,14 @@ public class KriegsrahmenZeit {
             return this.lastPhaseLength;
         }
 
+        public String getMainPhaseName() {
+            return this.mainPhaseName;
+        }
+
+        public String getLastPhaseName() {
+            return this.lastPhaseName;
+        }
+
         public String getMainPhaseKeyword() {
             return this.mainPhaseKeyword;
         }
@@ -131,16 +151,22 @@ public class KriegsrahmenZeit {
     private GregorianCalendar expiry;
 
     private GregorianCalendar lastUpdateDate;
+    // wall clock, the refresh schedule doesn't follow a simulated clock
+    private long lastUpdateMillis;
 
-    private boolean statusOkEh;
+    private volatile boolean statusOkEh;
     private boolean expiredEh;
+    private volatile boolean timedOutEh;
 
-    private int reloadCounter;
+    private volatile int reloadCounter;
 
     private String result;
     private String shortResult;
 
     private String fullName;
+    private String code;
+    private String mainPhaseName;
+    private String lastPhaseName;
     private String url;
     private long mainPhaseLength;
     private long lastPhaseLength;
@@ -150,9 +176,20 @@ public class KriegsrahmenZeit {
     private String expiryKeyword;
     private boolean flipMainPhase;
 
+    private Clock clock;
+
     public KriegsrahmenZeit(Platform platform, Location location) {
+        this(platform, location, Sunclock.real());
+    }
+
+    public KriegsrahmenZeit(Platform platform, Location location, Clock clock) {
+
+        this.clock = clock;
 
         fullName = location.getFullName();
+        code = location.getCode();
+        mainPhaseName = location.getMainPhaseName();
+        lastPhaseName = location.getLastPhaseName();
         url = WARFRAME_API_URL + "/" + platform.getCode() + "/" + location.getCode();
         mainPhaseLength = location.getMainPhaseLength(); // ms
         lastPhaseLength = location.getLastPhaseLength(); // ms
@@ -164,9 +201,11 @@ public class KriegsrahmenZeit {
 
         statusOkEh = false;
         expiredEh = true;
+        timedOutEh = false;
         result = "unknown";
 
-        lastUpdateDate = new GregorianCalendar();
+        lastUpdateDate = Sunclock.now(clock);
+        lastUpdateMillis = System.currentTimeMillis();
 
         reloadCounter = 0;
 
@@ -176,47 +215,79 @@ public class KriegsrahmenZeit {
         expiry = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
     }
 
+    @Override
     public void requestNewData() {
 
+        Sunevents.CycleRequestEvent requestEvent = Sunevents.JFR_EH ? new Sunevents.CycleRequestEvent() : null;
+        if (requestEvent != null) { requestEvent.begin(); }
+
+        String data = null;
+
+        // network round trip happens outside the lock so readers on the FX thread never wait on a timeout
         try {
 
             URL url = new URL(this.url);
             HttpsURLConnection connection = (HttpsURLConnection) url.openConnection();
             connection.setRequestProperty(REQUEST_PROPERTY_KEY, REQUEST_PROPERTY_VALUE);
             connection.setConnectTimeout(CONNECTION_TIMEOUT);
+            connection.setReadTimeout(CONNECTION_TIMEOUT);
             connection.connect();
 
-            String data = readContent(connection);
+            data = readContent(connection);
 
-            dataMap = parseData(data);
-            mainPhaseEh = dataMap.get(mainPhaseKeyword).equals("true");
-            expiry = parseDate(dataMap.get(expiryKeyword), expiry.getTimeZone());
+            HashMap<String, String> newDataMap = parseData(data);
+            boolean newMainPhaseEh = "true".equals(newDataMap.get(mainPhaseKeyword));
+            GregorianCalendar newExpiry = parseDate(newDataMap.get(expiryKeyword), expiry.getTimeZone());
 
-            lastUpdateDate = new GregorianCalendar();
+            synchronized (this) {
+                dataMap = newDataMap;
+                mainPhaseEh = newMainPhaseEh;
+                expiry = newExpiry;
 
-            statusOkEh = true;
-            expiredEh = false;
-            result = "Success";
-            shortResult = "Sync with " + fullName + " complete.";
+                lastUpdateDate = Sunclock.now(clock);
+                lastUpdateMillis = System.currentTimeMillis();
 
-            reloadCounter++;
+                statusOkEh = true;
+                expiredEh = false;
+                timedOutEh = false;
+                result = "Success";
+                shortResult = "Sync with " + fullName + " complete.";
+
+                reloadCounter++;
+            }
 
         } catch (SocketTimeoutException e) {
-            statusOkEh = false;
-            result = "failed with SocketTimeoutException: " + e.getMessage();
-            shortResult = "Connection Timed Out after " + (CONNECTION_TIMEOUT / 1000) + "s";
+            setFailure(true, "failed with SocketTimeoutException: " + e.getMessage(), "Connection Timed Out after " + (CONNECTION_TIMEOUT / 1000) + "s");
         } catch (MalformedURLException e) {
-            statusOkEh = false;
-            result = "failed with MalformedURLException: " + e.getMessage();
-            shortResult = "Borked URL";
+            setFailure(false, "failed with MalformedURLException: " + e.getMessage(), "Borked URL");
         } catch (IOException e) {
-            statusOkEh = false;
-            result = "failed with IOException: " + e.getMessage();
-            shortResult = "Connection Failed";
+            setFailure(false, "failed with IOException: " + e.getMessage(), "Connection Failed");
+        }
+
+        if (requestEvent != null) {
+            requestEvent.end();
+            if (requestEvent.shouldCommit()) {
+                requestEvent.provider = fullName;
+                requestEvent.url = this.url;
+                requestEvent.bytesRead = (data != null) ? data.getBytes(StandardCharsets.UTF_8).length : 0;
+                synchronized (this) {
+                    requestEvent.success = statusOkEh;
+                    requestEvent.timedOut = timedOutEh;
+                }
+                requestEvent.commit();
+            }
         }
     }
 
-    public ArrayList<ArrayList<GregorianCalendar>> getCycleList(GregorianCalendar date) {
+    private synchronized void setFailure(boolean timedOutEh, String result, String shortResult) {
+        this.statusOkEh = false;
+        this.timedOutEh = timedOutEh;
+        this.result = result;
+        this.shortResult = shortResult;
+    }
+
+    @Override
+    public synchronized ArrayList<ArrayList<GregorianCalendar>> getCycleList(GregorianCalendar date) {
 
         ArrayList<ArrayList<GregorianCalendar>> cycleList = new ArrayList<>();
 
@@ -286,6 +357,8 @@ public class KriegsrahmenZeit {
 
         GregorianCalendar calendar = new GregorianCalendar(timeZone);
 
+        if (dateString == null) { return calendar; }
+
         Pattern pattern = Pattern.compile(DATE_REGEX);
         Matcher matcher = pattern.matcher(dateString);
 
@@ -348,9 +421,10 @@ public class KriegsrahmenZeit {
         return content.toString();
     }
 
-    public boolean dataExpiredEh() {
+    @Override
+    public synchronized boolean dataExpiredEh() {
 
-        long curentTimeMs = new GregorianCalendar().getTimeInMillis();
+        long curentTimeMs = clock.millis();
         long lastUpdateTimeMs = lastUpdateDate.getTimeInMillis();
 
         if (abs(curentTimeMs - lastUpdateTimeMs) > DATA_EXPIRY_TIMEOUT) {
@@ -362,22 +436,77 @@ public class KriegsrahmenZeit {
 
 
     // Gettttterers
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getFullName() {
+        return fullName;
+    }
+
+    @Override
+    public String getMainPhaseName() {
+        return mainPhaseName;
+    }
+
+    @Override
+    public String getLastPhaseName() {
+        return lastPhaseName;
+    }
+
+    @Override
+    public long getMainPhaseLength() {
+        return mainPhaseLength;
+    }
+
+    @Override
+    public long getLastPhaseLength() {
+        return lastPhaseLength;
+    }
+
+    @Override
+    public long getCycleLength() {
+        return cycleLength;
+    }
+
+    @Override
     public boolean getStatusOkEh() {
         return statusOkEh;
     }
 
-    public String getResult() {
+    @Override
+    public boolean getTimedOutEh() {
+        return timedOutEh;
+    }
+
+    @Override
+    public synchronized long getExpiryMillis() {
+        return expiry.getTimeInMillis();
+    }
+
+    @Override
+    public synchronized long getDataExpiryMillis() {
+        return lastUpdateMillis + DATA_EXPIRY_TIMEOUT;
+    }
+
+    @Override
+    public synchronized String getResult() {
         return result;
     }
 
-    public String getShortResult() {
+    @Override
+    public synchronized String getShortResult() {
         return shortResult;
     }
 
-    public HashMap<String, String> getDataMap() {
+    @Override
+    public synchronized HashMap<String, String> getDataMap() {
         return dataMap;
     }
 
+    @Override
     public int getReloadCounter() {
         return reloadCounter;
     }
@@ -386,7 +515,7 @@ public class KriegsrahmenZeit {
         return mainPhaseEh;
     }
 
-    public GregorianCalendar getExpiry() {
+    public synchronized GregorianCalendar getExpiry() {
         return expiry;
     }
 
@@ -177,33 +177,33 @@ public class SunHighNoon extends Group {
     }
 
 
-    public void setArcLook(Color color, double width, String style, BlendMode blendMode) {
+    public void setArcLook(Color color, double width, String styleClass, BlendMode blendMode) {
         arc.setStroke(color);
         arc.setStrokeWidth(width);
-        arc.setStyle(style);
+        Sunstyle.setStyleClass(arc, styleClass);
         arc.setBlendMode(blendMode);
     }
 
-    public void setHorizonLook(Color color, double width, String style) {
+    public void setHorizonLook(Color color, double width, String styleClass) {
         horizonLine.setStroke(color);
         horizonLine.setStrokeWidth(width);
-        horizonLine.setStyle(style);
+        Sunstyle.setStyleClass(horizonLine, styleClass);
     }
 
-    public void setSunLineLook(Color color, double width, String style, BlendMode blendMode) {
+    public void setSunLineLook(Color color, double width, String styleClass, BlendMode blendMode) {
         sunLine.setStroke(color);
         sunLine.setStrokeWidth(width);
-        sunLine.setStyle(style);
+        Sunstyle.setStyleClass(sunLine, styleClass);
         sunLine.setBlendMode(blendMode);
     }
 
-    public void setSunDotLook(Color color, String style, BlendMode blendMode) {
+    public void setSunDotLook(Color color, String styleClass, BlendMode blendMode) {
         sunDot.setFill(color);
-        sunDot.setStyle(style);
+        Sunstyle.setStyleClass(sunDot, styleClass);
         sunDot.setBlendMode(blendMode);
     }
 
-    public void setMarkerLook(Color color, double width, String style) {
+    public void setMarkerLook(Color color, double width, String styleClass) {
 
         for (Node node : markerGroup.getChildren()) {
             Line line = (Line) node;
@@ -211,22 +211,22 @@ public class SunHighNoon extends Group {
             line.setStrokeWidth(width);
         }
 
-        markerGroup.setStyle(style);
+        Sunstyle.setStyleClass(markerGroup, styleClass);
     }
 
-    public void setMatrixTimeLook(Color color, String style) {
+    public void setMatrixTimeLook(Color color, String styleClass) {
         matrixTime.setFill(color);
-        matrixTime.setStyle(style);
+        Sunstyle.setStyleClass(matrixTime, styleClass);
     }
 
-    public void setMatrixAngleLook(Color color, String style) {
+    public void setMatrixAngleLook(Color color, String styleClass) {
         matrixAngle.setFill(color);
-        matrixAngle.setStyle(style);
+        Sunstyle.setStyleClass(matrixAngle, styleClass);
     }
 
-    public void setMatrixDayLengthLook(Color color, String style) {
+    public void setMatrixDayLengthLook(Color color, String styleClass) {
         matrixDayLength.setFill(color);
-        matrixDayLength.setStyle(style);
+        Sunstyle.setStyleClass(matrixDayLength, styleClass);
     }
 
     public void toggleDetails() {
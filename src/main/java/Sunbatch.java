@@ -0,0 +1,380 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless batch mode: streams sunrise, sunset, high noon and day length for many sites and days as CSV or JSON.
+ * Runs on plain Suntime, no JavaFX toolkit and no Sunconfig resources get touched.
+ * Work is split into (site, up to a year of days) chunks computed in parallel, output keeps input order and only a
+ * bounded window of chunks is ever held in memory.
+ */
+public class Sunbatch {
+
+    public static final String BATCH_SWITCH = "--batch";
+
+    public static final String BATCH_HELP_TEXT =
+            "Batch mode switches:\n" +
+            " --batch                 : run headless and print a table instead of showing the dial\n" +
+            " -a <value> -b <value>   : single site Longitude and Latitude\n" +
+            " --sites <file|->        : sites file, one 'name;latitude;longitude' or 'latitude;longitude' per line\n" +
+            " --from <yyyy-mm-dd>     : first day (default today)\n" +
+            " --to <yyyy-mm-dd>       : last day (default same as --from)\n" +
+            " --days <value>          : number of days, instead of --to\n" +
+            " -z <value>              : output Timezone offset in hours (default 0)\n" +
+            " --zone <id>             : output Timezone id with DST rules, e.g. Europe/Zagreb\n" +
+            " --format <csv|json>     : output format (default csv)\n" +
+            " --out <file>            : output file (default stdout)\n" +
+            " --threads <value>       : worker threads (default number of cores)\n"
+            ;
+
+    private static final int CHUNK_DAYS = 366;
+    private static final int WINDOW_PER_THREAD = 4;
+    private static final long JULIAN_DAY_NUMBER_OF_EPOCH = 2440588;
+    private static final double JULIAN_DATE_OF_EPOCH = 2440587.5;
+    private static final double MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss", Locale.ROOT);
+    public static final String CSV_HEADER = "site,latitude,longitude,date,sunrise,sunset,highnoon,daylength";
+
+    public enum Format { CSV, JSON }
+
+    private static class Site {
+        String name;
+        double longitude;
+        double latitude;
+
+        Site(String name, double longitude, double latitude) {
+            this.name = name;
+            this.longitude = longitude;
+            this.latitude = latitude;
+        }
+    }
+
+    private Double longitude = null;
+    private Double latitude = null;
+    private String sitesFile = null;
+    private LocalDate from = null;
+    private LocalDate to = null;
+    private Long days = null;
+    private ZoneId zone = ZoneOffset.UTC;
+    private Format format = Format.CSV;
+    private String outFile = null;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    public static boolean batchEh(String[] args) {
+        for (String arg : args) {
+            if (BATCH_SWITCH.equalsIgnoreCase(arg)) { return true; }
+        }
+        return false;
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) {
+
+        Sunbatch sunbatch = new Sunbatch();
+
+        try {
+            sunbatch.parseInput(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(BATCH_HELP_TEXT);
+            return 1;
+        }
+
+        try {
+            sunbatch.execute();
+        } catch (IOException e) {
+            System.err.println("Batch failed: " + e.getMessage());
+            return 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 2;
+        }
+
+        return 0;
+    }
+
+    private void parseInput(String[] args) {
+
+        for (int i = 0; i < args.length; i++) {
+
+            String param = args[i].toLowerCase(Locale.ROOT);
+            if (param.equals(BATCH_SWITCH)) { continue; }
+
+            if (i + 1 >= args.length) { throw new IllegalArgumentException("Missing value for " + args[i]); }
+            String value = args[++i];
+
+            try {
+                switch (param) {
+                    case "-a" : longitude = parseCoordinate(value, Suntime.MIN_LONGITUDE, Suntime.MAX_LONGITUDE); break;
+                    case "-b" : latitude = parseCoordinate(value, Suntime.MIN_LATITUDE, Suntime.MAX_LATITUDE); break;
+                    case "--sites" : sitesFile = value; break;
+                    case "--from" : from = LocalDate.parse(value); break;
+                    case "--to" : to = LocalDate.parse(value); break;
+                    case "--days" : days = Long.parseLong(value); break;
+                    case "-z" : zone = ZoneOffset.ofTotalSeconds((int) (Double.parseDouble(value) * 60 * 60)); break;
+                    case "--zone" : zone = ZoneId.of(value); break;
+                    case "--format" : format = Format.valueOf(value.toUpperCase(Locale.ROOT)); break;
+                    case "--out" : outFile = value; break;
+                    case "--threads" : threads = Integer.parseInt(value); break;
+                    default: throw new IllegalArgumentException("Unknown switch " + args[i - 1]);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Bad value for " + args[i - 1] + ": " + value);
+            } catch (java.time.DateTimeException e) {
+                throw new IllegalArgumentException("Bad timezone: " + value);
+            }
+        }
+
+        if (sitesFile == null && (longitude == null || latitude == null)) {
+            throw new IllegalArgumentException("Need either --sites or both -a and -b");
+        }
+
+        if (from == null) { from = LocalDate.now(zone); }
+        if (days != null) { to = from.plusDays(days - 1); }
+        if (to == null) { to = from; }
+        if (to.isBefore(from)) { throw new IllegalArgumentException("--to is before --from"); }
+        if (threads < 1) { threads = 1; }
+    }
+
+    private void execute() throws IOException, InterruptedException {
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "sunbatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ArrayDeque<Future<String>> window = new ArrayDeque<>();
+        int windowSize = threads * WINDOW_PER_THREAD;
+
+        try (Writer writer = openWriter(); BufferedReader sites = openSites()) {
+
+            writer.write(format == Format.CSV ? CSV_HEADER + "\n" : "[\n");
+
+            boolean firstChunkEh = true;
+            Site site;
+
+            while ((site = nextSite(sites)) != null) {
+
+                for (LocalDate chunkStart = from; !chunkStart.isAfter(to); chunkStart = chunkStart.plusDays(CHUNK_DAYS)) {
+
+                    LocalDate chunkEnd = chunkStart.plusDays(CHUNK_DAYS - 1);
+                    if (chunkEnd.isAfter(to)) { chunkEnd = to; }
+
+                    final Site chunkSite = site;
+                    final LocalDate start = chunkStart;
+                    final LocalDate end = chunkEnd;
+                    window.add(executorService.submit(() -> computeChunk(chunkSite, start, end)));
+
+                    // keep memory bounded, the oldest chunk has to be written before more work is queued
+                    if (window.size() >= windowSize) {
+                        firstChunkEh = writeChunk(writer, window.poll(), firstChunkEh);
+                    }
+                }
+            }
+
+            while (!window.isEmpty()) {
+                firstChunkEh = writeChunk(writer, window.poll(), firstChunkEh);
+            }
+
+            if (format == Format.JSON) { writer.write("\n]\n"); }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private boolean writeChunk(Writer writer, Future<String> chunk, boolean firstChunkEh) throws IOException, InterruptedException {
+
+        String rows;
+        try {
+            rows = chunk.get();
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        if (rows.isEmpty()) { return firstChunkEh; }
+
+        if (format == Format.JSON && !firstChunkEh) { writer.write(",\n"); }
+        writer.write(rows);
+
+        return false;
+    }
+
+    private String computeChunk(Site site, LocalDate start, LocalDate end) {
+        StringBuilder rows = new StringBuilder();
+        appendRows(rows, site.name, site.longitude, site.latitude, start, end, format, zone);
+        return rows.toString();
+    }
+
+    /**
+     * Appends one row per day from start to end inclusive. JSON rows are objects separated by ",\n",
+     * without the enclosing array brackets.
+     */
+    public static void appendRows(StringBuilder rows, String siteName, double longitude, double latitude,
+                                  LocalDate start, LocalDate end, Format format, ZoneId zone) {
+
+        long firstJulianDayNumber = start.toEpochDay() + JULIAN_DAY_NUMBER_OF_EPOCH;
+
+        Suntime suntime = new Suntime.PleaseBuildSuntime()
+                .julianDayNumber(firstJulianDayNumber)
+                .observerLongitude(longitude)
+                .observerLatitude(latitude)
+                .thankYou();
+
+        String name = (format == Format.CSV) ? escapeCsv(siteName) : escapeJson(siteName);
+        int rowsStart = rows.length();
+
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+
+            suntime.setJulianDayNumber(date.toEpochDay() + JULIAN_DAY_NUMBER_OF_EPOCH);
+
+            double sunrise = suntime.getSunriseJulianDate();
+            double sunset = suntime.getSunsetJulianDate();
+            double highNoon = suntime.getHighnoonJulianDate();
+            double daylength = (sunset - sunrise) * 24;
+
+            // polar night and polar day have no horizon crossings
+            boolean polarEh = daylength <= 0 || daylength >= 24;
+            if (daylength < 0) { daylength = 0; }
+            if (daylength > 24) { daylength = 24; }
+
+            String sunriseString = polarEh ? "" : formatTime(sunrise, zone);
+            String sunsetString = polarEh ? "" : formatTime(sunset, zone);
+            String highNoonString = formatTime(highNoon, zone);
+            String daylengthString = String.format(Locale.ROOT, "%.4f", daylength);
+
+            if (format == Format.CSV) {
+                rows.append(name).append(',')
+                        .append(latitude).append(',')
+                        .append(longitude).append(',')
+                        .append(date).append(',')
+                        .append(sunriseString).append(',')
+                        .append(sunsetString).append(',')
+                        .append(highNoonString).append(',')
+                        .append(daylengthString).append('\n');
+            } else {
+                if (rows.length() > rowsStart) { rows.append(",\n"); }
+                rows.append("{\"site\":\"").append(name)
+                        .append("\",\"latitude\":").append(latitude)
+                        .append(",\"longitude\":").append(longitude)
+                        .append(",\"date\":\"").append(date)
+                        .append("\",\"sunrise\":").append(polarEh ? "null" : "\"" + sunriseString + "\"")
+                        .append(",\"sunset\":").append(polarEh ? "null" : "\"" + sunsetString + "\"")
+                        .append(",\"highnoon\":\"").append(highNoonString)
+                        .append("\",\"daylength\":").append(daylengthString)
+                        .append('}');
+            }
+        }
+    }
+
+    private static String formatTime(double julianDate, ZoneId zone) {
+        long epochMillis = Math.round((julianDate - JULIAN_DATE_OF_EPOCH) * MILLIS_PER_DAY);
+        return TIME_FORMATTER.format(Instant.ofEpochMilli(epochMillis).atZone(zone));
+    }
+
+    private Writer openWriter() throws IOException {
+        if (outFile == null) {
+            return new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        }
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outFile), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    private BufferedReader openSites() throws IOException {
+        if (sitesFile == null) { return null; }
+        if (sitesFile.equals("-")) { return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)); }
+        return new BufferedReader(new InputStreamReader(new FileInputStream(sitesFile), StandardCharsets.UTF_8));
+    }
+
+    private boolean singleSiteDoneEh = false;
+
+    private Site nextSite(BufferedReader sites) throws IOException {
+
+        if (sites == null) {
+            if (singleSiteDoneEh) { return null; }
+            singleSiteDoneEh = true;
+            return new Site("", longitude, latitude);
+        }
+
+        String line;
+        while ((line = sites.readLine()) != null) {
+
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) { continue; }
+
+            String[] parts = line.split(";");
+
+            try {
+                if (parts.length >= 3) {
+                    return new Site(parts[0].trim(),
+                            parseCoordinate(parts[2].trim(), Suntime.MIN_LONGITUDE, Suntime.MAX_LONGITUDE),
+                            parseCoordinate(parts[1].trim(), Suntime.MIN_LATITUDE, Suntime.MAX_LATITUDE));
+                }
+                if (parts.length == 2) {
+                    return new Site("",
+                            parseCoordinate(parts[1].trim(), Suntime.MIN_LONGITUDE, Suntime.MAX_LONGITUDE),
+                            parseCoordinate(parts[0].trim(), Suntime.MIN_LATITUDE, Suntime.MAX_LATITUDE));
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the warning below
+            }
+
+            System.err.println("Skipping site: " + line);
+        }
+
+        return null;
+    }
+
+    /**
+     * Degrees within min and max, anything else including NaN and infinity is a NumberFormatException.
+     */
+    private static double parseCoordinate(String value, double min, double max) {
+        double coordinate = Double.parseDouble(value);
+        if (!(coordinate >= min && coordinate <= max)) { throw new NumberFormatException("out of range: " + value); }
+        return coordinate;
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) { return value; }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' : escaped.append("\\\""); break;
+                case '\\' : escaped.append("\\\\"); break;
+                case '\n' : escaped.append("\\n"); break;
+                case '\t' : escaped.append("\\t"); break;
+                default:
+                    if (c < 0x20) { escaped.append(String.format("\\u%04x", (int) c)); }
+                    else { escaped.append(c); }
+            }
+        }
+        return escaped.toString();
+    }
+
+}
@@ -0,0 +1,56 @@
+import javafx.animation.PauseTransition;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+
+/**
+ * Keeps the static layers of the dial face (background, frame, margin, hour line markers) as cached bitmaps,
+ * so when something live on top of them changes, a repaint blits them instead of rendering shapes and effects again.
+ * JavaFX refreshes a cached layer by itself when its content changes, which is fine once in a while but costs
+ * a render plus a blit on every pulse while a layer keeps changing. So before a run of changes, like a night
+ * compression drag or a window resize, invalidate() drops the caches, and they're taken again once things settle.
+ */
+public class Suncache {
+
+    private final ArrayList<Node> layerList = new ArrayList<>();
+    private final PauseTransition settleTimer = new PauseTransition(Duration.millis(Sunconfig.STATIC_LAYER_SETTLE));
+
+    private boolean cachedEh = false;
+
+    public Suncache() {
+        settleTimer.setOnFinished(event -> setCached(true));
+    }
+
+    public void add(Node... layers) {
+        for (Node layer : layers) {
+            layer.setCacheHint(CacheHint.QUALITY);
+            layer.setCache(cachedEh);
+            layerList.add(layer);
+        }
+    }
+
+    /**
+     * Layers render live until nothing called this for a while.
+     */
+    public void invalidate() {
+        setCached(false);
+        settleTimer.playFromStart();
+    }
+
+    private void setCached(boolean cachedEh) {
+
+        if (this.cachedEh == cachedEh) { return; }
+        this.cachedEh = cachedEh;
+
+        for (Node layer : layerList) { layer.setCache(cachedEh); }
+    }
+
+
+    // Getterers
+    public boolean getCachedEh() {
+        return cachedEh;
+    }
+
+}
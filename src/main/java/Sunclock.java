@@ -0,0 +1,84 @@
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Where "now" comes from. Classes that need the current time take a java.time.Clock instead of calling
+ * new GregorianCalendar(), so the dial can run on a fixed, shifted or sped up clock for benchmarks,
+ * replays and time-lapse.
+ *
+ *   real()                  - wall clock in the default time zone
+ *   fixed(millis)           - always the same instant
+ *   offset(clock, millis)   - another clock shifted by a constant
+ *   accelerated(clock, x)   - starts at the given clock's now and runs x times faster, 0 is frozen
+ */
+public class Sunclock {
+
+    public static Clock real() {
+        return Clock.systemDefaultZone();
+    }
+
+    public static Clock fixed(long epochMillis) {
+        return Clock.fixed(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public static Clock offset(Clock clock, long offsetMillis) {
+        return Clock.offset(clock, Duration.ofMillis(offsetMillis));
+    }
+
+    public static Clock accelerated(Clock clock, double factor) {
+        return new AcceleratedClock(clock, clock.millis(), clock.millis(), factor);
+    }
+
+    /**
+     * Calendar set to the clock's current instant, in the clock's time zone. Drop-in for new GregorianCalendar().
+     */
+    public static GregorianCalendar now(Clock clock) {
+        GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone(clock.getZone()));
+        calendar.setTimeInMillis(clock.millis());
+        return calendar;
+    }
+
+    public static class AcceleratedClock extends Clock {
+
+        private final Clock baseClock;
+        private final long baseStartMillis;
+        private final long startMillis;
+        private final double factor;
+
+        private AcceleratedClock(Clock baseClock, long baseStartMillis, long startMillis, double factor) {
+            this.baseClock = baseClock;
+            this.baseStartMillis = baseStartMillis;
+            this.startMillis = startMillis;
+            this.factor = factor;
+        }
+
+        @Override
+        public long millis() {
+            return startMillis + (long) ((baseClock.millis() - baseStartMillis) * factor);
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return baseClock.getZone();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new AcceleratedClock(baseClock.withZone(zone), baseStartMillis, startMillis, factor);
+        }
+
+        public double getFactor() {
+            return factor;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+import javafx.animation.AnimationTimer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+/**
+ * Runs input driven work once per animation pulse. Handlers post what needs doing under a key, a later post
+ * under the same key replaces the earlier one, and everything pending runs in posting order on the next pulse.
+ * A mouse that reports several moves per frame then costs one recompute per frame instead of one per move.
+ *
+ * Only for the FX thread. The timer runs while there is work and stops itself after.
+ */
+public class Suncoalescer {
+
+    private final LinkedHashMap<Object, Runnable> pendingMap = new LinkedHashMap<>();
+    private final ArrayList<Runnable> runList = new ArrayList<>();
+
+    private final AnimationTimer pulseTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    private boolean scheduledEh = false;
+
+    public void post(Object key, Runnable work) {
+
+        pendingMap.put(key, work);
+
+        if (!scheduledEh) {
+            scheduledEh = true;
+            pulseTimer.start();
+        }
+    }
+
+    /**
+     * Runs pending work right away, for when something is about to read the state it updates, like a mouse release.
+     */
+    public void flush() {
+
+        pulseTimer.stop();
+        scheduledEh = false;
+
+        if (pendingMap.isEmpty()) { return; }
+
+        // work may post again, that goes to the next pulse
+        runList.addAll(pendingMap.values());
+        pendingMap.clear();
+
+        for (Runnable work : runList) { work.run(); }
+
+        runList.clear();
+    }
+
+}
@@ -1,9 +1,7 @@
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.RadialGradient;
 import javafx.scene.paint.Stop;
-import javafx.scene.text.Font;
 
 import java.text.DecimalFormat;
 
@@ -11,29 +9,23 @@ import static java.lang.Math.*;
 
 public class Sunconfig {
 
-    // Resources
+    // Resources, decoded lazily by Sunresources
     public static final String DEFAULT_DAY_MAP               = "maps/2k_earth_daymap.jpg";
     public static final String DEFAULT_NIGHT_MAP             = "maps/2k_earth_nightmap.jpg";
     public static final String DEFAULT_EDGE_MAP              = "maps/2k_earth_edge_map.jpg";
     public static final String DEFAULT_SPECULAR_MAP          = "maps/2k_earth_specular_map.jpg";
 
-    public static final Image GLOBE_DAY_IMAGE = Sunutil.convertSphericalToCylindricalMapping(new Image(DEFAULT_DAY_MAP));
-    public static final Image GLOBE_NIGHT_IMAGE = Sunutil.convertSphericalToCylindricalMapping(new Image(DEFAULT_NIGHT_MAP));;
-    public static final Image GLOBE_SPECULAR_IMAGE = Sunutil.convertSphericalToCylindricalMapping(new Image(DEFAULT_SPECULAR_MAP));;
-    public static final Image GLOBE_EDGE_IMAGE = Sunutil.convertSphericalToCylindricalMapping(new Image(DEFAULT_EDGE_MAP));;
-
     public static final String DEFAULT_LOGO_OSTRON           = "icons/Ostron.png";
     public static final String DEFAULT_LOGO_SOLARIS_UNITED   = "icons/SolarisUnited.png";
 
-    public static final Image LOGO_OSTRON = new Image(DEFAULT_LOGO_OSTRON, 64, 64, true, true);
-    public static final Image LOGO_SOLARIS_UNITED = new Image(DEFAULT_LOGO_SOLARIS_UNITED, 64, 64, true, true);
+    public static final String DEFAULT_GAZETTEER             = "gazetteer/cities.csv";
+    public static final String CACHE_DIRECTORY               = ".sunface";
+    public static final String EPHEMERIS_DIRECTORY           = "ephemeris";
+    public static final String EXPORT_DIRECTORY              = "Sunface export";
+    public static final String STALL_DIRECTORY               = "stalls";
 
     public static final String DEFAULT_FONT_COURIER_PRIME_CODE = "fonts/Courier Prime Code.ttf";
 
-    public static final Font FONT_DEBUG = Font.loadFont(ClassLoader.getSystemResourceAsStream(DEFAULT_FONT_COURIER_PRIME_CODE), 14);
-    public static final Font FONT_CHART_INFO = Font.loadFont(ClassLoader.getSystemResourceAsStream(DEFAULT_FONT_COURIER_PRIME_CODE), 16);
-    public static final Font FONT_MINI = Font.loadFont(ClassLoader.getSystemResourceAsStream(DEFAULT_FONT_COURIER_PRIME_CODE), 8);
-
     public static final String MIRO_URL = "http://www.behance.net/Fenring";
     public static final String MIRO_TEXT = "Created by Miroslav Hundak, 2019.";
 
@@ -67,12 +59,44 @@ public class Sunconfig {
             " -a <value> : set custom Longitude {-180 .. 180}\n" +
             " -b <value> : set custom Latitude {-90 .. 90}\n" +
             " -z <value> : set Timezone {-11 .. 12}\n" +
-            " -d <value> : use Daylight Savings Time {true|false}\n"
+            " -d <value> : use Daylight Savings Time {true|false}\n" +
+            " --batch    : print sunrise/sunset tables without a window, see Sunbatch for switches\n" +
+            " --serve <port> : serve sunrise/sunset times on http://127.0.0.1:<port>/sun\n" +
+            " --at <yyyy-MM-ddTHH:mm:ss> : start the clock at this local time instead of now\n" +
+            " --speed <factor> : run the clock <factor> times faster, 0 stops it\n" +
+            "Right click on the year, month, week or day matrix plays a time-lapse through the next one\n" +
+            " -Dsunface.startup.timing=true : print start-up phase timing after the first frame\n" +
+            " -Dsunface.watchdog=<ms> : write recent events and the FX thread stack to ~/.sunface/stalls when the FX thread hangs longer than <ms>\n" +
+            " -Dsunface.quality=<tier> : effect quality {full|reduced|minimal}, or auto to step between them to hold the frame rate\n"
             ;
 
     public static final String ICON_APP_URL = "icons/sun1.png";
 
     public static final double DEFAULT_FPS = 30.0;
+    public static final int SERVER_THREADS = 2;
+    public static final double SUNCHART_RELEASE_DELAY = 10; // minutes
+    public static final double LAPSE_DURATION = 30; // seconds
+    public static final double LAPSE_FPS = 60.0;
+    public static final int EXPORT_SIZE = 4096; // pixels, longer side
+    public static final int EXPORT_FRAME_SIZE = 1080;
+    public static final int EXPORT_FRAMES = 365;
+    public static final int EXPORT_PENDING_FRAMES = 2; // frames waiting for the PNG encoder before rendering pauses
+    public static final int RECORDER_CAPACITY = 8192; // events, power of two
+    public static final long WATCHDOG_INTERVAL = 50; // ms
+    public static final int WATCHDOG_DUMP_SECONDS = 5;
+    public static final double QUALITY_FRAME_BUDGET = 1000 / DEFAULT_FPS; // ms
+    public static final long QUALITY_WINDOW = 2000; // ms
+    public static final int QUALITY_WINDOW_MIN_FRAMES = 30;
+    public static final double QUALITY_OVER_BUDGET_DOWN = 0.25; // share of frame time past the budget that costs a tier
+    public static final double QUALITY_OVER_BUDGET_UP = 0.05; // share of frame time past the budget a window may have to count towards a tier up
+    public static final int QUALITY_UPGRADE_WINDOWS = 15; // good windows in a row before a tier up, doubled each time one doesn't hold
+    public static final int QUALITY_UPGRADE_WINDOWS_MAX = 480;
+    public static final int QUALITY_PROBATION_WINDOWS = 3; // a tier down this soon after a tier up means the tier up didn't hold
+    public static final long QUALITY_STALL = 1000; // ms, pulse gaps this long are stalls, not frames
+    public static final double STATIC_LAYER_SETTLE = 250; // ms without changes before the static dial layers are cached again
+    public static final double EPHEMERIS_GRID = 0.01; // degrees, ephemeris files are per grid cell, a couple of seconds of sunrise at most
+    public static final long EPHEMERIS_SETTLE = 2000; // ms a position has to stay before its ephemeris file is written
+    public static final int EPHEMERIS_MAX_FILES = 64; // least recently used files go beyond this, about 146 kB each
     public static final double DEFAULT_LONGITUDE = round(Suntime.DEFAULT_LONGITUDE * 100d) / 100d;
     public static final double DEFAULT_LATITUDE = round(Suntime.DEFAULT_LATITUDE * 100d) / 100d;
 
@@ -578,63 +602,56 @@ public class Sunconfig {
     public static final Color Color_Of_HourMarkerStroke  = new Color(0.15, 0.30, 0.60, 0.50);
 
 
-    public static final String MATRIX_GLOW                  = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  5.0, 0.60, 0, 0);";
-    public static final String MATRIX_GLOW2                 = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0), 12.0, 0.75, 0, 0);";
-    public static final String MATRIX_SHADOW                = "-fx-effect: dropshadow(three-pass-box, rgba( 32,128,255, 1.0),  5.0, 0.60, 0, 0);";
-    public static final String MATRIX_SHADOW2               = "-fx-effect: dropshadow(three-pass-box, rgba( 32,128,255, 1.0), 10.0, 0.50, 0, 0);";
-    public static final String MATRIX_SHADOW3               = "-fx-effect: dropshadow(three-pass-box, rgba( 32,128,255, 0.3), 15.0, 0.50, 0, 0);";
-    public static final String MATRIX_SHADOW4               = "-fx-effect: dropshadow(three-pass-box, rgba( 16,192, 64, 1.0),  5.0, 0.60, 0, 0);";
-    public static final String MATRIX_BLOCK                 = "-fx-effect: dropshadow(three-pass-box, rgba(  0,  0,  0, 1.0), 10.0, 0.50, 0, 0);";
-    public static final String HORIZON_GLOW                 = "-fx-effect: dropshadow(three-pass-box, rgba(255, 96, 32, 1.0), 15.0, 0.87, 0, 0);";
-    public static final String LOCALTIME_SHADOW             = "-fx-effect: dropshadow(three-pass-box, rgba( 32,128,255, 1.0), 15.0, 0.50, 0, 0);";
-    public static final String LOCALSECOND_GLOW             = "-fx-effect: dropshadow(three-pass-box, rgba(255,  0,  0, 1.0), 10.0, 0.50, 0, 0);";
-    public static final String LOCALMINUTE_GLOW             = "-fx-effect: dropshadow(three-pass-box, rgba( 32,255, 32, 1.0), 10.0, 0.60, 0, 0);";
-    public static final String LOCALHOUR_DIAL_GLOWIER       = "-fx-effect: dropshadow(three-pass-box, rgba( 64,192,255, 1.0), 12.0, 0.75, 0, 0);";
-    public static final String LOCALSECOND_DIAL_GLOW        = "-fx-effect: dropshadow(three-pass-box, rgba(255, 32, 32, 1.0), 10.0, 0.60, 0, 0);";
-    public static final String LOCALMINUTE_DIAL_GLOW        = "-fx-effect: dropshadow(three-pass-box, rgba(  0,192,  0, 1.0), 12.0, 0.67, 0, 0);";
-    public static final String LOCALHOUR_DIAL_GLOW          = "-fx-effect: dropshadow(three-pass-box, rgba( 32,164,255, 1.0), 12.0, 0.68, 0, 0);";
-    public static final String LOCALHOUR_PAST_GLOW          = "-fx-effect: dropshadow(three-pass-box, rgba( 32,255, 32, 1.0), 10.0, 0.60, 0, 0);";
-    public static final String LOCALMIDNIGHT_DIAL_GLOW      = "-fx-effect: dropshadow(three-pass-box, rgba(255,128,255, 1.0), 12.0, 0.68, 0, 0);";
-    public static final String LOCALMIDDAY_DIAL_GLOW        = "-fx-effect: dropshadow(three-pass-box, rgba(224,224, 96, 1.0), 12.0, 0.68, 0, 0);";
-    public static final String LOCALNOON_DIAL_GLOW          = "-fx-effect: dropshadow(three-pass-box, rgba(255,255, 64, 1.0), 12.0, 0.65, 0, 0);";
-    public static final String SUNDOT_GLOW                  = "-fx-effect: dropshadow(three-pass-box, rgba(255,255, 64, 1.0), 15.0, 0.60, 0, 0);";
-    public static final String LOCALNOON_DIAL_HOT           = "-fx-effect: dropshadow(three-pass-box, rgba(255,255,255, 0.7), 10.0, 0.50, 0, 0);";
-    public static final String LOCALNOON_DIAL_SHADOW        = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0), 12.0, 0.60, 0, 0);";
-
-    public static final String HORIZON_HOVER_GLOW           = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 0.5), 5.0, 0.50, 0, 0);";
-    public static final String TERMINATOR_LINE_GLOW         = "-fx-effect: dropshadow(three-pass-box, rgba(255,255,255, 1.0), 10.0, 0.50, 0, 0);";
-
-    public static final String CONTROL_THINGY_SHADOW        = "-fx-effect: dropshadow(three-pass-box, rgba( 32,128,255, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_THINGY_GLOW          = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_HELP_SHADOW_OFF      = "-fx-effect: dropshadow(three-pass-box, rgba( 16, 32,128, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_HELP_GLOW            = "-fx-effect: dropshadow(three-pass-box, rgba( 32,128,255, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_HELP_SHADOW_ON       = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_RESIZE_SHADOW        = "-fx-effect: dropshadow(three-pass-box, rgba( 32,128,255, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_RESIZE_GLOW          = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_CLOSE_SHADOW         = "-fx-effect: dropshadow(three-pass-box, rgba(128, 32, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_CLOSE_GLOW           = "-fx-effect: dropshadow(three-pass-box, rgba(255,  0,  0, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_MAXIMIZE_SHADOW      = "-fx-effect: dropshadow(three-pass-box, rgba( 32,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_MAXIMIZE_GLOW        = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_MINIMIZE_SHADOW      = "-fx-effect: dropshadow(three-pass-box, rgba(112,112, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_MINIMIZE_GLOW        = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_NIGHTMODE_SHADOW     = "-fx-effect: dropshadow(three-pass-box, rgba(112, 32,112, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_NIGHTMODE_GLOW       = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_ALWAYSONTOP_SHADOW   = "-fx-effect: dropshadow(three-pass-box, rgba( 64, 64, 64, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_ALWAYSONTOP_GLOW     = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_GLOBEGRID_SHADOW     = "-fx-effect: dropshadow(three-pass-box, rgba( 64, 64, 64, 1.0),  4.0, 0.50, 0, 0);";
-    public static final String CONTROL_GLOBEGRID_GLOW       = "-fx-effect: dropshadow(three-pass-box, rgba(255,128, 32, 1.0),  4.0, 0.50, 0, 0);";
-
-    public static final String CETUS_MARKER_SHADOW          = "-fx-effect: dropshadow(three-pass-box, rgba(192, 48,192, 1.0), 10.0, 0.75, 0, 0);";
-    public static final String ORBVALLIS_MARKER_SHADOW      = "-fx-effect: dropshadow(three-pass-box, rgba(192,192, 48, 1.0), 10.0, 0.75, 0, 0);";
-    public static final String CETUS_MARKER_GLOW            = "-fx-effect: dropshadow(three-pass-box, rgba(255,196,255, 1.0), 10.0, 0.75, 0, 0);";
-    public static final String CETUS_MATRIX_SHADOW_DAY      = "-fx-effect: dropshadow(three-pass-box, rgba(128, 64,  0, 1.0), 15.0, 0.75, 0, 0);";
-    public static final String CETUS_MATRIX_SHADOW_NIGHT    = "-fx-effect: dropshadow(three-pass-box, rgba(128, 32,164, 1.0), 15.0, 0.75, 0, 0);";
-    public static final String ORBVALLIS_MATRIX_SHADOW_WARM = "-fx-effect: dropshadow(three-pass-box, rgba(192, 96,  0, 1.0), 15.0, 0.75, 0, 0);";
-    public static final String ORBVALLIS_MATRIX_SHADOW_COLD = "-fx-effect: dropshadow(three-pass-box, rgba(  0, 96,192, 1.0), 15.0, 0.75, 0, 0);";
-
-    public static final String HELP_MARKER_GLOW             = "-fx-effect: dropshadow(three-pass-box, rgba(  0,255,  0, 1.0), 10.0, 0.60, 0, 0);";
-
-    public static final String HOUR_MARKER_SHADOW           = "-fx-effect: dropshadow(three-pass-box, rgba(255,  0,  0, 1.0),  4.0, 0.50, 0, 0);";
+    // style classes from STYLESHEET, hover glow is the :glow pseudo-class
+    public static final String STYLESHEET                   = "css/sunface.css";
+    public static final String STYLESHEET_REDUCED           = "css/sunface-reduced.css";
+    public static final String STYLESHEET_MINIMAL           = "css/sunface-minimal.css";
+
+    public static final String MATRIX_GLOW                  = "matrix-glow";
+    public static final String MATRIX_GLOW2                 = "matrix-glow2";
+    public static final String MATRIX_SHADOW                = "matrix-shadow";
+    public static final String MATRIX_SHADOW2               = "matrix-shadow2";
+    public static final String MATRIX_SHADOW3               = "matrix-shadow3";
+    public static final String MATRIX_SHADOW4               = "matrix-shadow4";
+    public static final String MATRIX_BLOCK                 = "matrix-block";
+    public static final String HORIZON_GLOW                 = "horizon-glow";
+    public static final String LOCALTIME_SHADOW             = "localtime-shadow";
+    public static final String LOCALSECOND_GLOW             = "localsecond-glow";
+    public static final String LOCALMINUTE_GLOW             = "localminute-glow";
+    public static final String LOCALHOUR_DIAL_GLOWIER       = "localhour-dial-glowier";
+    public static final String LOCALSECOND_DIAL_GLOW        = "localsecond-dial-glow";
+    public static final String LOCALMINUTE_DIAL_GLOW        = "localminute-dial-glow";
+    public static final String LOCALHOUR_DIAL_GLOW          = "localhour-dial-glow";
+    public static final String LOCALHOUR_PAST_GLOW          = "localhour-past-glow";
+    public static final String LOCALMIDNIGHT_DIAL_GLOW      = "localmidnight-dial-glow";
+    public static final String LOCALMIDDAY_DIAL_GLOW        = "localmidday-dial-glow";
+    public static final String LOCALNOON_DIAL_GLOW          = "localnoon-dial-glow";
+    public static final String SUNDOT_GLOW                  = "sundot-glow";
+    public static final String LOCALNOON_DIAL_HOT           = "localnoon-dial-hot";
+    public static final String LOCALNOON_DIAL_SHADOW        = "localnoon-dial-shadow";
+
+    public static final String HORIZON_HOVER_GLOW           = "horizon-hover-glow";
+    public static final String TERMINATOR_LINE_GLOW         = "terminator-line-glow";
+
+    public static final String CONTROL_THINGY               = "control-thingy";
+    public static final String CONTROL_HELP                 = "control-help";
+    public static final String CONTROL_RESIZE               = "control-resize";
+    public static final String CONTROL_CLOSE                = "control-close";
+    public static final String CONTROL_MAXIMIZE             = "control-maximize";
+    public static final String CONTROL_MINIMIZE             = "control-minimize";
+    public static final String CONTROL_NIGHTMODE            = "control-nightmode";
+    public static final String CONTROL_ALWAYSONTOP          = "control-alwaysontop";
+    public static final String CONTROL_GLOBEGRID            = "control-globegrid";
+
+    public static final String CETUS_MARKER_SHADOW          = "cetus-marker-shadow";
+    public static final String ORBVALLIS_MARKER_SHADOW      = "orbvallis-marker-shadow";
+    public static final String CETUS_MARKER_GLOW            = "cetus-marker-glow";
+    public static final String CETUS_TIMER                  = "cetus-timer";
+    public static final String ORBVALLIS_TIMER              = "orbvallis-timer";
+
+    public static final String HELP_MARKER_GLOW             = "help-marker-glow";
+
+    public static final String HOUR_MARKER_SHADOW           = "hour-marker-shadow";
 
     public static final RadialGradient FRAME_DIAL_NOMINAL = new RadialGradient(
             0, 0,
@@ -40,8 +40,6 @@ public class Suncreator {
         DST,
         ANIMATION,
         CHART,
-        CETUS,
-        ORBVALLIS,
         PIN_INFO
     };
 
@@ -58,37 +56,11 @@ public class Suncreator {
                         .strokeWidth(Sunconfig.CONTROL_HELP_STROKE_WIDTH)
                         .colorFill(Sunconfig.Color_Of_ResizeFill)
                         .marker("?", Color.WHITE, Sunconfig.MATRIX_SHADOW)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_HELP, helpText)
                         .thankYou();
                 break;
-            case CETUS:
-                controlThingy = new ControlThingy.PleaseBuildControlThingy()
-                        .positionPolar(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sunconfig.CONTROL_CHART_OFFSET, Sunconfig.CONTROL_CETUS_ANGLE)
-                        .size(Sunconfig.CONTROL_CHART_RADIUS)
-                        .colorStroke(Sunconfig.Color_Of_ResizeStroke, Color.WHITE)
-                        .strokeWidth(Sunconfig.CONTROL_CHART_STROKE_WIDTH)
-                        .colorFill(Sunconfig.Color_Of_ResizeFill)
-                        .image(Sunconfig.LOGO_OSTRON, 1.25, 0, -1, Sunconfig.CONTROL_RESIZE_SHADOW)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
-                        .cursor(Cursor.HAND)
-                        .helpText(Sunconfig.HELPTEXT_CETUS, helpText)
-                        .thankYou();
-                break;
-            case ORBVALLIS:
-                controlThingy = new ControlThingy.PleaseBuildControlThingy()
-                        .positionPolar(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sunconfig.CONTROL_CHART_OFFSET, Sunconfig.CONTROL_ORBVALLIS_ANGLE)
-                        .size(Sunconfig.CONTROL_CHART_RADIUS)
-                        .colorStroke(Sunconfig.Color_Of_ResizeStroke, Color.WHITE)
-                        .strokeWidth(Sunconfig.CONTROL_CHART_STROKE_WIDTH)
-                        .colorFill(Sunconfig.Color_Of_ResizeFill)
-                        .image(Sunconfig.LOGO_SOLARIS_UNITED, 1.0, 0, 0, Sunconfig.CONTROL_RESIZE_SHADOW)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
-                        .cursor(Cursor.HAND)
-                        .helpText(Sunconfig.HELPTEXT_ORBVALLIS, helpText)
-                        .thankYou();
-                break;
             case CHART:
                 controlThingy = new ControlThingy.PleaseBuildControlThingy()
                         .positionPolar(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sunconfig.CONTROL_CHART_OFFSET, Sunconfig.CONTROL_CHART_ANGLE)
@@ -98,7 +70,7 @@ public class Suncreator {
                         .colorFill(Sunconfig.Color_Of_ResizeFill)
                         .marker("#", Color.WHITE, Sunconfig.MATRIX_SHADOW)
                         .markerScale(0.75)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_CHART, helpText)
                         .thankYou();
@@ -112,7 +84,7 @@ public class Suncreator {
                         .colorFill(Sunconfig.Color_Of_ResizeFill)
                         .marker("A", Color.WHITE, Sunconfig.MATRIX_SHADOW)
                         .markerScale(0.75)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_ANIMATION, helpText)
                         .thankYou();
@@ -126,7 +98,7 @@ public class Suncreator {
                         .colorFill(Sunconfig.Color_Of_ResizeFill)
                         .marker("I", Color.WHITE, Sunconfig.MATRIX_SHADOW)
                         .markerScale(0.75)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_PIN_INFO, helpText)
                         .thankYou();
@@ -139,7 +111,7 @@ public class Suncreator {
                         .colorStroke(Sunconfig.Color_Of_ResizeStroke, Color.WHITE)
                         .strokeWidth(Sunconfig.CONTROL_RESIZE_STROKE_WIDTH)
                         .colorFill(Sunconfig.Color_Of_ResizeFill)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.NW_RESIZE)
                         .helpText(Sunconfig.HELPTEXT_RESIZE, helpText)
                         .thankYou();
@@ -151,7 +123,7 @@ public class Suncreator {
                         .colorStroke(Sunconfig.Color_Of_CloseStroke, Sunconfig.Color_Of_CloseStroke)
                         .strokeWidth(Sunconfig.CONTROL_CLOSE_STROKE_WIDTH)
                         .colorFill(Sunconfig.Color_Of_CloseFill)
-                        .style(Sunconfig.CONTROL_CLOSE_SHADOW, Sunconfig.CONTROL_CLOSE_GLOW)
+                        .style(Sunconfig.CONTROL_CLOSE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_CLOSE, helpText)
                         .thankYou();
@@ -163,7 +135,7 @@ public class Suncreator {
                         .colorStroke(Sunconfig.Color_Of_MaximizeStroke, Color.WHITE)
                         .strokeWidth(Sunconfig.CONTROL_MAXIMIZE_STROKE_WIDTH)
                         .colorFill(Sunconfig.Color_Of_MaximizeFill)
-                        .style(Sunconfig.CONTROL_MAXIMIZE_SHADOW, Sunconfig.CONTROL_MAXIMIZE_GLOW)
+                        .style(Sunconfig.CONTROL_MAXIMIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_MAXIMIZE, helpText)
                         .thankYou();
@@ -175,7 +147,7 @@ public class Suncreator {
                         .colorStroke(Sunconfig.Color_Of_MinimizeStroke, Color.WHITE)
                         .strokeWidth(Sunconfig.CONTROL_MINIMIZE_STROKE_WIDTH)
                         .colorFill(Sunconfig.Color_Of_MinimizeFill)
-                        .style(Sunconfig.CONTROL_MINIMIZE_SHADOW, Sunconfig.CONTROL_MINIMIZE_GLOW)
+                        .style(Sunconfig.CONTROL_MINIMIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_MINIMIZE, helpText)
                         .thankYou();
@@ -189,7 +161,7 @@ public class Suncreator {
                         .colorFill(Sunconfig.Color_Of_ResizeFill)
                         .marker("N", Color.WHITE, Sunconfig.MATRIX_SHADOW)
                         .markerScale(0.75)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_NIGHTMODE, helpText)
                         .thankYou();
@@ -203,7 +175,7 @@ public class Suncreator {
                         .colorFill(Sunconfig.Color_Of_ResizeFill)
                         .marker("T", Color.WHITE, Sunconfig.MATRIX_SHADOW)
                         .markerScale(0.75)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_ALWAYSONTOP, helpText)
                         .thankYou();
@@ -218,7 +190,7 @@ public class Suncreator {
                         .marker("G", Color.WHITE, Sunconfig.MATRIX_SHADOW)
                         .markerScale(0.85)
 //                        .markerColorOn(Color.WHITE)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_GLOBEGRID, helpText)
                         .thankYou();
@@ -234,7 +206,7 @@ public class Suncreator {
                         .marker("L", Color.WHITE, Sunconfig.MATRIX_SHADOW)
                         .markerScale(0.85)
 //                        .markerColorOn(Color.WHITE)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_GLOBELINES, helpText)
                         .thankYou();
@@ -250,7 +222,7 @@ public class Suncreator {
                         .marker("DST", Sunconfig.Color_Of_ResizeStroke, Sunconfig.MATRIX_SHADOW3)
                         .markerColorOn(Sunconfig.Color_Of_Horizon)
                         .markerScale(Sunconfig.CONTROL_DST_MATRIX_SCALE)
-                        .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                        .style(Sunconfig.CONTROL_RESIZE)
                         .cursor(Cursor.HAND)
                         .helpText(Sunconfig.HELPTEXT_DST, helpText)
                         .thankYou();
@@ -263,7 +235,7 @@ public class Suncreator {
                     .strokeWidth(Sunconfig.CONTROL_HELP_STROKE_WIDTH)
                     .colorFill(Sunconfig.Color_Of_ResizeFill)
                     .marker("?", Color.WHITE, Sunconfig.MATRIX_SHADOW)
-                    .style(Sunconfig.CONTROL_RESIZE_SHADOW, Sunconfig.CONTROL_RESIZE_GLOW)
+                    .style(Sunconfig.CONTROL_RESIZE)
                     .cursor(Cursor.HAND)
                     .helpText(Sunconfig.HELPTEXT_DEFAULT, helpText)
                     .thankYou();
@@ -323,7 +295,7 @@ public class Suncreator {
     ) {
 
         // 3D objects
-        Globe dayGlobe = new Globe(Sunconfig.GLOBE_DAY_IMAGE, Sunconfig.CENTER_X - Sunconfig.MARGIN_X, Sunconfig.GLOBE_ROTATE_DURATION);
+        Globe dayGlobe = new Globe(Sunresources.getGlobeDayImage(), Sunconfig.CENTER_X - Sunconfig.MARGIN_X, Sunconfig.GLOBE_ROTATE_DURATION);
         dayGlobe.setLayoutX(Sunconfig.CENTER_X);
         dayGlobe.setLayoutY(Sunconfig.CENTER_Y);
         dayGlobe.setDayLightColor(Sunconfig.Color_Of_DayDay);
@@ -333,14 +305,14 @@ public class Suncreator {
         dayGlobe.setSpecularColor(Sunconfig.Color_Of_DaySpecular);
         dayGlobe.setSpecularPower(6);
         dayGlobe.setReverseSpecularPower(12);
-        dayGlobe.setSpecularMap(Sunconfig.GLOBE_SPECULAR_IMAGE);
+        dayGlobe.setSpecularMap(Sunresources.getGlobeSpecularImage());
         dayGlobe.longitudeProperty().bind(longitude);
         dayGlobe.latitudeProperty().bind(latitude);
         dayGlobe.phaseProperty().bind(phase);
         dayGlobe.tiltProperty().bind(tilt);
         dayGlobe.lightScaleProperty().bind(lightScale);
 
-        Globe nightGlobe = new Globe(Sunconfig.GLOBE_NIGHT_IMAGE, Sunconfig.CENTER_X - Sunconfig.MARGIN_X, Sunconfig.GLOBE_ROTATE_DURATION);
+        Globe nightGlobe = new Globe(Sunresources.getGlobeNightImage(), Sunconfig.CENTER_X - Sunconfig.MARGIN_X, Sunconfig.GLOBE_ROTATE_DURATION);
         nightGlobe.setLayoutX(Sunconfig.CENTER_X);
         nightGlobe.setLayoutY(Sunconfig.CENTER_Y);
         nightGlobe.setDayLightColor(Color.BLACK);
@@ -350,7 +322,7 @@ public class Suncreator {
         nightGlobe.setSpecularColor(Sunconfig.Color_Of_NightSpecular);
         nightGlobe.setSpecularPower(1.85);
         nightGlobe.setReverseSpecularPower(6);
-        nightGlobe.setSpecularMap(Sunconfig.GLOBE_SPECULAR_IMAGE);
+        nightGlobe.setSpecularMap(Sunresources.getGlobeSpecularImage());
         nightGlobe.longitudeProperty().bind(longitude);
         nightGlobe.latitudeProperty().bind(latitude);
         nightGlobe.phaseProperty().bind(phase);
@@ -358,7 +330,7 @@ public class Suncreator {
         nightGlobe.lightScaleProperty().bind(lightScale);
 
 /*
-        Globe edgesGlobe = new Globe(Sunconfig.GLOBE_EDGE_IMAGE, Sunconfig.CENTER_X - Sunconfig.MARGIN_X, Sunconfig.GLOBE_ROTATE_DURATION);
+        Globe edgesGlobe = new Globe(Sunresources.getGlobeEdgeImage(), Sunconfig.CENTER_X - Sunconfig.MARGIN_X, Sunconfig.GLOBE_ROTATE_DURATION);
         edgesGlobe.setLayoutX(Sunconfig.CENTER_X);
         edgesGlobe.setLayoutY(Sunconfig.CENTER_Y);
         edgesGlobe.setDayLightColor(Color.BLACK);
@@ -422,35 +394,35 @@ public class Suncreator {
 
 
         // Scenes (to flatten 3D and enable layer compositing)
-        SubScene dayGlobeScene = new SubScene(dayGlobe, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene dayGlobeScene = new SubScene(dayGlobe, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         dayGlobeScene.setCamera(dayPerspectiveCamera);
 
-        SubScene nightGlobeScene = new SubScene(nightGlobe, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene nightGlobeScene = new SubScene(nightGlobe, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         nightGlobeScene.setBlendMode(BlendMode.LIGHTEN);
         nightGlobeScene.setCamera(nightPerspectiveCamera);
 
-//        SubScene edgesGlobeScene = new SubScene(edgesGlobe, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+//        SubScene edgesGlobeScene = new SubScene(edgesGlobe, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
 //        edgesGlobeScene.setBlendMode(BlendMode.SCREEN);
 
-        SubScene globeGridScene = new SubScene(globeGrid, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene globeGridScene = new SubScene(globeGrid, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         globeGridScene.setBlendMode(BlendMode.SCREEN);
         globeGridScene.setEffect(new GaussianBlur(1));
         globeGridScene.setOpacity(Sunconfig.DAY_GRIDLINE_OPACITY);
 //        globeGridScene.setCamera(gridPerspectiveCamera);
 
-        SubScene globeLinesScene = new SubScene(globeLines, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene globeLinesScene = new SubScene(globeLines, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         globeLinesScene.setBlendMode(BlendMode.SCREEN);
         globeLinesScene.setEffect(new GaussianBlur(1));
         globeLinesScene.setOpacity(1);
         globeLinesScene.setCamera(linesPerspectiveCamera);
 
-        SubScene dayTerminatorLineScene = new SubScene(dayTerminatorLine, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene dayTerminatorLineScene = new SubScene(dayTerminatorLine, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         dayTerminatorLineScene.setBlendMode(BlendMode.SCREEN);
         dayTerminatorLineScene.setEffect(new GaussianBlur(Sunconfig.GLOBEGRID_LINE_WIDTH));
         dayTerminatorLineScene.setOpacity(Sunconfig.DAY_TERMINATOR_LINE_OPACITY);
         dayTerminatorLineScene.setCamera(terminatorLinePerspectiveCamera);
 
-        SubScene dayTerminatorGlowScene = new SubScene(dayTerminatorGlow, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene dayTerminatorGlowScene = new SubScene(dayTerminatorGlow, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         dayTerminatorGlowScene.setBlendMode(BlendMode.SCREEN);
         dayTerminatorGlowScene.setEffect(new GaussianBlur(Sunconfig.DAY_TERMINATOR_GLOW_WIDTH));
         dayTerminatorGlowScene.setOpacity(Sunconfig.DAY_TERMINATOR_GLOW_OPACITY);
@@ -585,7 +557,7 @@ public class Suncreator {
 
     public static Group createTinyGlobe(DoubleProperty longitude, DoubleProperty latitude, DoubleProperty phase, DoubleProperty tilt) {
 
-        Globe tinyGlobe = new Globe(Sunconfig.GLOBE_DAY_IMAGE, Sunconfig.TINYGLOBE_RADIUS, Sunconfig.GLOBE_ROTATE_DURATION);
+        Globe tinyGlobe = new Globe(Sunresources.getGlobeDayImage(), Sunconfig.TINYGLOBE_RADIUS, Sunconfig.GLOBE_ROTATE_DURATION);
         tinyGlobe.setDayLightColor(Sunconfig.Color_Of_DayDay);
         tinyGlobe.setDayReverseLightColor(Sunconfig.Color_Of_DayReverse);
         tinyGlobe.setNightLightColor(Color.BLACK);
@@ -593,7 +565,7 @@ public class Suncreator {
         tinyGlobe.setSpecularColor(Sunconfig.Color_Of_TinySpecular);
         tinyGlobe.setSpecularPower(6);
         tinyGlobe.setReverseSpecularPower(12);
-        tinyGlobe.setSpecularMap(Sunconfig.GLOBE_SPECULAR_IMAGE);
+        tinyGlobe.setSpecularMap(Sunresources.getGlobeSpecularImage());
         tinyGlobe.setLayoutX(Sunconfig.CENTER_X);
         tinyGlobe.setLayoutY(Sunconfig.CENTER_Y + Sunconfig.TINYGLOBE_OFFSET);
         tinyGlobe.longitudeProperty().bind(longitude);
@@ -601,9 +573,9 @@ public class Suncreator {
         tinyGlobe.phaseProperty().bind(phase);
         tinyGlobe.tiltProperty().bind(tilt);
 
-        SubScene tinyGlobeScene = new SubScene(tinyGlobe, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene tinyGlobeScene = new SubScene(tinyGlobe, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
 
-        Globe tinyGlobeNight = new Globe(Sunconfig.GLOBE_DAY_IMAGE, Sunconfig.TINYGLOBE_RADIUS, Sunconfig.GLOBE_ROTATE_DURATION);
+        Globe tinyGlobeNight = new Globe(Sunresources.getGlobeDayImage(), Sunconfig.TINYGLOBE_RADIUS, Sunconfig.GLOBE_ROTATE_DURATION);
         tinyGlobeNight.setDayLightColor(Color.BLACK);
         tinyGlobeNight.setAmbientLightColor(Sunconfig.Color_Of_TinyAmbient);
         tinyGlobeNight.setNightLightColor(Color.RED);
@@ -614,11 +586,11 @@ public class Suncreator {
         tinyGlobeNight.phaseProperty().bind(phase);
         tinyGlobeNight.tiltProperty().bind(tilt);
 
-        SubScene tinyGlobeNightScene = new SubScene(tinyGlobeNight, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene tinyGlobeNightScene = new SubScene(tinyGlobeNight, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         tinyGlobeNightScene.setBlendMode(BlendMode.LIGHTEN);
 
 /*
-        Globe tinyGlobeEdges = new Globe(Sunconfig.GLOBE_EDGE_IMAGE, Sunconfig.TINYGLOBE_RADIUS, Sunconfig.GLOBE_ROTATE_DURATION);
+        Globe tinyGlobeEdges = new Globe(Sunresources.getGlobeEdgeImage(), Sunconfig.TINYGLOBE_RADIUS, Sunconfig.GLOBE_ROTATE_DURATION);
         tinyGlobeEdges.setDayLightColor(Color.BLACK);
         tinyGlobeEdges.setNightLightColor(Color.BLACK);
         tinyGlobeEdges.setAmbientLightColor(Color.WHITE);
@@ -629,7 +601,7 @@ public class Suncreator {
         tinyGlobeEdges.phaseProperty().bind(phase);
         tinyGlobeEdges.tiltProperty().bind(tilt);
 
-        SubScene tinyGlobeEdgesScene = new SubScene(tinyGlobeEdges, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene tinyGlobeEdgesScene = new SubScene(tinyGlobeEdges, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         tinyGlobeEdgesScene.setBlendMode(BlendMode.ADD);
 */
 
@@ -641,7 +613,7 @@ public class Suncreator {
         tinyDayTerminatorLine.phaseProperty().bind(phase);
         tinyDayTerminatorLine.tiltProperty().bind(tilt);
 
-        SubScene tinyDayTerminatorLineScene = new SubScene(tinyDayTerminatorLine, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, SceneAntialiasing.BALANCED);
+        SubScene tinyDayTerminatorLineScene = new SubScene(tinyDayTerminatorLine, Sundial.DEFAULT_WIDTH, Sundial.DEFAULT_HEIGHT, true, Sunquality.ANTIALIASING);
         tinyDayTerminatorLineScene.setBlendMode(BlendMode.ADD);
         tinyDayTerminatorLineScene.setEffect(new GaussianBlur(Sunconfig.DAY_TERMINATOR_WIDTH));
         tinyDayTerminatorLineScene.setOpacity(Sunconfig.DAY_TERMINATOR_LINE_OPACITY);
@@ -667,7 +639,7 @@ public class Suncreator {
         Group group = new Group(circle);
         group.setTranslateX(Sunconfig.CENTER_X);
         group.setTranslateY(Sunconfig.CENTER_Y + Sunconfig.TINYGLOBE_OFFSET);
-        group.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(group, Sunconfig.MATRIX_SHADOW);
 
         return group;
     }
@@ -923,7 +895,7 @@ public class Suncreator {
         dialMarginCircleRing.setFill(Sunconfig.Color_Of_Void);
         dialMarginCircleRing.setStroke(Sunconfig.Color_Of_ChartStroke_On);
         dialMarginCircleRing.setStrokeWidth(1.50);
-        dialMarginCircleRing.setStyle(Sunconfig.HELP_MARKER_GLOW);
+        Sunstyle.setStyleClass(dialMarginCircleRing, Sunconfig.HELP_MARKER_GLOW);
         dialMarginCircleRing.setVisible(false);
         dialMarginCircleRing.setMouseTransparent(true);
         return dialMarginCircleRing;
@@ -961,7 +933,7 @@ public class Suncreator {
         Circle dialCircleBackground = new Circle(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sundial.DEFAULT_WIDTH / 2 - Sunconfig.MARGIN_X);
         dialCircleBackground.setFill(Sunconfig.Color_Of_DaySky);
         dialCircleBackground.setStroke(Sunconfig.Color_Of_Void);
-        dialCircleBackground.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(dialCircleBackground, Sunconfig.MATRIX_SHADOW);
         return dialCircleBackground;
     }
 
@@ -973,241 +945,72 @@ public class Suncreator {
         return dialCircleFrame;
     }
 
-    public static Group createKriegsrahmenZeitMarkerGroup(
-            KriegsrahmenZeit.Location location,
-            Rotate centerRotate,
-            ArrayList<Double> markerAngleList,
-            ArrayList<Rotate> markerRotateList,
-            ArrayList<Line> markerLineList,
-            ArrayList<Arc> markerArcList,
-            ArrayList<DotMatrix> matrixList,
-            ArrayList<Timeline> markerHoverTransitionList) {
-
-        Group markerGroup = new Group();
-        Group horizonGroup = new Group();
-        Group arcGroup = new Group();
-
-        long mainPhaseLength = location.getMainPhaseLength();
-        long lastPhaseLength = location.getLastPhaseLength();
-        long cycleLength = location.getCycleLength();
-        long cyclesPerTwoDays = (long) ceil(48d * 60 * 60 * 1000 / cycleLength);
-
-        double markerWidth, markerLength;
-        Color markerColor;
-        String markerShadow;
-        double matrixScaleX, matrixScaleY;
-        double horizonOffset;
-        Paint arcFill;
-        double arcFillStop1, arcFillStop2;
-        Color arcColor;
-        double arcOpacity;
-        double animationDuration;
-        boolean arcMouseTransparentEh;
-        BlendMode blendMode;
-
-        switch (location) {
-            case CETUS:
-                markerWidth = Sunconfig.CETUS_MARKER_WIDTH;
-                markerLength = Sunconfig.CETUS_MARKER_LENGTH;
-                markerColor = Sunconfig.Color_Of_CetusMarker;
-                markerShadow = Sunconfig.CETUS_MARKER_SHADOW;
-                matrixScaleX = Sunconfig.CETUS_HORIZON_SCALE;
-                matrixScaleY = Sunconfig.CETUS_HORIZON_SCALE;
-                horizonOffset = Sunconfig.CETUS_HORIZON_OFFSET;
-                arcFill = Sunconfig.CETUS_ARC_GRADIENT;
-                arcFillStop1 = Sunconfig.CETUS_ARC_GRADIENT_STOP1;
-                arcFillStop2 = Sunconfig.CETUS_ARC_GRADIENT_STOP2;
-                arcColor = Sunconfig.Color_Of_CetusArc;
-                arcOpacity = Sunconfig.CETUS_ARC_OPACITY;
-                arcMouseTransparentEh = false;
-                animationDuration = Sunconfig.CETUS_MARKER_DURATION;
-                blendMode = BlendMode.MULTIPLY;
-                break;
-            case ORB_VALLIS:
-                markerWidth = Sunconfig.ORBVALLIS_MARKER_WIDTH;
-                markerLength = Sunconfig.ORBVALLIS_MARKER_LENGTH;
-                markerColor = Color.TRANSPARENT/*Sunconfig.Color_Of_OrbVallisMarker*/;
-                markerShadow = ""/*Sunconfig.ORBVALLIS_MARKER_SHADOW*/;
-                matrixScaleX = Sunconfig.ORBVALLIS_HORIZON_SCALE;
-                matrixScaleY = Sunconfig.ORBVALLIS_HORIZON_SCALE;
-                horizonOffset = Sunconfig.ORBVALLIS_HORIZON_OFFSET;
-                arcFill = Sunconfig.ORBVALLIS_ARC_GRADIENT;
-                arcFillStop1 = Sunconfig.ORBVALLIS_ARC_GRADIENT_STOP1;
-                arcFillStop2 = Sunconfig.ORBVALLIS_ARC_GRADIENT_STOP2;
-                arcColor = Sunconfig.Color_Of_OrbVallisArc;
-                arcOpacity = Sunconfig.ORBVALLIS_ARC_OPACITY;
-                arcMouseTransparentEh = true;
-                animationDuration = Sunconfig.ORBVALLIS_MARKER_DURATION;
-                blendMode = BlendMode.SRC_OVER;
-                break;
-            default: return markerGroup;
-        }
+    public static CycleLook createCetusLook() {
+        return new CycleLook.PleaseBuildCycleLook()
+                .marker(Sunconfig.CETUS_MARKER_WIDTH, Sunconfig.CETUS_MARKER_LENGTH, Sunconfig.Color_Of_CetusMarker, Sunconfig.CETUS_MARKER_SHADOW)
+                .horizon(Sunconfig.CETUS_HORIZON_SCALE, Sunconfig.CETUS_HORIZON_OFFSET)
+                .arc(Sunconfig.Color_Of_CetusArc, Sunconfig.CETUS_ARC_GRADIENT_STOP1, Sunconfig.CETUS_ARC_GRADIENT_STOP2, Sunconfig.CETUS_ARC_OPACITY)
+                .arcMouseTransparent(false)
+                .overlayMouseTransparent(false)
+                .blendMode(BlendMode.MULTIPLY)
+                .animationDuration(Sunconfig.CETUS_MARKER_DURATION)
+                .timerColor(Sunconfig.Color_Of_CetusNight, Sunconfig.Color_Of_CetusDay)
+                .timerStyle(Sunconfig.CETUS_TIMER)
+                .timer(Sunconfig.CETUS_TIMER_SCALE, Sunconfig.CETUS_TIMER_OFFSET)
+                .logo(Sunresources.getLogoOstron(), 1.25, 0, -1)
+                .controlAngle(Sunconfig.CONTROL_CETUS_ANGLE)
+                .helpText(Sunconfig.HELPTEXT_CETUS)
+                .thankYou();
+    }
 
-        for (int i = 0; i <= cyclesPerTwoDays; i++) {
-
-            double startAngle = ((i * cycleLength) * 360d) / (24d * 60 * 60 * 1000);
-            double endAngle = ((i * cycleLength + mainPhaseLength) * 360d) / (24d * 60 * 60 * 1000);
-
-            Line markerLineStart = new Line(Sunconfig.CENTER_X, markerLength + Sunconfig.MARGIN_Y, Sunconfig.CENTER_X, Sunconfig.MARGIN_Y);
-            markerLineStart.setStroke(markerColor);
-            markerLineStart.setStrokeWidth(markerWidth);
-            markerLineStart.setStyle(markerShadow);
-            markerLineStart.setMouseTransparent(true);
-
-            Rotate markerLineStartRotate = centerRotate.clone();
-            markerLineStartRotate.setAngle(startAngle);
-
-            DotMatrix matrixStart = new DotMatrix("00:00", markerColor);
-            matrixStart.setScaleX(matrixScaleX);
-            matrixStart.setScaleY(matrixScaleY);
-            matrixStart.setLayoutX(Sunconfig.CENTER_X - matrixStart.getLayoutBounds().getWidth() / 2 - matrixStart.getLayoutBounds().getHeight() / 2);
-            matrixStart.setLayoutY(horizonOffset);
-            matrixStart.setRotate(90d);
-            matrixStart.setStyle(markerShadow);
-            matrixStart.setMouseTransparent(true);
-            matrixStart.setOpacity(0);
-
-            Group startHorizonGroup = new Group();
-            startHorizonGroup.getChildren().addAll(markerLineStart, matrixStart);
-            startHorizonGroup.getTransforms().add(markerLineStartRotate);
-
-            Line markerLineEnd = new Line(Sunconfig.CENTER_X, markerLength + Sunconfig.MARGIN_Y, Sunconfig.CENTER_X, Sunconfig.MARGIN_Y);
-            markerLineEnd.setStroke(markerColor);
-            markerLineEnd.setStrokeWidth(markerWidth);
-            markerLineEnd.setStyle(markerShadow);
-            markerLineEnd.setMouseTransparent(true);
-
-            DotMatrix matrixEnd = new DotMatrix("00:00", markerColor);
-            matrixEnd.setScaleX(matrixScaleX);
-            matrixEnd.setScaleY(matrixScaleY);
-            matrixEnd.setTranslateX(Sunconfig.CENTER_X - matrixEnd.getLayoutBounds().getWidth() / 2 + matrixEnd.getLayoutBounds().getHeight() / 2);
-            matrixEnd.setTranslateY(horizonOffset);
-            matrixEnd.setRotate(90d);
-            matrixEnd.setStyle(markerShadow);
-            matrixEnd.setMouseTransparent(true);
-            matrixEnd.setOpacity(0);
-
-            Rotate markerLineEndRotate = centerRotate.clone();
-            markerLineEndRotate.setAngle(endAngle);
-
-            Group endHorizonGroup = new Group();
-            endHorizonGroup.getChildren().addAll(markerLineEnd, matrixEnd);
-            endHorizonGroup.getTransforms().add(markerLineEndRotate);
-
-            Arc nightArc = new Arc(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sunconfig.CENTER_X - Sunconfig.MARGIN_X, Sunconfig.CENTER_Y - Sunconfig.MARGIN_Y, 90 - startAngle, startAngle - endAngle);
-            nightArc.setType(ArcType.ROUND);
-            nightArc.setStroke(Sunconfig.Color_Of_Void);
-            nightArc.setFill(arcFill);
-            nightArc.setOpacity(arcOpacity);
-            nightArc.setMouseTransparent(arcMouseTransparentEh);
-
-            arcGroup.getChildren().addAll(nightArc);
-            horizonGroup.getChildren().addAll(startHorizonGroup, endHorizonGroup);
-
-            // Animations
-            Timeline markerTransitionOn = new Timeline();
-            markerTransitionOn.setCycleCount(1);
-            markerTransitionOn.setRate(1);
-            markerTransitionOn.setAutoReverse(false);
-
-            KeyValue keyValueStartOpacityOn = new KeyValue(matrixStart.opacityProperty(), 1.0, Interpolator.EASE_BOTH);
-            KeyFrame keyFrameStartOpacityOn = new KeyFrame(Duration.millis(animationDuration), keyValueStartOpacityOn);
-            KeyValue keyValueEndOpacityOn = new KeyValue(matrixEnd.opacityProperty(), 1.0, Interpolator.EASE_BOTH);
-            KeyFrame keyFrameEndOpacityOn = new KeyFrame(Duration.millis(animationDuration), keyValueEndOpacityOn);
-            KeyValue keyValueLineStartOn = new KeyValue(markerLineStart.startYProperty(), markerLength * 3, Interpolator.EASE_BOTH);
-            KeyFrame keyFrameLineStartOn = new KeyFrame(Duration.millis(animationDuration), keyValueLineStartOn);
-            KeyValue keyValueLineEndOn = new KeyValue(markerLineEnd.startYProperty(), markerLength * 3, Interpolator.EASE_BOTH);
-            KeyFrame keyFrameLineEndOn = new KeyFrame(Duration.millis(animationDuration), keyValueLineEndOn);
-
-            markerTransitionOn.getKeyFrames().addAll(keyFrameStartOpacityOn, keyFrameEndOpacityOn, keyFrameLineStartOn, keyFrameLineEndOn);
-
-            Timeline markerTransitionOff = new Timeline();
-            markerTransitionOff.setCycleCount(1);
-            markerTransitionOff.setRate(1);
-            markerTransitionOff.setAutoReverse(false);
-
-            KeyValue keyValueStartOpacityOff = new KeyValue(matrixStart.opacityProperty(), 0.0, Interpolator.EASE_BOTH);
-            KeyFrame keyFrameStartOpacityOff = new KeyFrame(Duration.millis(animationDuration), keyValueStartOpacityOff);
-            KeyValue keyValueEndOpacityOff = new KeyValue(matrixEnd.opacityProperty(), 0.0, Interpolator.EASE_BOTH);
-            KeyFrame keyFrameEndOpacityOff = new KeyFrame(Duration.millis(animationDuration), keyValueEndOpacityOff);
-            KeyValue keyValueLineStartOff = new KeyValue(markerLineStart.startYProperty(), markerLength + Sunconfig.MARGIN_Y, Interpolator.EASE_BOTH);
-            KeyFrame keyFrameLineStartOff = new KeyFrame(Duration.millis(animationDuration), keyValueLineStartOff);
-            KeyValue keyValueLineEndOff = new KeyValue(markerLineEnd.startYProperty(), markerLength + Sunconfig.MARGIN_Y, Interpolator.EASE_BOTH);
-            KeyFrame keyFrameLineEndOff = new KeyFrame(Duration.millis(animationDuration), keyValueLineEndOff);
-
-            markerTransitionOff.getKeyFrames().addAll(keyFrameStartOpacityOff, keyFrameEndOpacityOff, keyFrameLineStartOff, keyFrameLineEndOff);
-
-            nightArc.fillProperty().bind(Bindings.createObjectBinding(() -> {
-                double stop1 = arcFillStop1 - (0.40 * matrixStart.opacityProperty().get());
-                double stop2 = arcFillStop2 - (0.15 * matrixStart.opacityProperty().get());
-                return new RadialGradient(
-                        0, 0,
-                        Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sunconfig.CENTER_Y - Sunconfig.MARGIN_Y,
-                        false,
-                        CycleMethod.NO_CYCLE,
-                        new Stop(stop1, Sunconfig.Color_Of_Void),
-                        new Stop(stop2, arcColor)
-                );
-            }, matrixStart.opacityProperty()));
-
-            // Events
-            nightArc.setOnMouseEntered(event -> {
-                markerTransitionOff.stop();
-                markerTransitionOn.play();
-            });
-            nightArc.setOnMouseExited(event -> {
-                markerTransitionOn.stop();
-                markerTransitionOff.play();
-            });
-
-            // these are sent back
-            markerAngleList.add(startAngle);
-            markerAngleList.add(endAngle);
-
-            markerRotateList.add(markerLineStartRotate);
-            markerRotateList.add(markerLineEndRotate);
-
-            markerArcList.add(nightArc);
-
-            markerLineList.add(markerLineStart);
-            markerLineList.add(markerLineEnd);
-
-            matrixList.add(matrixStart);
-            matrixList.add(matrixEnd);
-
-            markerHoverTransitionList.add(markerTransitionOn);
-            markerHoverTransitionList.add(markerTransitionOff);
+    public static CycleLook createOrbVallisLook() {
+        return new CycleLook.PleaseBuildCycleLook()
+                .marker(Sunconfig.ORBVALLIS_MARKER_WIDTH, Sunconfig.ORBVALLIS_MARKER_LENGTH, Color.TRANSPARENT/*Sunconfig.Color_Of_OrbVallisMarker*/, ""/*Sunconfig.ORBVALLIS_MARKER_SHADOW*/)
+                .horizon(Sunconfig.ORBVALLIS_HORIZON_SCALE, Sunconfig.ORBVALLIS_HORIZON_OFFSET)
+                .arc(Sunconfig.Color_Of_OrbVallisArc, Sunconfig.ORBVALLIS_ARC_GRADIENT_STOP1, Sunconfig.ORBVALLIS_ARC_GRADIENT_STOP2, Sunconfig.ORBVALLIS_ARC_OPACITY)
+                .arcMouseTransparent(true)
+                .overlayMouseTransparent(true)
+                .blendMode(BlendMode.SRC_OVER)
+                .animationDuration(Sunconfig.ORBVALLIS_MARKER_DURATION)
+                .timerColor(Sunconfig.Color_Of_OrbVallisWarm, Sunconfig.Color_Of_OrbVallisCold)
+                .timerStyle(Sunconfig.ORBVALLIS_TIMER)
+                .timer(Sunconfig.ORBVALLIS_TIMER_SCALE, Sunconfig.ORBVALLIS_TIMER_OFFSET)
+                .logo(Sunresources.getLogoSolarisUnited(), 1.0, 0, 0)
+                .controlAngle(Sunconfig.CONTROL_ORBVALLIS_ANGLE)
+                .helpText(Sunconfig.HELPTEXT_ORBVALLIS)
+                .thankYou();
+    }
 
-        }
+    public static DotMatrix createCycleTimer(CycleLook look) {
+        DotMatrix cycleTimer = new DotMatrix("0h00m00s", look.getMainColor());
+        cycleTimer.setScaleX(look.getTimerScale());
+        cycleTimer.setScaleY(look.getTimerScale());
+        cycleTimer.setLayoutX(Sunconfig.CENTER_X - cycleTimer.getLayoutBounds().getWidth() / 2);
+        cycleTimer.setLayoutY(look.getTimerOffset());
+        Sunstyle.setStyleClass(cycleTimer, look.getTimerStyle());
+        cycleTimer.setVisible(false);
+        return cycleTimer;
+    }
 
-        arcGroup.setBlendMode(blendMode);
+    public static ControlThingy createCycleControlThingy(CycleLook look, Text helpText) {
 
-        markerGroup.getChildren().addAll(arcGroup, horizonGroup);
+        ControlThingy.PleaseBuildControlThingy builder = new ControlThingy.PleaseBuildControlThingy()
+                .positionPolar(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sunconfig.CONTROL_CHART_OFFSET, look.getControlAngle())
+                .size(Sunconfig.CONTROL_CHART_RADIUS)
+                .colorStroke(Sunconfig.Color_Of_ResizeStroke, Color.WHITE)
+                .strokeWidth(Sunconfig.CONTROL_CHART_STROKE_WIDTH)
+                .colorFill(Sunconfig.Color_Of_ResizeFill)
+                .style(Sunconfig.CONTROL_RESIZE)
+                .cursor(Cursor.HAND)
+                .helpText(look.getHelpText(), helpText);
 
-        return markerGroup;
-    }
+        if (look.getLogo() != null) {
+            builder.image(look.getLogo(), look.getLogoScale(), look.getLogoOffsetX(), look.getLogoOffsetY(), Sunconfig.CONTROL_RESIZE);
+        }
 
-    public static DotMatrix createCetusTimer() {
-        DotMatrix cetusTimer = new DotMatrix("0h00m00s", Sunconfig.Color_Of_CetusNight);
-        cetusTimer.setScaleX(Sunconfig.CETUS_TIMER_SCALE);
-        cetusTimer.setScaleY(Sunconfig.CETUS_TIMER_SCALE);
-        cetusTimer.setLayoutX(Sunconfig.CENTER_X - cetusTimer.getLayoutBounds().getWidth() / 2);
-        cetusTimer.setLayoutY(Sunconfig.CETUS_TIMER_OFFSET);
-        cetusTimer.setStyle(Sunconfig.CETUS_MATRIX_SHADOW_NIGHT);
-        cetusTimer.setVisible(false);
-        return cetusTimer;
+        return builder.thankYou();
     }
 
-    public static DotMatrix createOrbVallisTimer() {
-        DotMatrix cetusTimer = new DotMatrix("0h00m00s", Sunconfig.Color_Of_OrbVallisWarm);
-        cetusTimer.setScaleX(Sunconfig.ORBVALLIS_TIMER_SCALE);
-        cetusTimer.setScaleY(Sunconfig.ORBVALLIS_TIMER_SCALE);
-        cetusTimer.setLayoutX(Sunconfig.CENTER_X - cetusTimer.getLayoutBounds().getWidth() / 2);
-        cetusTimer.setLayoutY(Sunconfig.ORBVALLIS_TIMER_OFFSET);
-        cetusTimer.setStyle(Sunconfig.ORBVALLIS_MATRIX_SHADOW_WARM);
-        cetusTimer.setVisible(false);
-        return cetusTimer;
-    }
 
     public static Group createDialMinuteMarkers() {
 
@@ -1371,7 +1174,7 @@ public class Suncreator {
             markerLineB.setStrokeWidth(strokeWidthB);
             markerLineB.setStrokeLineCap(StrokeLineCap.BUTT);
             markerLineB.setOpacity(lineOpacityB);
-            markerLineB.setStyle(style);
+            Sunstyle.setStyleClass(markerLineB, style);
             markerLineB.setMouseTransparent(true);
 
             Group markerGroupA = new Group(markerLineA);
@@ -1391,7 +1194,6 @@ public class Suncreator {
                 DotMatrix markerMatrix = new DotMatrix("" + ((12 + i / 4) % 24), Sunconfig.Color_Of_LocalTime);
                 markerMatrix.setTranslateX(Sunconfig.CENTER_X - markerMatrix.getLayoutBounds().getWidth() / 2);
                 markerMatrix.setTranslateY(Sunconfig.MATRIX_MARKER_OFFSET);
-                markerMatrix.setStyle(Sunconfig.MATRIX_SHADOW);
 
                 double rotationAdjust = i * -3.75d;
                 markerMatrix.setRotate(rotationAdjust);
@@ -1450,7 +1252,7 @@ public class Suncreator {
         Group group = new Group(circle);
         group.setLayoutX(Sunconfig.CENTER_X - Sunconfig.DOT_RADIUS_SMOL);
         group.setLayoutY(Sunconfig.CENTER_Y - Sunconfig.DOT_RADIUS_SMOL);
-        group.setStyle(Sunconfig.MATRIX_SHADOW2);
+        Sunstyle.setStyleClass(group, Sunconfig.MATRIX_SHADOW2);
 
         return group;
     }
@@ -1485,17 +1287,18 @@ public class Suncreator {
         morphingPolygon.setStrokeWidth(Sunconfig.HIGHNOON_STROKE_WIDTH);
         morphingPolygon.setStrokeLineCap(StrokeLineCap.ROUND);
         morphingPolygon.setOpacity(Sunconfig.DIAL_HIGH_NOON_OPACITY);
-        morphingPolygon.setStyle(Sunconfig.LOCALNOON_DIAL_GLOW);
+        Sunstyle.setStyleClass(morphingPolygon, Sunconfig.LOCALNOON_DIAL_GLOW);
 
         Circle sunDot = new Circle(Sunconfig.CENTER_X, Sunconfig.CENTER_Y - Sunconfig.DAYLENGTH_ARC_RADIUS, Sunconfig.SUNDOT_RADIUS);
         sunDot.setFill(Sunconfig.Color_Of_HighNoon);
         sunDot.setStroke(Color.TRANSPARENT);
-        sunDot.setStyle(Sunconfig.SUNDOT_GLOW);
+        Sunstyle.setStyleClass(sunDot, Sunconfig.SUNDOT_GLOW);
 
         dialHighNoonGroup.getChildren().addAll(sunDot, morphingPolygon);
         dialHighNoonGroup.getTransforms().add(highNoonDialRotate);
 //        dialHighNoonGroup.setStyle(Sunconfig.LOCALNOON_DIAL_GLOW);
 //        dialHighNoonGroup.setMouseTransparent(true);
+        Sunstyle.setStyleClass(dialHighNoonGroup, Sunconfig.LOCALNOON_DIAL_HOT);
 
         return dialHighNoonGroup;
     }
@@ -1518,7 +1321,7 @@ public class Suncreator {
         return arc;
     }
 
-    public static Group createDialMidnightGroup(Paint paint, String style, double angle) {
+    public static Group createDialMidnightGroup(Paint paint, String styleClass, double angle) {
 
         double polyMid = Sunconfig.SUPER_NICE_ARC_RADIUS_SMOL * (1 - SuperNiceArc.START_CURVE_HEIGHT);
         double polyStart = Sunconfig.SUPER_NICE_ARC_RADIUS_SMOL * (1 + SuperNiceArc.END_CURVE_HEIGHT) - Sunconfig.SUPER_NICE_ARC_START_EXTENSION;
@@ -1534,7 +1337,7 @@ public class Suncreator {
         polygon.setTranslateX(Sunconfig.CENTER_X);
         polygon.setStroke(Color.TRANSPARENT);
         polygon.setFill(paint);
-        polygon.setStyle(style);
+        Sunstyle.setStyleClass(polygon, styleClass);
 
         Group group = new Group(polygon);
         group.setMouseTransparent(true);
@@ -1609,7 +1412,7 @@ public class Suncreator {
 
         Group dialLocalHourGroup = new Group(morphingPolygon);
         dialLocalHourGroup.getTransforms().add(dialRotateLocalHour);
-        dialLocalHourGroup.setStyle(Sunconfig.LOCALHOUR_DIAL_GLOW);
+        Sunstyle.setStyleClass(dialLocalHourGroup, Sunconfig.LOCALHOUR_DIAL_GLOW);
         dialLocalHourGroup.setBlendMode(BlendMode.SCREEN);
         dialLocalHourGroup.setMouseTransparent(true);
 
@@ -1646,7 +1449,7 @@ public class Suncreator {
 
         Group dialLocalMinuteGroup = new Group(localMinuteLine);
         dialLocalMinuteGroup.getTransforms().add(dialRotateLocalMinute);
-        dialLocalMinuteGroup.setStyle(Sunconfig.LOCALMINUTE_DIAL_GLOW);
+        Sunstyle.setStyleClass(dialLocalMinuteGroup, Sunconfig.LOCALMINUTE_DIAL_GLOW);
         dialLocalMinuteGroup.setMouseTransparent(true);
 
         return dialLocalMinuteGroup;
@@ -1665,7 +1468,7 @@ public class Suncreator {
 
         Group dialLocalSecondGroup = new Group(localSecondLine);
         dialLocalSecondGroup.getTransforms().add(dialRotateLocalSecond);
-        dialLocalSecondGroup.setStyle(Sunconfig.LOCALSECOND_DIAL_GLOW);
+        Sunstyle.setStyleClass(dialLocalSecondGroup, Sunconfig.LOCALSECOND_DIAL_GLOW);
         dialLocalSecondGroup.setMouseTransparent(true);
 
         return dialLocalSecondGroup;
@@ -1691,7 +1494,7 @@ public class Suncreator {
             localSecond.setTranslateY(Sunconfig.LOCALSECOND_OFFSET);
             localSecond.setFill(Sunconfig.Color_Of_Seconds);
             localSecond.setStroke(Sunconfig.Color_Of_Void);
-            localSecond.setStyle(Sunconfig.LOCALSECOND_GLOW);
+            Sunstyle.setStyleClass(localSecond, Sunconfig.LOCALSECOND_GLOW);
             localSecond.setMouseTransparent(true);
 
             Polygon localSecondPoly = new Polygon(
@@ -1706,7 +1509,7 @@ public class Suncreator {
             localSecondPoly.setTranslateY(Sunconfig.LOCALMINUTE_OFFSET);
             localSecondPoly.setFill(Sunconfig.Color_Of_Seconds);
             localSecondPoly.setStroke(Sunconfig.Color_Of_Void);
-            localSecondPoly.setStyle(Sunconfig.LOCALSECOND_GLOW);
+            Sunstyle.setStyleClass(localSecondPoly, Sunconfig.LOCALSECOND_GLOW);
             localSecondPoly.setMouseTransparent(true);
 */
 
@@ -1716,7 +1519,7 @@ public class Suncreator {
             localSecondCircle.setTranslateY(Sunconfig.CENTER_Y + Sunconfig.DAYLENGTH_ARC_RADIUS + Sunconfig.LOCALSECOND_RADIUS_BIG * 1.5);
             localSecondCircle.setFill(Sunconfig.Color_Of_Seconds);
             localSecondCircle.setStroke(Sunconfig.Color_Of_Void);
-            localSecondCircle.setStyle(Sunconfig.LOCALSECOND_GLOW);
+            Sunstyle.setStyleClass(localSecondCircle, Sunconfig.LOCALSECOND_GLOW);
             localSecondCircle.setMouseTransparent(true);
 
             Rotate localSecondRotate = new Rotate();
@@ -1737,7 +1540,7 @@ public class Suncreator {
             localMinute.setTranslateY(Sunconfig.LOCALMINUTE_OFFSET);
             localMinute.setFill(Sunconfig.Color_Of_Minutes);
             localMinute.setStroke(Sunconfig.Color_Of_Void);
-            localMinute.setStyle(Sunconfig.LOCALMINUTE_GLOW);
+            Sunstyle.setStyleClass(localMinute, Sunconfig.LOCALMINUTE_GLOW);
             localMinute.setMouseTransparent(true);
 
             Polygon localMinutePoly = new Polygon(
@@ -1752,7 +1555,7 @@ public class Suncreator {
             localMinutePoly.setTranslateY(Sunconfig.LOCALMINUTE_OFFSET);
             localMinutePoly.setFill(Sunconfig.Color_Of_Minutes);
             localMinutePoly.setStroke(Sunconfig.Color_Of_Void);
-            localMinutePoly.setStyle(Sunconfig.LOCALMINUTE_GLOW);
+            Sunstyle.setStyleClass(localMinutePoly, Sunconfig.LOCALMINUTE_GLOW);
             localMinutePoly.setMouseTransparent(true);
 */
 
@@ -1762,7 +1565,7 @@ public class Suncreator {
             localMinuteCircle.setTranslateY(Sunconfig.LOCALMINUTE_CIRCLE_OFFSET);
             localMinuteCircle.setFill(Sunconfig.Color_Of_Minutes);
             localMinuteCircle.setStroke(Sunconfig.Color_Of_Void);
-            localMinuteCircle.setStyle(Sunconfig.LOCALMINUTE_GLOW);
+            Sunstyle.setStyleClass(localMinuteCircle, Sunconfig.LOCALMINUTE_GLOW);
             localMinuteCircle.setMouseTransparent(true);
 
             Rotate localMinuteRotate = new Rotate();
@@ -1794,7 +1597,7 @@ public class Suncreator {
         matrixSunrise.setRotate(90d);
         matrixSunrise.setScaleX(Sunconfig.MATRIX_HORIZON_SCALE);
         matrixSunrise.setScaleY(Sunconfig.MATRIX_HORIZON_SCALE);
-        matrixSunrise.setStyle(Sunconfig.MATRIX_GLOW2);
+        Sunstyle.setStyleClass(matrixSunrise, Sunconfig.MATRIX_GLOW2);
         return matrixSunrise;
     }
 
@@ -1805,7 +1608,7 @@ public class Suncreator {
         matrixSunset.setRotate(-90d);
         matrixSunset.setScaleX(Sunconfig.MATRIX_HORIZON_SCALE);
         matrixSunset.setScaleY(Sunconfig.MATRIX_HORIZON_SCALE);
-        matrixSunset.setStyle(Sunconfig.MATRIX_GLOW2);
+        Sunstyle.setStyleClass(matrixSunset, Sunconfig.MATRIX_GLOW2);
         return matrixSunset;
     }
 
@@ -1816,7 +1619,7 @@ public class Suncreator {
         Line line = new Line(Sunconfig.CENTER_X, Sunconfig.SUNRISE_DIAL_LENGTH, Sunconfig.CENTER_X, Sunconfig.MARGIN_Y);
         line.setStroke(Sunconfig.Color_Of_Horizon);
         line.setStrokeWidth(Sunconfig.SUNRISE_STROKE_WIDTH);
-        line.setStyle(Sunconfig.HORIZON_GLOW);
+        Sunstyle.setStyleClass(line, Sunconfig.HORIZON_GLOW);
         line.setVisible(false);
 
         Polygon polygonStart = new Polygon(
@@ -1844,7 +1647,7 @@ public class Suncreator {
         morphingPolygon.setTranslateX(Sunconfig.CENTER_X);
         morphingPolygon.setFill(Sunconfig.Color_Of_Horizon);
         morphingPolygon.setStroke(Color.TRANSPARENT);
-        morphingPolygon.setStyle(Sunconfig.HORIZON_GLOW);
+        Sunstyle.setStyleClass(morphingPolygon, Sunconfig.HORIZON_GLOW);
 
         group.getChildren().addAll(morphingPolygon, dotMatrix);
         group.getTransforms().add(rotate);
@@ -1854,20 +1657,20 @@ public class Suncreator {
 
     public static Group createMatrixDate(DotMatrix matrixDay, DotMatrix matrixMonth, DotMatrix matrixYear, DotMatrix matrixWeek) {
 
-        matrixDay.setStyle(Sunconfig.MATRIX_SHADOW);
-        matrixMonth.setStyle(Sunconfig.MATRIX_SHADOW);
-        matrixYear.setStyle(Sunconfig.MATRIX_SHADOW);
-        matrixWeek.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixDay, Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixMonth, Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixYear, Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixWeek, Sunconfig.MATRIX_SHADOW);
 
         DotMatrix matrixSeparatorDayToMonth = new DotMatrix(".", Sunconfig.Color_Of_LocalTime);
         matrixSeparatorDayToMonth.setTranslateX(matrixDay.getLayoutBounds().getWidth() + Sunconfig.MATRIX_SEPARATOR_OFFSET);
-        matrixSeparatorDayToMonth.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixSeparatorDayToMonth, Sunconfig.MATRIX_SHADOW);
 
         matrixMonth.setTranslateX(matrixSeparatorDayToMonth.getLayoutBounds().getWidth() + matrixSeparatorDayToMonth.getTranslateX() + Sunconfig.MATRIX_SEPARATOR_OFFSET);
 
         DotMatrix matrixSeparatorMonthToYear = new DotMatrix(".", Sunconfig.Color_Of_LocalTime);
         matrixSeparatorMonthToYear.setTranslateX(matrixMonth.getLayoutBounds().getWidth() + matrixMonth.getTranslateX() + Sunconfig.MATRIX_SEPARATOR_OFFSET);
-        matrixSeparatorMonthToYear.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixSeparatorMonthToYear, Sunconfig.MATRIX_SHADOW);
 
         matrixYear.setTranslateX(matrixSeparatorMonthToYear.getLayoutBounds().getWidth() + matrixSeparatorMonthToYear.getTranslateX() + Sunconfig.MATRIX_SEPARATOR_OFFSET);
 
@@ -1888,19 +1691,19 @@ public class Suncreator {
 
     public static Group createMatrixTime(DotMatrix matrixHour, DotMatrix matrixMinute, DotMatrix matrixSecond) {
 
-        matrixHour.setStyle(Sunconfig.MATRIX_SHADOW);
-        matrixMinute.setStyle(Sunconfig.MATRIX_SHADOW);
-        matrixSecond.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixHour, Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixMinute, Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixSecond, Sunconfig.MATRIX_SHADOW);
 
         DotMatrix matrixSeparatorHourToMinute = new DotMatrix(":", Sunconfig.Color_Of_LocalTime);
         matrixSeparatorHourToMinute.setTranslateX(matrixHour.getLayoutBounds().getWidth() + Sunconfig.MATRIX_SEPARATOR_OFFSET);
-        matrixSeparatorHourToMinute.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixSeparatorHourToMinute, Sunconfig.MATRIX_SHADOW);
 
         matrixMinute.setTranslateX(matrixSeparatorHourToMinute.getLayoutBounds().getWidth() + matrixSeparatorHourToMinute.getTranslateX()/* + Sunconfig.MATRIX_SEPARATOR_OFFSET*/);
 
         DotMatrix matrixSeparatorMinuteToSecond = new DotMatrix(":", Sunconfig.Color_Of_LocalTime);
         matrixSeparatorMinuteToSecond.setTranslateX(matrixMinute.getLayoutBounds().getWidth() + matrixMinute.getTranslateX() + Sunconfig.MATRIX_SEPARATOR_OFFSET);
-        matrixSeparatorMinuteToSecond.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixSeparatorMinuteToSecond, Sunconfig.MATRIX_SHADOW);
 
         matrixSecond.setTranslateX(matrixSeparatorMinuteToSecond.getLayoutBounds().getWidth() + matrixSeparatorMinuteToSecond.getTranslateX() + Sunconfig.MATRIX_SEPARATOR_OFFSET);
 
@@ -1921,7 +1724,7 @@ public class Suncreator {
         dialArcDayLength.setStrokeWidth(Sunconfig.DAYLENGTH_STROKE_WIDTH);
         dialArcDayLength.setFill(Sunconfig.Color_Of_Void);
         dialArcDayLength.setOpacity(Sunconfig.DAYLENGTH_ARC_OPACITY);
-        dialArcDayLength.setStyle(Sunconfig.MATRIX_GLOW);
+        Sunstyle.setStyleClass(dialArcDayLength, Sunconfig.MATRIX_GLOW);
         dialArcDayLength.setMouseTransparent(true);
         return dialArcDayLength;
     }
@@ -1932,7 +1735,7 @@ public class Suncreator {
         matrixDayLength.setScaleY(Sunconfig.MATRIX_DAYLENGTH_SCALE);
         matrixDayLength.setLayoutX(Sunconfig.CENTER_X - matrixDayLength.getLayoutBounds().getWidth() / 2);
         matrixDayLength.setLayoutY(Sunconfig.CENTER_Y + matrixDayLength.getLayoutBounds().getHeight() - Sunconfig.DAYLENGTH_ARC_RADIUS * 0.97);
-        matrixDayLength.setStyle(Sunconfig.LOCALTIME_SHADOW);
+        Sunstyle.setStyleClass(matrixDayLength, Sunconfig.LOCALTIME_SHADOW);
         matrixDayLength.setOpacity(Sunconfig.DAYLENGTH_MATRIX_OPACITY);
         matrixDayLength.setMouseTransparent(true);
         return matrixDayLength;
@@ -1945,7 +1748,7 @@ public class Suncreator {
         matrixLongitude.setScaleY(Sunconfig.MATRIX_LONGITUDE_SCALE);
         matrixLongitude.setLayoutX(Sunconfig.CENTER_X + Sunconfig.MATRIX_LONGITUDE_SLIDE - matrixLongitude.getLayoutBounds().getWidth() / 2);
         matrixLongitude.setLayoutY(Sunconfig.MATRIX_LONGITUDE_OFFSET);
-        matrixLongitude.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixLongitude, Sunconfig.MATRIX_SHADOW);
 
         Rectangle longitudeBackdrop = new Rectangle(
                 matrixLongitude.getLayoutBounds().getMinX(),
@@ -1966,7 +1769,7 @@ public class Suncreator {
         matrixLatitude.setScaleY(Sunconfig.MATRIX_LATITUDE_SCALE);
         matrixLatitude.setLayoutX(Sunconfig.CENTER_X + Sunconfig.MATRIX_LATITUDE_SLIDE - matrixLatitude.getLayoutBounds().getWidth() / 2);
         matrixLatitude.setLayoutY(Sunconfig.MATRIX_LATITUDE_OFFSET);
-        matrixLatitude.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixLatitude, Sunconfig.MATRIX_SHADOW);
 
         Rectangle latitudeBackdrop = new Rectangle(
                 matrixLatitude.getLayoutBounds().getMinX(),
@@ -1986,7 +1789,7 @@ public class Suncreator {
         matrixHighNoon.setScaleY(Sunconfig.MATRIX_HIGHNOON_SCALE);
         matrixHighNoon.setLayoutX(Sunconfig.CENTER_X - matrixHighNoon.getLayoutBounds().getWidth() / 2);
         matrixHighNoon.setLayoutY(Sunconfig.MARGIN_Y + matrixHighNoon.getLayoutBounds().getHeight() / 2);
-        matrixHighNoon.setStyle(Sunconfig.MATRIX_GLOW);
+        Sunstyle.setStyleClass(matrixHighNoon, Sunconfig.MATRIX_GLOW);
         matrixHighNoon.setMouseTransparent(true);
         matrixHighNoon.setVisible(false);
         return matrixHighNoon;
@@ -1998,7 +1801,7 @@ public class Suncreator {
         matrixTimeZone.setScaleY(Sunconfig.MATRIX_TIMEZONE_SCALE);
         matrixTimeZone.setLayoutX(Sunconfig.CENTER_X - matrixTimeZone.getLayoutBounds().getWidth() / 2);
         matrixTimeZone.setLayoutY(Sunconfig.MATRIX_TIMEZONE_OFFSET);
-        matrixTimeZone.setStyle(Sunconfig.MATRIX_SHADOW);
+        Sunstyle.setStyleClass(matrixTimeZone, Sunconfig.MATRIX_SHADOW);
         matrixTimeZone.setOpacity(Sunconfig.MATRIX_TIMEZONE_DEFAULT_OPACITY);
 //        matrixTimeZone.setVisible(false);
         return matrixTimeZone;
@@ -2146,13 +1949,13 @@ public class Suncreator {
         Circle helpWindowMarker = new Circle(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sundial.DEFAULT_WIDTH / 2 - 1);
         helpWindowMarker.setFill(Sunconfig.Color_Of_Void);
         helpWindowMarker.setStroke(Color.WHITE);
-        helpWindowMarker.setStyle(Sunconfig.HELP_MARKER_GLOW);
+        Sunstyle.setStyleClass(helpWindowMarker, Sunconfig.HELP_MARKER_GLOW);
         helpWindowMarker.setMouseTransparent(true);
 
         Circle helpGlobeMarker = new Circle(Sunconfig.CENTER_X, Sunconfig.CENTER_Y, Sundial.DEFAULT_WIDTH / 2 - Sunconfig.MARGIN_X);
         helpGlobeMarker.setFill(Sunconfig.Color_Of_Void);
         helpGlobeMarker.setStroke(Color.WHITE);
-        helpGlobeMarker.setStyle(Sunconfig.HELP_MARKER_GLOW);
+        Sunstyle.setStyleClass(helpGlobeMarker, Sunconfig.HELP_MARKER_GLOW);
         helpGlobeMarker.setMouseTransparent(true);
 
         // Full help overlay with cutouts and markers
@@ -2167,9 +1970,9 @@ public class Suncreator {
     public static Group createMiroTextGroup(Text text) {
 
         text.setText(Sunconfig.MIRO_TEXT);
-        text.setFont(Sunconfig.FONT_MINI);
+        text.setFont(Sunresources.getFontMini());
         text.setFill(Color.WHITE);
-        text.setStyle(Sunconfig.HELP_MARKER_GLOW);
+        Sunstyle.setStyleClass(text, Sunconfig.HELP_MARKER_GLOW);
 
         text.setX(Sunconfig.CENTER_X - text.getLayoutBounds().getWidth() / 2);
         text.setY(Sunconfig.CENTER_Y * 2 - Sunconfig.MARGIN_Y - Sunconfig.MARKER_HOUR_LENGTH);
@@ -2194,12 +1997,12 @@ public class Suncreator {
         rectangle.setArcHeight(Sunconfig.HELP_MARKER_ROUND);
         rectangle.setFill(Sunconfig.Color_Of_Void);
         rectangle.setStroke(Color.WHITE);
-        rectangle.setStyle(Sunconfig.HELP_MARKER_GLOW);
+        Sunstyle.setStyleClass(rectangle, Sunconfig.HELP_MARKER_GLOW);
 
         Circle circle = new Circle(Sunconfig.HELP_MARKER_RADIUS);
         circle.setFill(Sunconfig.Color_Of_Void);
         circle.setStroke(Color.WHITE);
-        circle.setStyle(Sunconfig.HELP_MARKER_GLOW);
+        Sunstyle.setStyleClass(circle, Sunconfig.HELP_MARKER_GLOW);
 
         Group group = new Group();
 
@@ -7,6 +7,8 @@ import javafx.beans.property.SimpleDoubleProperty;
 import javafx.event.Event;
 import javafx.scene.*;
 import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.DropShadow;
 import javafx.scene.input.DragEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
@@ -20,6 +22,7 @@ import javafx.util.Duration;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
 import java.util.TimeZone;
 
 import static java.lang.Math.*;
@@ -38,6 +41,17 @@ public class Sundial {
     private double sunsetDialAngle;
     private double dialAngleLocalHour;
     private double nightCompression;
+    private double markerNightCompression = Double.NaN;     // level the marker rotations were last written for
+    private int highlightedHourStart = -1;
+    private int highlightedHourEnd = -1;
+
+    // hour markers change glow every minute, so their effects are set from code and they stay out of the stylesheet
+    private final DropShadow hourMarkerShadow = new DropShadow(BlurType.THREE_PASS_BOX, Color.rgb(32, 128, 255), 5, 0.6, 0, 0);
+    private final DropShadow hourMarkerGlowStart = new DropShadow(BlurType.THREE_PASS_BOX, Color.rgb(32, 128, 255), 5, 0.6, 0, 0);
+    private final DropShadow hourMarkerGlowEnd = new DropShadow(BlurType.THREE_PASS_BOX, Color.rgb(32, 128, 255), 5, 0.6, 0, 0);
+    private boolean hourMarkerEffectsEh = true;
+
+    private final Suncache staticLayerCache = new Suncache();
     private boolean timeWarning;
     private boolean timezoneWarning;
     private boolean longitudeWarning;
@@ -71,10 +85,6 @@ public class Sundial {
     private Rotate arcHourRotate;
 
     private ArrayList<Rotate> dialMarkerRotateList;
-    private ArrayList<Rotate> cetusMarkerRotateList;
-    private ArrayList<Double> cetusMarkerAngleList;
-    private ArrayList<Rotate> orbVallisMarkerRotateList;
-    private ArrayList<Double> orbVallisMarkerAngleList;
     private Scale sunHighNoonScale;
 
     private Arc dialArcNight;
@@ -96,10 +106,6 @@ public class Sundial {
     private Group dialMidnightGroup;
     private Group dialMiddayGroup;
     private Group dialHighNoonGroup;
-    private ArrayList<Arc> cetusMarkerArcList;
-    private ArrayList<Line> cetusMarkerLineList;
-    private ArrayList<Arc> orbVallisMarkerArcList;
-    private ArrayList<Line> orbVallisMarkerLineList;
     private ArcHour arcHour;
     private Group arcHourGroup;
 
@@ -110,8 +116,6 @@ public class Sundial {
     private ArrayList<Timeline> dialLocalSecondLedOffList;
     private ArrayList<Timeline> dialLocalMinuteLedOffList;
     private ArrayList<Timeline> dialLocalMinuteLedDimList;
-    private ArrayList<Timeline> cetusMarkerHoverTransitionList;
-    private ArrayList<Timeline> orbVallisMarkerHoverTransitionList;
 
     private DotMatrix matrixYear;
     private DotMatrix matrixMonth;
@@ -125,12 +129,9 @@ public class Sundial {
     private DotMatrix matrixDayLength;
     private DotMatrix matrixLongitude;
     private DotMatrix matrixLatitude;
+    private final char[] coordinateChars = new char[Sunformat.COORDINATE_LENGTH + 1];
     private DotMatrix matrixHighNoon;
     private ArrayList<DotMatrix> hourMarkerMatrixList;
-    private DotMatrix cetusTimer;
-    private ArrayList<DotMatrix> cetusTimeMatrixList;
-    private DotMatrix orbVallisTimer;
-    private ArrayList<DotMatrix> orbVallisTimeMatrixList;
     private DotMatrix matrixTimeZone;
 
     private SunHighNoon sunHighNoon;
@@ -144,8 +145,6 @@ public class Sundial {
     private ControlThingy controlThingyAlwaysOnTop;
     private ControlThingy controlThingyAnimation;
     private ControlThingy controlThingyChart;
-    private ControlThingy controlThingyCetus;
-    private ControlThingy controlThingyOrbVallis;
     private ControlThingy controlThingyGlobeGrid;
     private ControlThingy controlThingyGlobeLines;
     private ControlThingy controlThingyDst;
@@ -158,8 +157,8 @@ public class Sundial {
     private Group globeMasterGroup;
     private Scale tinyGlobeScale;
     private Group horizonGroup;
-    private Group cetusMarkerGroup;
-    private Group orbVallisMarkerGroup;
+    private Group cycleMarkersGroup;
+    private Group cycleTimersGroup;
     private Group matrixTime;
     private Group matrixDate;
     private Group helpOverlay;
@@ -201,8 +200,6 @@ public class Sundial {
     private Group miroTextGroup;
 
     private boolean globeVisibleEh = false;
-    private boolean cetusTimeVisibleEh = false;
-    private boolean orbVallisTimeVisibleEh = false;
     private boolean ledAnimationOnEh = true;
     private boolean globeAnimationEh = true;
     private boolean helpEh = false;
@@ -214,6 +211,10 @@ public class Sundial {
     private BooleanProperty animationProperty;
     private BooleanProperty pinInfoProperty;
 
+    private CycleProviderRegistry cycleProviderRegistry;
+    private CycleMarkerPool cycleMarkerPool;
+    private LinkedHashMap<String, CycleOverlay> cycleOverlayMap;
+
 
     // Constructor
     public Sundial(PleaseBuildSundial builder) {
@@ -223,6 +224,7 @@ public class Sundial {
         this.sunsetDialAngle = builder.sunsetDialAngle;
         this.dialAngleLocalHour = builder.localTimeDialAngle;
         this.nightCompression = builder.nightCompression;
+        this.cycleProviderRegistry = builder.cycleProviderRegistry;
         this.sunTime = new GregorianCalendar();
         this.highNoon = new GregorianCalendar();
         this.sunrise = new GregorianCalendar();
@@ -239,6 +241,7 @@ public class Sundial {
         private double sunsetDialAngle;
         private double localTimeDialAngle;
         private double nightCompression;
+        private CycleProviderRegistry cycleProviderRegistry;
 
         public PleaseBuildSundial() {
             this.sunTimeDialAngle = Sunconfig.DEFAULT_sunTimeDialAngle;
@@ -247,6 +250,7 @@ public class Sundial {
             this.sunTimeDialAngle = Sunconfig.DEFAULT_sunsetDialAngle;
             this.localTimeDialAngle = Sunconfig.DEFAULT_localTimeDialAngle;
             this.nightCompression = Sunconfig.DEFAULT_nightCompression;
+            this.cycleProviderRegistry = new CycleProviderRegistry();
         }
 
         public PleaseBuildSundial sunTimeDialAngle(double sunTimeDialAngle) {
@@ -279,6 +283,12 @@ public class Sundial {
             return this;
         }
 
+        public PleaseBuildSundial cycleProviders(CycleProviderRegistry cycleProviderRegistry) {
+            if (cycleProviderRegistry == null) { return this; }
+            this.cycleProviderRegistry = cycleProviderRegistry;
+            return this;
+        }
+
         public Sundial thankYou() {
             return new Sundial(this);
         }
@@ -289,6 +299,7 @@ public class Sundial {
 
         // variables
         dialsGroup = new Group();
+        Sunstyle.addStylesheet(dialsGroup);
         helpText = new Text();
 
         globeGridVisibleEh = new SimpleBooleanProperty(false);
@@ -366,71 +377,22 @@ public class Sundial {
         tinyGlobeMoveInTimeline = Suncreator.createTinyGlobeTimeline(Suncreator.TimelineDirection.IN, tinyGlobeGroup, tinyGlobeScale);
         tinyGlobeMoveOutTimeline = Suncreator.createTinyGlobeTimeline(Suncreator.TimelineDirection.OUT, tinyGlobeGroup, tinyGlobeScale);
 
-        // Cetus stuff
-        cetusMarkerRotateList = new ArrayList<>();
-        cetusMarkerLineList = new ArrayList<>();
-        cetusMarkerArcList = new ArrayList<>();
-        cetusMarkerAngleList = new ArrayList<>();
-        cetusTimeMatrixList = new ArrayList<>();
-        cetusMarkerHoverTransitionList = new ArrayList<>();
-
-        cetusMarkerGroup = Suncreator.createKriegsrahmenZeitMarkerGroup(
-                KriegsrahmenZeit.Location.CETUS,
-                centerRotate,
-                cetusMarkerAngleList,
-                cetusMarkerRotateList,
-                cetusMarkerLineList,
-                cetusMarkerArcList,
-                cetusTimeMatrixList,
-                cetusMarkerHoverTransitionList
-        );
-
-        cetusTimer = Suncreator.createCetusTimer();
-        cetusTimer.setMouseTransparent(true);
+        // Cycle provider overlays
+        cycleMarkerPool = new CycleMarkerPool(centerRotate);
+        cycleOverlayMap = new LinkedHashMap<>();
 
-        setCetusTimeVisibility(cetusTimeVisibleEh);
+        cycleMarkersGroup = new Group();
+        cycleTimersGroup = new Group();
 
-        // Orb Vallis stuff
-        orbVallisMarkerRotateList = new ArrayList<>();
-        orbVallisMarkerLineList = new ArrayList<>();
-        orbVallisMarkerArcList = new ArrayList<>();
-        orbVallisMarkerAngleList = new ArrayList<>();
-        orbVallisTimeMatrixList = new ArrayList<>();
-        orbVallisMarkerHoverTransitionList = new ArrayList<>();
+        for (CycleProvider provider : cycleProviderRegistry.getProviders()) {
 
-        orbVallisMarkerGroup = Suncreator.createKriegsrahmenZeitMarkerGroup(
-                KriegsrahmenZeit.Location.ORB_VALLIS,
-                centerRotate,
-                orbVallisMarkerAngleList,
-                orbVallisMarkerRotateList,
-                orbVallisMarkerLineList,
-                orbVallisMarkerArcList,
-                orbVallisTimeMatrixList,
-                orbVallisMarkerHoverTransitionList
-        );
-        orbVallisMarkerGroup.setMouseTransparent(true);
-
-        orbVallisTimer = Suncreator.createOrbVallisTimer();
-        orbVallisTimer.setMouseTransparent(true);
+            CycleOverlay cycleOverlay = new CycleOverlay(provider, cycleProviderRegistry.getLook(provider), cycleMarkerPool, helpText);
 
-        setOrbVallisTimeVisibility(orbVallisTimeVisibleEh);
-
-        // Bind timer position to adversary's visibility
-        cetusTimer.translateXProperty().bind(Bindings.createDoubleBinding(() -> {
-            double deltaX = 0;
-            if (orbVallisTimer.visibleProperty().get()) {
-                deltaX = -cetusTimer.getLayoutBounds().getWidth() / 2 - 5;
-            }
-            return deltaX;
-        }, orbVallisTimer.visibleProperty()));
+            cycleMarkersGroup.getChildren().add(cycleOverlay.getOverlayGroup());
+            cycleTimersGroup.getChildren().add(cycleOverlay.getTimer());
 
-        orbVallisTimer.translateXProperty().bind(Bindings.createDoubleBinding(() -> {
-            double deltaX = 0;
-            if (cetusTimer.visibleProperty().get()) {
-                deltaX = orbVallisTimer.getLayoutBounds().getWidth()/ 2 + 5;
-            }
-            return deltaX;
-        }, cetusTimer.visibleProperty()));
+            cycleOverlayMap.put(provider.getCode(), cycleOverlay);
+        }
 
         // Hour markers
         dialHourMatrixMarkerGroup = new Group();
@@ -560,8 +522,6 @@ public class Sundial {
         controlThingyAnimation = Suncreator.createControlThingy(Suncreator.ControlThingyType.ANIMATION, helpText);
         controlThingyPinInfo = Suncreator.createControlThingy(Suncreator.ControlThingyType.PIN_INFO, helpText);
         controlThingyChart = Suncreator.createControlThingy(Suncreator.ControlThingyType.CHART, helpText);
-        controlThingyCetus = Suncreator.createControlThingy(Suncreator.ControlThingyType.CETUS, helpText);
-        controlThingyOrbVallis = Suncreator.createControlThingy(Suncreator.ControlThingyType.ORBVALLIS, helpText);
 
         controlThingyGlobeGrid = Suncreator.createControlThingy(Suncreator.ControlThingyType.GLOBEGRID, helpText);
         controlThingyGlobeLines = Suncreator.createControlThingy(Suncreator.ControlThingyType.GLOBELINES, helpText);
@@ -576,19 +536,18 @@ public class Sundial {
                 controlThingyAnimation,
                 controlThingyPinInfo,
                 controlThingyChart,
-                controlThingyCetus,
-                controlThingyOrbVallis,
                 controlThingyHelp,
                 controlThingyGlobeGrid,
                 controlThingyGlobeLines
         );
 
+        for (CycleOverlay cycleOverlay : cycleOverlayMap.values()) {
+            outerControlsGroup.getChildren().add(cycleOverlay.getControlThingy());
+        }
+
         outerControlsGroupTimeline = Suncreator.createOuterControlsGroupTimeline(outerControlsGroup);
         outerControlsGroupQuickTimeline = Suncreator.createOuterControlsGroupQuickTimeline(outerControlsGroup);
 
-        controlThingyCetus.stateProperty().bind(cetusTimer.visibleProperty());
-        controlThingyOrbVallis.stateProperty().bind(orbVallisTimer.visibleProperty());
-
         controlThingyDst = Suncreator.createControlThingy(Suncreator.ControlThingyType.DST, helpText);
 
         controlThingyAnimation.stateProperty().bind(animationProperty);
@@ -734,8 +693,9 @@ public class Sundial {
         helpMarkers.add(Suncreator.createHelpMarker(controlThingyAnimation, null, null));
         helpMarkers.add(Suncreator.createHelpMarker(controlThingyPinInfo, null, null));
         helpMarkers.add(Suncreator.createHelpMarker(controlThingyChart, null, null));
-        helpMarkers.add(Suncreator.createHelpMarker(controlThingyCetus, null, null));
-        helpMarkers.add(Suncreator.createHelpMarker(controlThingyOrbVallis, null, null));
+        for (CycleOverlay cycleOverlay : cycleOverlayMap.values()) {
+            helpMarkers.add(Suncreator.createHelpMarker(cycleOverlay.getControlThingy(), null, null));
+        }
         helpMarkers.add(Suncreator.createHelpMarker(controlThingyHelp, null, null));
         helpMarkers.add(Suncreator.createHelpMarker(controlThingyGlobeGrid, null, null));
         helpMarkers.add(Suncreator.createHelpMarker(controlThingyGlobeLines, null, null));
@@ -761,8 +721,7 @@ public class Sundial {
                 ,dialCircleFrame
 //                ,dialMidnightGroup
                 ,dialMiddayGroup
-                ,cetusMarkerGroup
-                ,orbVallisMarkerGroup
+                ,cycleMarkersGroup
 //                ,dialMinuteMarkers
 //                ,dialLocalMinuteLedList
 //                ,dialLocalSecondLedList
@@ -778,8 +737,7 @@ public class Sundial {
                 ,arcHour
                 ,dialLocalHourSuperNiceArc
                 ,dialCircleCenterPoint
-                ,cetusTimer
-                ,orbVallisTimer
+                ,cycleTimersGroup
 //                ,matrixDayLength
                 ,masterTimeGroup
                 ,masterCoordinatesGroup
@@ -798,40 +756,50 @@ public class Sundial {
         dialsGroup.setScaleX(Sunconfig.SCALE_X);
         dialsGroup.setScaleY(Sunconfig.SCALE_Y);
 
+        // static layers go to bitmaps, hands, arcs, matrices and the globe stay live
+        staticLayerCache.add(
+                 dialMarginCircle
+                ,dialCircleBackground
+                ,dialHourLineMarkerGroupA
+                ,dialCircleFrame
+                ,dialHourLineMarkerGroupB
+        );
+        staticLayerCache.invalidate();
+
 
         // EVENTS
-        cetusMarkerGroup.setOnMouseEntered(event -> { cetusMarkerGroup.setCursor(globeVisibleEh ? Cursor.OPEN_HAND : Cursor.MOVE); });
-        cetusMarkerGroup.setOnMouseExited(event -> { cetusMarkerGroup.setCursor(Cursor.DEFAULT); });
+        cycleMarkersGroup.setOnMouseEntered(event -> { cycleMarkersGroup.setCursor(globeVisibleEh ? Cursor.OPEN_HAND : Cursor.MOVE); });
+        cycleMarkersGroup.setOnMouseExited(event -> { cycleMarkersGroup.setCursor(Cursor.DEFAULT); });
 
-        controlNightCompression.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_NIGHTCOMPRESSION); controlNightCompression.setCursor(Cursor.V_RESIZE); controlNightCompression.setStyle(Sunconfig.MATRIX_GLOW); });
-        controlNightCompression.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); controlNightCompression.setCursor(Cursor.DEFAULT); controlNightCompression.setStyle(Sunconfig.MATRIX_SHADOW2); });
+        controlNightCompression.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_NIGHTCOMPRESSION); controlNightCompression.setCursor(Cursor.V_RESIZE); setGroupGlow(controlNightCompression, true); });
+        controlNightCompression.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); controlNightCompression.setCursor(Cursor.DEFAULT); setGroupGlow(controlNightCompression, false); });
 
-        matrixYear.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_YEAR); matrixYear.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixYear, Sunconfig.MATRIX_GLOW); });
-        matrixYear.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixYear.setCursor(Cursor.DEFAULT); setGroupGlow(matrixYear, Sunconfig.MATRIX_SHADOW); });
+        matrixYear.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_YEAR); matrixYear.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixYear, true); });
+        matrixYear.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixYear.setCursor(Cursor.DEFAULT); setGroupGlow(matrixYear, false); });
 
-        matrixMonth.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_MONTH); matrixMonth.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixMonth, Sunconfig.MATRIX_GLOW); });
-        matrixMonth.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixMonth.setCursor(Cursor.DEFAULT); setGroupGlow(matrixMonth, Sunconfig.MATRIX_SHADOW); });
+        matrixMonth.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_MONTH); matrixMonth.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixMonth, true); });
+        matrixMonth.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixMonth.setCursor(Cursor.DEFAULT); setGroupGlow(matrixMonth, false); });
 
-        matrixDay.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_DAY); matrixDay.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixDay, Sunconfig.MATRIX_GLOW); });
-        matrixDay.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixDay.setCursor(Cursor.DEFAULT); setGroupGlow(matrixDay, Sunconfig.MATRIX_SHADOW); });
+        matrixDay.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_DAY); matrixDay.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixDay, true); });
+        matrixDay.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixDay.setCursor(Cursor.DEFAULT); setGroupGlow(matrixDay, false); });
 
-        matrixHour.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_HOUR); matrixHour.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixHour, Sunconfig.MATRIX_GLOW); });
-        matrixHour.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixHour.setCursor(Cursor.DEFAULT); setGroupGlow(matrixHour, Sunconfig.MATRIX_SHADOW); });
+        matrixHour.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_HOUR); matrixHour.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixHour, true); });
+        matrixHour.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixHour.setCursor(Cursor.DEFAULT); setGroupGlow(matrixHour, false); });
 
-        matrixMinute.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_MINUTE); matrixMinute.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixMinute, Sunconfig.MATRIX_GLOW); });
-        matrixMinute.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixMinute.setCursor(Cursor.DEFAULT); setGroupGlow(matrixMinute, Sunconfig.MATRIX_SHADOW); });
+        matrixMinute.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_MINUTE); matrixMinute.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixMinute, true); });
+        matrixMinute.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixMinute.setCursor(Cursor.DEFAULT); setGroupGlow(matrixMinute, false); });
 
-        matrixWeek.setOnMouseEntered(event -> { matrixWeek.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixWeek, Sunconfig.MATRIX_GLOW); });
-        matrixWeek.setOnMouseExited(event -> { matrixWeek.setCursor(Cursor.DEFAULT); setGroupGlow(matrixWeek, Sunconfig.MATRIX_SHADOW); });
+        matrixWeek.setOnMouseEntered(event -> { matrixWeek.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixWeek, true); });
+        matrixWeek.setOnMouseExited(event -> { matrixWeek.setCursor(Cursor.DEFAULT); setGroupGlow(matrixWeek, false); });
 
-        matrixLongitude.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_LONGITUDE); matrixLongitude.setCursor(Cursor.H_RESIZE); setGroupGlow(matrixLongitude, Sunconfig.MATRIX_GLOW); });
-        matrixLongitude.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixLongitude.setCursor(Cursor.DEFAULT); setGroupGlow(matrixLongitude, Sunconfig.MATRIX_SHADOW); });
+        matrixLongitude.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_LONGITUDE); matrixLongitude.setCursor(Cursor.H_RESIZE); setGroupGlow(matrixLongitude, true); });
+        matrixLongitude.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixLongitude.setCursor(Cursor.DEFAULT); setGroupGlow(matrixLongitude, false); });
 
-        matrixLatitude.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_LATITUDE); matrixLatitude.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixLatitude, Sunconfig.MATRIX_GLOW); });
-        matrixLatitude.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixLatitude.setCursor(Cursor.DEFAULT); setGroupGlow(matrixLatitude, Sunconfig.MATRIX_SHADOW); });
+        matrixLatitude.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_LATITUDE); matrixLatitude.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixLatitude, true); });
+        matrixLatitude.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixLatitude.setCursor(Cursor.DEFAULT); setGroupGlow(matrixLatitude, false); });
 
-        tinyGlobeFrame.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_TINYGLOBE); tinyGlobeFrame.setCursor(Cursor.HAND); tinyGlobeFrame.setStyle(Sunconfig.MATRIX_GLOW); });
-        tinyGlobeFrame.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); tinyGlobeFrame.setCursor(Cursor.DEFAULT); tinyGlobeFrame.setStyle(Sunconfig.MATRIX_SHADOW); });
+        tinyGlobeFrame.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_TINYGLOBE); tinyGlobeFrame.setCursor(Cursor.HAND); setGroupGlow(tinyGlobeFrame, true); });
+        tinyGlobeFrame.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); tinyGlobeFrame.setCursor(Cursor.DEFAULT); setGroupGlow(tinyGlobeFrame, false); });
 
         dialMarginCircle.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_WINDOW); dialMarginCircle.setCursor(Cursor.MOVE);/* dialMarginCircle.setFill(Sunconfig.Color_Of_Margin_Hover); */});
         dialMarginCircle.setOnMouseExited(event -> {  helpText.setText(Sunconfig.HELPTEXT_DEFAULT); dialMarginCircle.setCursor(Cursor.DEFAULT);/* dialMarginCircle.setFill(Sunconfig.Color_Of_MarginEnd); */});
@@ -842,11 +810,11 @@ public class Sundial {
 //        matrixDayLength.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_HORIZON); matrixDayLength.setCursor(Cursor.HAND); setGroupGlow(matrixDayLength, Sunconfig.MATRIX_GLOW); dialArcDayLength.setStyle(Sunconfig.MATRIX_GLOW); });
 //        matrixDayLength.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixDayLength.setCursor(Cursor.DEFAULT); setGroupGlow(matrixDayLength, Sunconfig.MATRIX_SHADOW); dialArcDayLength.setStyle(Sunconfig.MATRIX_SHADOW); });
 
-        dialHighNoonGroup.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_HIGHNOON); dialHighNoonGroup.setCursor(Cursor.HAND); setGroupGlow(dialHighNoonGroup, Sunconfig.LOCALNOON_DIAL_HOT); });
-        dialHighNoonGroup.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); dialHighNoonGroup.setCursor(Cursor.DEFAULT); setGroupGlow(dialHighNoonGroup, ""); });
+        dialHighNoonGroup.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_HIGHNOON); dialHighNoonGroup.setCursor(Cursor.HAND); setGroupGlow(dialHighNoonGroup, true); });
+        dialHighNoonGroup.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); dialHighNoonGroup.setCursor(Cursor.DEFAULT); setGroupGlow(dialHighNoonGroup, false); });
 
-        matrixTimeZone.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_TIMEZONE); matrixTimeZone.setCursor(Cursor.V_RESIZE); matrixTimeZone.setStyle(Sunconfig.MATRIX_GLOW); });
-        matrixTimeZone.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixTimeZone.setCursor(Cursor.DEFAULT); matrixTimeZone.setStyle(Sunconfig.MATRIX_SHADOW); });
+        matrixTimeZone.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_TIMEZONE); matrixTimeZone.setCursor(Cursor.V_RESIZE); setGroupGlow(matrixTimeZone, true); });
+        matrixTimeZone.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); matrixTimeZone.setCursor(Cursor.DEFAULT); setGroupGlow(matrixTimeZone, false); });
 
         miroTextGroup.setOnMouseEntered(event -> { helpText.setText(Sunconfig.HELPTEXT_MIRO); miroTextGroup.setCursor(Cursor.HAND); miroText.setUnderline(true); });
         miroTextGroup.setOnMouseExited(event -> { helpText.setText(Sunconfig.HELPTEXT_DEFAULT); miroTextGroup.setCursor(Cursor.DEFAULT); miroText.setUnderline(false); });
@@ -982,6 +950,19 @@ public class Sundial {
         updateNightCompression(-1);
     }
 
+    // several steps at once, rotations are only updated once
+    public void changeNightCompression(int steps) {
+
+        if (steps == 0) { return; }
+
+        double oldNightCompression = this.nightCompression;
+
+        this.nightCompression += steps * Sunconfig.STEP_nightCompression;
+        this.nightCompression = max(Sunconfig.MIN_nightCompression, min(Sunconfig.MAX_nightCompression, this.nightCompression));
+
+        if (this.nightCompression != oldNightCompression) { updateRotations(); }
+    }
+
     public void resetNightCompression() {
         if (this.nightCompression != 0) {
             this.nightCompression = 0;
@@ -1041,60 +1022,12 @@ public class Sundial {
         }
     }
 
-    public void updateCetusTimer(ArrayList<ArrayList<GregorianCalendar>> cycleList) {
-        updateKriegsrahmenTimer(KriegsrahmenZeit.Location.CETUS, cycleList);
-    }
-
-    public void updateOrbVallisTimer(ArrayList<ArrayList<GregorianCalendar>> cycleList) {
-        updateKriegsrahmenTimer(KriegsrahmenZeit.Location.ORB_VALLIS, cycleList);
-    }
-
-    public void updateKriegsrahmenTimer(
-            KriegsrahmenZeit.Location location,
-            ArrayList<ArrayList<GregorianCalendar>> cycleList
-    ) {
+    public void updateCycleTimer(CycleProvider provider, ArrayList<ArrayList<GregorianCalendar>> cycleList) {
 
-        DotMatrix dotMatrix;
-        Color mainColor, lastColor;
-        String mainStyle, lastStyle;
-
-        switch (location) {
-            case CETUS:
-                dotMatrix = cetusTimer;
-                mainColor = Sunconfig.Color_Of_CetusNight;
-                lastColor = Sunconfig.Color_Of_CetusDay;
-                mainStyle = Sunconfig.CETUS_MATRIX_SHADOW_NIGHT;
-                lastStyle = Sunconfig.CETUS_MATRIX_SHADOW_DAY;
-                break;
-            case ORB_VALLIS:
-                dotMatrix = orbVallisTimer;
-                mainColor = Sunconfig.Color_Of_OrbVallisWarm;
-                lastColor = Sunconfig.Color_Of_OrbVallisCold;
-                mainStyle = Sunconfig.ORBVALLIS_MATRIX_SHADOW_WARM;
-                lastStyle = Sunconfig.ORBVALLIS_MATRIX_SHADOW_COLD;
-                break;
-            default: return;
-        }
+        CycleOverlay cycleOverlay = cycleOverlayMap.get(provider.getCode());
+        if (cycleOverlay == null) { return; }
 
-        long offsetTime = 0;
-
-        int i = 0;
-        while (offsetTime <= 0 && (i / 2) < cycleList.size()) {
-            int cycleIndex = i / 2;
-            int cyclePhase = i % 2;
-            offsetTime = cycleList.get(cycleIndex).get(cyclePhase).getTimeInMillis() - localTime.getTimeInMillis();
-            i++;
-        }
-
-        dotMatrix.setString(Sunutil.getShortTimeLengthString(offsetTime / 1000d).substring(1));
-
-        if (i % 2 == 0) {
-            dotMatrix.setFill(mainColor);
-            dotMatrix.setStyle(mainStyle);
-        } else {
-            dotMatrix.setFill(lastColor);
-            dotMatrix.setStyle(lastStyle);
-        }
+        cycleOverlay.updateTimer(cycleList, localTime);
     }
 
     public void setHighNoon(GregorianCalendar highNoon, double angle) {
@@ -1213,129 +1146,17 @@ public class Sundial {
         ledOn.set(indexOn, true);
     }
 
-    public void setCetusTime(
-            ArrayList<ArrayList<GregorianCalendar>> cycleList,
-            GregorianCalendar calendar,
-            long timeZoneCorrection)
-    {
-        setKriegsrahmenZeit(KriegsrahmenZeit.Location.CETUS, cycleList, calendar, timeZoneCorrection);
-    }
-
-    public void setOrbVallisTime(
-            ArrayList<ArrayList<GregorianCalendar>> cycleList,
-            GregorianCalendar calendar,
-            long timeZoneCorrection)
-    {
-        setKriegsrahmenZeit(KriegsrahmenZeit.Location.ORB_VALLIS, cycleList, calendar, timeZoneCorrection);
-    }
-
-    public void setKriegsrahmenZeit(
-            KriegsrahmenZeit.Location location,
+    public void setCycles(
+            CycleProvider provider,
             ArrayList<ArrayList<GregorianCalendar>> cycleList,
             GregorianCalendar calendar,
             long timeZoneCorrection)
     {
 
-        if (cycleList == null || cycleList.isEmpty()) { return; }
-
-        ArrayList<Double> angleList;
-        ArrayList<Line> lineList;
-        ArrayList<Arc> arcList;
-        ArrayList<DotMatrix> matrixList;
-
-        switch (location) {
-            case CETUS:
-                angleList = cetusMarkerAngleList;
-                lineList = cetusMarkerLineList;
-                arcList = cetusMarkerArcList;
-                matrixList = cetusTimeMatrixList;
-                break;
-            case ORB_VALLIS:
-                angleList = orbVallisMarkerAngleList;
-                lineList = orbVallisMarkerLineList;
-                arcList = orbVallisMarkerArcList;
-                matrixList = orbVallisTimeMatrixList;
-                break;
-            default: return;
-        }
-
-        int angleListSize = angleList.size();
-        int cycleListSize = cycleList.size();
-
-        GregorianCalendar localTimeUtc = (GregorianCalendar) calendar.clone();
-        localTimeUtc.get(Calendar.HOUR_OF_DAY);
-        localTimeUtc.setTimeZone(TimeZone.getTimeZone("UTC"));
-        localTimeUtc.get(Calendar.HOUR_OF_DAY);
-
-        int currentDay = localTimeUtc.get(Calendar.DAY_OF_YEAR);
-
-        GregorianCalendar currentDayStart = new GregorianCalendar();
-        currentDayStart.set(
-                localTimeUtc.get(Calendar.YEAR),
-                localTimeUtc.get(Calendar.MONTH),
-                localTimeUtc.get(Calendar.DAY_OF_MONTH),
-                0,0,0
-        );
-
-        GregorianCalendar currentDayEnd = (GregorianCalendar) currentDayStart.clone();
-        currentDayEnd.set(Calendar.DAY_OF_YEAR, localTimeUtc.get(Calendar.DAY_OF_YEAR) + 1);
-
-        for (int i = 0; i < cycleListSize; i++) {
-
-            if ((i * 2) + 1 > angleListSize) { continue; }
-
-            GregorianCalendar startTime = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
-            startTime.setTimeInMillis(cycleList.get(i).get(0).getTimeInMillis() + timeZoneCorrection);
-
-            GregorianCalendar endTime = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
-            endTime.setTimeInMillis(cycleList.get(i).get(1).getTimeInMillis() + timeZoneCorrection);
-
-            int startTimeDay = startTime.get(Calendar.DAY_OF_YEAR);
-            int endTimeDay = endTime.get(Calendar.DAY_OF_YEAR);
-
-            Line lineStart = lineList.get(i * 2);
-            Line lineEnd = lineList.get((i * 2) + 1);
-
-            Arc arc = arcList.get(i);
-
-            if (startTimeDay != currentDay) {
-                lineStart.setVisible(false);
-                startTime = currentDayStart;
-                if (endTimeDay != currentDay) {
-                    endTime = currentDayStart;
-                }
-            } else {
-                lineStart.setVisible(true);
-            }
-
-            if (endTimeDay != currentDay) {
-                lineEnd.setVisible(false);
-                endTime = currentDayEnd;
-                if (startTimeDay != currentDay) {
-                    startTime = currentDayEnd;
-                }
-            } else {
-                lineEnd.setVisible(true);
-            }
-
-            double startAngle = getAbsoluteAngle(startTime);
-            double endAngle = getAbsoluteAngle(endTime);
-
-            angleList.set((i * 2), startAngle);
-            angleList.set((i * 2) + 1, endAngle);
+        CycleOverlay cycleOverlay = cycleOverlayMap.get(provider.getCode());
+        if (cycleOverlay == null) { return; }
 
-            DotMatrix matrixStart = matrixList.get(i * 2);
-            DotMatrix matrixEnd = matrixList.get((i * 2) + 1);
-
-            matrixStart.setString(Sunutil.getShorterTimeString(startTime));
-            matrixEnd.setString(Sunutil.getShorterTimeString(endTime));
-
-            if (startAngle > 0 && startAngle <= 180) { matrixStart.setRotate(270); }
-            else { matrixStart.setRotate(90); }
-
-            if (endAngle > 0 && endAngle <= 180) { matrixEnd.setRotate(270); }
-            else { matrixEnd.setRotate(90); }
-        }
+        cycleOverlay.setCycles(cycleList, calendar, timeZoneCorrection);
 
         updateDialMarkers();
     }
@@ -1410,37 +1231,37 @@ public class Sundial {
         dialLocalHourSuperNiceArc.setEndAngle(this.dialAngleLocalHour);
     }
 
-    public void updateDialMarkers() {
+    private void writeMarkerRotations() {
 
-        updateHourArc(this.localTime);
-        setHourMarkerLocalHour(this.localTime);
+        // the hour line markers rotate along, and they're cached layers
+        staticLayerCache.invalidate();
+
+        double[] markerAngles = Sunutil.getNightCompressionMarkerAngles(nightCompression);
 
         int dialMarkerRotateListSize = dialMarkerRotateList.size();
         for (int i = 0; i < dialMarkerRotateListSize; i++) {
 
-            dialMarkerRotateList.get(i).setAngle(Sunutil.getNightCompressionAngle(i * 360d / 96d, nightCompression));
-
-/*
-            if (i % 4 == 0) {
-                int hourIndex = i / 4;
-                double angle = dialMarkerRotateList.get(i).getAngle();
-                double opacity = (hourIndex % 6 == 0) ? Sunconfig.LOCAL_HOUR_MARKER_OPACITY : Sunconfig.LOCAL_HOUR_MARKER_OFF_OPACITY;
-                hourMarkerMatrixList.get(hourIndex).setRotate(-1 * angle);
-                hourMarkerMatrixList.get(hourIndex).setStyle(Sunconfig.MATRIX_SHADOW);
-                hourMarkerMatrixList.get(hourIndex).setOpacity(opacity);
-            }
-*/
+            dialMarkerRotateList.get(i).setAngle(markerAngles[i]);
 
             if (i % 4 == 0) {
-                int hourIndex = i / 4;
-                double angle = dialMarkerRotateList.get(i).getAngle();
-                double opacity = Sunconfig.LOCAL_HOUR_MARKER_OFF_OPACITY;
-                hourMarkerMatrixList.get(hourIndex).setRotate(-1 * angle);
-                hourMarkerMatrixList.get(hourIndex).setStyle(Sunconfig.MATRIX_SHADOW);
-                hourMarkerMatrixList.get(hourIndex).setOpacity(opacity);
+                hourMarkerMatrixList.get(i / 4).setRotate(-1 * markerAngles[i]);
+                resetHourMarker(i / 4);
             }
         }
 
+        markerNightCompression = nightCompression;
+    }
+
+    private void resetHourMarker(int hourIndex) {
+        if (hourIndex < 0) { return; }
+        hourMarkerMatrixList.get(hourIndex).setEffect(hourMarkerEffectsEh ? hourMarkerShadow : null);
+        hourMarkerMatrixList.get(hourIndex).setOpacity(Sunconfig.LOCAL_HOUR_MARKER_OFF_OPACITY);
+    }
+
+    public void updateDialMarkers() {
+
+        updateHourArc(this.localTime);
+        setHourMarkerLocalHour(this.localTime);
 
         int localHour = localTime.get(Calendar.HOUR_OF_DAY);
         int localMinute = localTime.get(Calendar.MINUTE);
@@ -1448,6 +1269,17 @@ public class Sundial {
         int hourIndexStart = (localHour + 12) % 24;
         int hourIndexEnd = (localHour + 12 + 1) % 24;
 
+        // marker rotations only depend on night compression, on a normal tick just the glowing hour markers move on
+        if (nightCompression != markerNightCompression) {
+            writeMarkerRotations();
+        } else {
+            if (highlightedHourStart != hourIndexStart && highlightedHourStart != hourIndexEnd) { resetHourMarker(highlightedHourStart); }
+            if (highlightedHourEnd != hourIndexStart && highlightedHourEnd != hourIndexEnd) { resetHourMarker(highlightedHourEnd); }
+        }
+
+        highlightedHourStart = hourIndexStart;
+        highlightedHourEnd = hourIndexEnd;
+
         float partialStart = (float) sqrt(1 - localMinute / 60f);       // sqrt progression (non-linear)
         float partialEnd = (float) sqrt(localMinute / 60f);             // sqrt progression (non-linear)
 
@@ -1474,72 +1306,22 @@ public class Sundial {
         double opacityStart = (partialStart * (1 - Sunconfig.LOCAL_HOUR_MARKER_OFF_OPACITY) + Sunconfig.LOCAL_HOUR_MARKER_OFF_OPACITY) * Sunconfig.LOCAL_HOUR_MARKER_OFF_ON_OPACITY;
         double opacityEnd = (partialEnd * (1 - Sunconfig.LOCAL_HOUR_MARKER_OFF_OPACITY) + Sunconfig.LOCAL_HOUR_MARKER_OFF_OPACITY) * Sunconfig.LOCAL_HOUR_MARKER_OFF_ON_OPACITY;
 
-        StringBuilder hourStyleStart = new StringBuilder()
-                .append("-fx-effect: dropshadow(three-pass-box, rgba(")
-                .append(componentR).append(",")
-                .append(componentG).append(",")
-                .append(componentB).append(",")
-                .append("1.0)").append(",")
-                .append(glowRadiusStart).append(",")
-                .append(glowStrengthStart).append(",")
-                .append("0, 0);");
-
-        StringBuilder hourStyleEnd = new StringBuilder()
-                .append("-fx-effect: dropshadow(three-pass-box, rgba(")
-                .append(componentB).append(",")
-                .append(componentG).append(",")
-                .append(componentR).append(",")
-                .append("1.0)").append(",")
-                .append(glowRadiusEnd).append(",")
-                .append(glowStrengthEnd).append(",")
-                .append("0, 0);");
+        hourMarkerGlowStart.setColor(Color.rgb(componentR, componentG, componentB));
+        hourMarkerGlowStart.setRadius(glowRadiusStart);
+        hourMarkerGlowStart.setSpread(glowStrengthStart);
+
+        hourMarkerGlowEnd.setColor(Color.rgb(componentB, componentG, componentR));
+        hourMarkerGlowEnd.setRadius(glowRadiusEnd);
+        hourMarkerGlowEnd.setSpread(glowStrengthEnd);
 
         hourMarkerMatrixList.get(hourIndexStart).setOpacity(opacityStart);
         hourMarkerMatrixList.get(hourIndexEnd).setOpacity(opacityEnd);
 
-        hourMarkerMatrixList.get(hourIndexStart).setStyle(hourStyleStart.toString());
-        hourMarkerMatrixList.get(hourIndexEnd).setStyle(hourStyleEnd.toString());
-
-        int cetusMarkerRotateListSize = cetusMarkerRotateList.size();
-        for (int i = 0; i < cetusMarkerRotateListSize; i++) {
-            cetusMarkerRotateList.get(i).setAngle(Sunutil.getNightCompressionAngle(cetusMarkerAngleList.get(i), nightCompression));
-        }
-
-        int cetusMarkerArcListSize = cetusMarkerArcList.size();
-        for  (int i = 0; i < cetusMarkerArcListSize; i++) {
-
-            double startAngle = cetusMarkerAngleList.get(i * 2);
-            double endAngle = cetusMarkerAngleList.get(i * 2 + 1);
+        hourMarkerMatrixList.get(hourIndexStart).setEffect(hourMarkerEffectsEh ? hourMarkerGlowStart : null);
+        hourMarkerMatrixList.get(hourIndexEnd).setEffect(hourMarkerEffectsEh ? hourMarkerGlowEnd : null);
 
-            double adjustedStartAngle = Sunutil.getNightCompressionAngle(startAngle, nightCompression);
-            double adjustedEndAngle = Sunutil.getNightCompressionAngle(endAngle, nightCompression);
-
-            double length = adjustedStartAngle - adjustedEndAngle;
-            if (length > 0) { length = -1 * ((360 - adjustedStartAngle) + adjustedEndAngle); }
-
-            cetusMarkerArcList.get(i).setStartAngle(90 - adjustedStartAngle);
-            cetusMarkerArcList.get(i).setLength(length);
-        }
-
-        int orbVallisMarkerRotateListSize = orbVallisMarkerRotateList.size();
-        for (int i = 0; i < orbVallisMarkerRotateListSize; i++) {
-            orbVallisMarkerRotateList.get(i).setAngle(Sunutil.getNightCompressionAngle(orbVallisMarkerAngleList.get(i), nightCompression));
-        }
-
-        int orbVallisMarkerArcListSize = orbVallisMarkerArcList.size();
-        for  (int i = 0; i < orbVallisMarkerArcListSize; i++) {
-
-            double startAngle = orbVallisMarkerAngleList.get(i * 2);
-            double endAngle = orbVallisMarkerAngleList.get(i * 2 + 1);
-
-            double adjustedStartAngle = Sunutil.getNightCompressionAngle(startAngle, nightCompression);
-            double adjustedEndAngle = Sunutil.getNightCompressionAngle(endAngle, nightCompression);
-
-            double length = adjustedStartAngle - adjustedEndAngle;
-            if (length > 0) { length = -1 * ((360 - adjustedStartAngle) + adjustedEndAngle); }
-
-            orbVallisMarkerArcList.get(i).setStartAngle(90 - adjustedStartAngle);
-            orbVallisMarkerArcList.get(i).setLength(length);
+        for (CycleOverlay cycleOverlay : cycleOverlayMap.values()) {
+            cycleOverlay.updateMarkers(nightCompression);
         }
     }
 
@@ -1600,9 +1382,31 @@ public class Sundial {
         matrixLatitude.setFill(this.latitudeWarning ? Color.YELLOW : Color.WHITE);
     }
 
-    public void setGroupGlow(Group group, String style) {
-        if (group == null || style == null) { return; }
-        group.setStyle(style);
+    public void setGroupGlow(Group group, boolean glowEh) {
+        if (group == null) { return; }
+        Sunstyle.setGlow(group, glowEh);
+    }
+
+    public void setQualityTier(Sunquality.Tier tier) {
+
+        Sunquality.apply(dialsGroup, tier);
+
+        for (DropShadow shadow : new DropShadow[] { hourMarkerShadow, hourMarkerGlowStart, hourMarkerGlowEnd }) {
+            shadow.setBlurType(tier.getBlurType());
+        }
+
+        hourMarkerEffectsEh = (tier != Sunquality.Tier.MINIMAL);
+
+        // rewrites all hour markers
+        markerNightCompression = Double.NaN;
+        updateDialMarkers();
+    }
+
+    /**
+     * For changes from outside that the static layers have to be rendered again for, like a new window size.
+     */
+    public void invalidateStaticLayers() {
+        staticLayerCache.invalidate();
     }
 
     public void toggleGlobeVisibility() {
@@ -1710,8 +1514,13 @@ public class Sundial {
     }
 
     public void setCoordinates(double longitude, double latitude) {
-        matrixLongitude.setString(Sunutil.formatCoordinateToString(longitude, "E", "W"));
-        matrixLatitude.setString(Sunutil.formatCoordinateToString(latitude, "N", "S"));
+        Sunformat.putCoordinate(coordinateChars, 0, longitude);
+        coordinateChars[Sunformat.COORDINATE_LENGTH] = (longitude < 0) ? 'W' : 'E';
+        matrixLongitude.setChars(coordinateChars, 0, coordinateChars.length);
+
+        Sunformat.putCoordinate(coordinateChars, 0, latitude);
+        coordinateChars[Sunformat.COORDINATE_LENGTH] = (latitude < 0) ? 'S' : 'N';
+        matrixLatitude.setChars(coordinateChars, 0, coordinateChars.length);
     }
 
     public void setGlobeDaylight(double phase, double tilt) {
@@ -1755,29 +1564,34 @@ public class Sundial {
         latitudeTimeline.play();
     }
 
-    public void setKriegsrahmenTimeVisibility(KriegsrahmenZeit.Location location, boolean visibleEh) {
-
-        switch (location) {
-            case CETUS:
-                cetusTimeVisibleEh = visibleEh;
-                cetusMarkerGroup.setVisible(visibleEh);
-                cetusTimer.setVisible(visibleEh);
-                break;
-            case ORB_VALLIS:
-                orbVallisTimeVisibleEh = visibleEh;
-                orbVallisMarkerGroup.setVisible(visibleEh);
-                orbVallisTimer.setVisible(visibleEh);
-                break;
-            default: {}
-        }
-    }
+    public void setCycleVisibility(CycleProvider provider, boolean visibleEh) {
+
+        CycleOverlay cycleOverlay = cycleOverlayMap.get(provider.getCode());
+        if (cycleOverlay == null) { return; }
+
+        cycleOverlay.setVisibleEh(visibleEh);
 
-    public void setCetusTimeVisibility(boolean visibleEh) {
-        setKriegsrahmenTimeVisibility(KriegsrahmenZeit.Location.CETUS, visibleEh);
+        layoutCycleTimers();
     }
 
-    public void setOrbVallisTimeVisibility(boolean visibleEh) {
-        setKriegsrahmenTimeVisibility(KriegsrahmenZeit.Location.ORB_VALLIS, visibleEh);
+    private void layoutCycleTimers() {
+
+        double spacing = 10;
+        double totalWidth = -spacing;
+
+        for (CycleOverlay cycleOverlay : cycleOverlayMap.values()) {
+            if (!cycleOverlay.getVisibleEh()) { continue; }
+            totalWidth += cycleOverlay.getTimer().getLayoutBounds().getWidth() + spacing;
+        }
+
+        double deltaX = -totalWidth / 2;
+
+        for (CycleOverlay cycleOverlay : cycleOverlayMap.values()) {
+            if (!cycleOverlay.getVisibleEh()) { continue; }
+            double timerWidth = cycleOverlay.getTimer().getLayoutBounds().getWidth();
+            cycleOverlay.getTimer().setTranslateX(deltaX + timerWidth / 2);
+            deltaX += timerWidth + spacing;
+        }
     }
 
     public void setTimeDisplayOpacity(double opacity) {
@@ -1823,20 +1637,8 @@ public class Sundial {
         ledAnimationOnEh = animation;
         globeAnimationEh = animation;
 
-        for (Timeline timeline : cetusMarkerHoverTransitionList) {
-            if (ledAnimationOnEh) {
-                timeline.setRate(1);
-            } else {
-                timeline.setRate(Sunconfig.CETUS_MARKER_DURATION);
-            }
-        }
-
-        for (Timeline timeline : orbVallisMarkerHoverTransitionList) {
-            if (ledAnimationOnEh) {
-                timeline.setRate(1);
-            } else {
-                timeline.setRate(Sunconfig.ORBVALLIS_MARKER_DURATION);
-            }
+        for (CycleOverlay cycleOverlay : cycleOverlayMap.values()) {
+            cycleOverlay.setAnimation(ledAnimationOnEh);
         }
     }
 
@@ -1854,6 +1656,7 @@ public class Sundial {
 
         nightmodeEh = !nightmodeEh;
 
+        staticLayerCache.invalidate();
         nightModeOverlay.setVisible(nightmodeEh);
         tinyGlobeNightModeOverlay.setVisible(nightmodeEh);
 
@@ -1897,24 +1700,26 @@ public class Sundial {
 
 
     // Getterers
-    public boolean getKriegsrahmenZeitVisibleEh(KriegsrahmenZeit.Location location) {
-        switch (location) {
-            case CETUS: return getCetusTimeVisibleEh();
-            case ORB_VALLIS: return getOrbVallisTimeVisibleEh();
-            default: return false;
-        }
+    public boolean getCycleVisibleEh(CycleProvider provider) {
+        CycleOverlay cycleOverlay = cycleOverlayMap.get(provider.getCode());
+        return cycleOverlay != null && cycleOverlay.getVisibleEh();
+    }
+
+    public ControlThingy getCycleControlThingy(CycleProvider provider) {
+        CycleOverlay cycleOverlay = cycleOverlayMap.get(provider.getCode());
+        return (cycleOverlay == null) ? null : cycleOverlay.getControlThingy();
     }
 
-    public Group getCetusMarkerGroup() {
-        return cetusMarkerGroup;
+    public Group getCycleMarkersGroup() {
+        return cycleMarkersGroup;
     }
 
-    public boolean getCetusTimeVisibleEh() {
-        return cetusTimeVisibleEh;
+    public ArrayList<CycleOverlay> getCycleOverlays() {
+        return new ArrayList<>(cycleOverlayMap.values());
     }
 
-    public boolean getOrbVallisTimeVisibleEh() {
-        return orbVallisTimeVisibleEh;
+    public CycleMarkerPool getCycleMarkerPool() {
+        return cycleMarkerPool;
     }
 
     public boolean getGlobeVisibleEh() {
@@ -2041,14 +1846,6 @@ public class Sundial {
         return controlThingyChart;
     }
 
-    public ControlThingy getControlThingyCetus() {
-        return controlThingyCetus;
-    }
-
-    public ControlThingy getControlThingyOrbVallis() {
-        return controlThingyOrbVallis;
-    }
-
     public ControlThingy getControlThingyDst() {
         return controlThingyDst;
     }
@@ -0,0 +1,391 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.lang.Math.floorDiv;
+
+/**
+ * Persisted Suntime results for one observer position over a long range of days.
+ * Columnar layout: a fixed header followed by one contiguous float column per quantity, so a reader can walk
+ * a single column through the mapped buffer without copying or touching the others.
+ * Julian dates are stored as offsets in days from each day's Julian day number to keep float precision,
+ * that's within about 2.6 ms.
+ *
+ * Files are per EPHEMERIS_GRID cell, solved for the cell's center. Solving one takes a while, so find() only
+ * maps what's on disk and writeLater() makes missing files on a background thread once a position stays put,
+ * a globe drag doesn't leave a file behind for every cell it crosses. The directory keeps the
+ * EPHEMERIS_MAX_FILES most recently used files.
+ */
+public class Sunephemeris {
+
+    public enum Column {
+        TRANSIT,        // days from julian day number
+        SUNRISE,        // days from julian day number
+        SUNSET,         // days from julian day number
+        DECLINATION,    // degrees
+        DAYLENGTH       // hours
+    }
+
+    public static final int YEARS_PER_FILE = 20;
+
+    private static final int MAGIC = 0x53554E45;           // "SUNE"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 4 + 4;
+    private static final int VALUE_SIZE = 4;
+
+    private static final String FILE_PREFIX = "ephemeris_";
+    private static final String FILE_SUFFIX = ".bin";
+
+    private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ephemeris-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static ScheduledFuture<?> pendingWrite;
+
+    // lookup() results over all charts, for the JMX monitor
+    private static final LongAdder LOOKUP_HITS = new LongAdder();
+    private static final LongAdder LOOKUP_MISSES = new LongAdder();
+
+    private MappedByteBuffer buffer;
+    private double longitude;
+    private double latitude;
+    private long firstJulianDayNumber;
+    private int dayCount;
+    private FloatBuffer[] columns;
+
+    private Sunephemeris(MappedByteBuffer buffer) throws IOException {
+
+        this.buffer = buffer;
+        this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not an ephemeris file");
+        }
+
+        this.longitude = buffer.getDouble(8);
+        this.latitude = buffer.getDouble(16);
+        this.firstJulianDayNumber = buffer.getLong(24);
+        this.dayCount = buffer.getInt(32);
+        int columnCount = buffer.getInt(36);
+
+        if (columnCount != Column.values().length
+                || buffer.capacity() != HEADER_SIZE + (long) columnCount * dayCount * VALUE_SIZE) {
+            throw new IOException("Truncated ephemeris file");
+        }
+
+        // zero copy views into the mapped file, one per column
+        columns = new FloatBuffer[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            ByteBuffer slice = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            slice.position(HEADER_SIZE + i * dayCount * VALUE_SIZE);
+            slice.limit(HEADER_SIZE + (i + 1) * dayCount * VALUE_SIZE);
+            columns[i] = slice.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        }
+    }
+
+    /**
+     * Maps the file covering the given year at the given position, computing and writing it first if needed.
+     * Each file spans YEARS_PER_FILE years so moving through neighbouring years reuses the same mapping.
+     * Solves twenty years on a miss, so not for the FX thread.
+     */
+    public static Sunephemeris load(Path directory, double longitude, double latitude, int year) throws IOException {
+
+        Sunephemeris ephemeris = find(directory, longitude, latitude, year);
+        if (ephemeris != null) { return ephemeris; }
+
+        longitude = quantise(longitude);
+        latitude = quantise(latitude);
+
+        int firstYear = getFirstYear(year);
+        long firstJulianDayNumber = getFirstJulianDayNumber(firstYear);
+        int dayCount = (int) (getFirstJulianDayNumber(firstYear + YEARS_PER_FILE) - firstJulianDayNumber);
+
+        Files.createDirectories(directory);
+        write(directory.resolve(getFileName(longitude, latitude, firstYear)), longitude, latitude, firstJulianDayNumber, dayCount);
+        evict(directory);
+
+        return find(directory, longitude, latitude, year);
+    }
+
+    /**
+     * The mapped file if it already covers the given year at the given position, otherwise whatever find()
+     * maps. Counted as a hit when the year is served from a mapped file.
+     */
+    public static Sunephemeris lookup(Path directory, Sunephemeris mapped, double longitude, double latitude, int year) {
+
+        Sunephemeris ephemeris = (mapped != null && mapped.coversEh(longitude, latitude, year))
+                ? mapped
+                : find(directory, longitude, latitude, year);
+
+        if (ephemeris != null) {
+            LOOKUP_HITS.increment();
+        } else {
+            LOOKUP_MISSES.increment();
+        }
+
+        return ephemeris;
+    }
+
+    /**
+     * Maps the file covering the given year at the given position if it's on disk, null if it isn't.
+     * The chart calls this on the FX thread once per new grid cell or file span, an exists check and a map of
+     * about 150 KB, which is cheap next to solving the year. The rest of the bookkeeping goes to
+     * the writer thread.
+     */
+    public static Sunephemeris find(Path directory, double longitude, double latitude, int year) {
+
+        longitude = quantise(longitude);
+        latitude = quantise(latitude);
+
+        int firstYear = getFirstYear(year);
+        long firstJulianDayNumber = getFirstJulianDayNumber(firstYear);
+        int dayCount = (int) (getFirstJulianDayNumber(firstYear + YEARS_PER_FILE) - firstJulianDayNumber);
+
+        Path file = directory.resolve(getFileName(longitude, latitude, firstYear));
+
+        if (!Files.exists(file)) { return null; }
+
+        try {
+            Sunephemeris ephemeris = open(file);
+            if (!ephemeris.coversEh(longitude, latitude, firstJulianDayNumber, dayCount)) { return null; }
+
+            // eviction goes by modification time, this makes it the most recently used
+            long now = System.currentTimeMillis();
+            WRITER.execute(() -> touch(file, now));
+
+            return ephemeris;
+
+        } catch (IOException e) {
+            // broken file, writeLater() puts a fresh one in its place
+            return null;
+        }
+    }
+
+    /**
+     * Computes and writes the file for this position on the writer thread, once no other position was asked for
+     * during EPHEMERIS_SETTLE. A newer call replaces a pending one. The listener gets the mapped file on the
+     * writer thread.
+     */
+    public static synchronized void writeLater(Path directory, double longitude, double latitude, int year, Consumer<Sunephemeris> listener) {
+
+        if (pendingWrite != null) { pendingWrite.cancel(false); }
+
+        pendingWrite = WRITER.schedule(() -> {
+            try {
+                listener.accept(load(directory, longitude, latitude, year));
+            } catch (IOException e) {
+                // no file, the chart stays on the solver
+            }
+        }, Sunconfig.EPHEMERIS_SETTLE, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Deletes the least recently used files beyond EPHEMERIS_MAX_FILES.
+     */
+    private static void evict(Path directory) throws IOException {
+
+        ArrayList<Path> fileList = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().startsWith(FILE_PREFIX) && file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .forEach(fileList::add);
+        }
+
+        if (fileList.size() <= Sunconfig.EPHEMERIS_MAX_FILES) { return; }
+
+        fileList.sort((file1, file2) -> Long.compare(getLastModifiedMillis(file2), getLastModifiedMillis(file1)));
+
+        for (int i = Sunconfig.EPHEMERIS_MAX_FILES; i < fileList.size(); i++) {
+            try {
+                Files.deleteIfExists(fileList.get(i));
+            } catch (IOException e) {
+                // still mapped somewhere on a system that minds, next time
+            }
+        }
+    }
+
+    private static void touch(Path file, long millis) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(millis));
+        } catch (IOException e) {
+            // evicted meanwhile, nothing to keep fresh
+        }
+    }
+
+    private static long getLastModifiedMillis(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static double quantise(double degrees) {
+        return Math.round(degrees / Sunconfig.EPHEMERIS_GRID) * Sunconfig.EPHEMERIS_GRID;
+    }
+
+    private static int getFirstYear(int year) {
+        return floorDiv(year, YEARS_PER_FILE) * YEARS_PER_FILE;
+    }
+
+    private static long getFirstJulianDayNumber(int year) {
+        return Suntime.getJulianDayNumber(new GregorianCalendar(year, 0, 1, 12, 0, 0));
+    }
+
+    public static Sunephemeris open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new Sunephemeris(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static void write(Path file, double longitude, double latitude, long firstJulianDayNumber, int dayCount) throws IOException {
+
+        int columnCount = Column.values().length;
+        long size = HEADER_SIZE + (long) columnCount * dayCount * VALUE_SIZE;
+
+        ByteBuffer data = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+
+        data.putInt(MAGIC);
+        data.putInt(VERSION);
+        data.putDouble(longitude);
+        data.putDouble(latitude);
+        data.putLong(firstJulianDayNumber);
+        data.putInt(dayCount);
+        data.putInt(columnCount);
+
+        Suntime suntime = new Suntime.PleaseBuildSuntime()
+                .julianDayNumber(firstJulianDayNumber)
+                .observerLongitude(longitude)
+                .observerLatitude(latitude)
+                .thankYou();
+
+        int transitOffset = HEADER_SIZE + Column.TRANSIT.ordinal() * dayCount * VALUE_SIZE;
+        int sunriseOffset = HEADER_SIZE + Column.SUNRISE.ordinal() * dayCount * VALUE_SIZE;
+        int sunsetOffset = HEADER_SIZE + Column.SUNSET.ordinal() * dayCount * VALUE_SIZE;
+        int declinationOffset = HEADER_SIZE + Column.DECLINATION.ordinal() * dayCount * VALUE_SIZE;
+        int daylengthOffset = HEADER_SIZE + Column.DAYLENGTH.ordinal() * dayCount * VALUE_SIZE;
+
+        for (int day = 0; day < dayCount; day++) {
+
+            long julianDayNumber = firstJulianDayNumber + day;
+            suntime.setJulianDayNumber(julianDayNumber);
+
+            double transit = suntime.getHighnoonJulianDate();
+            double sunrise = suntime.getSunriseJulianDate();
+            double sunset = suntime.getSunsetJulianDate();
+
+            int index = day * VALUE_SIZE;
+
+            data.putFloat(transitOffset + index, (float) (transit - julianDayNumber));
+            data.putFloat(sunriseOffset + index, (float) (sunrise - julianDayNumber));
+            data.putFloat(sunsetOffset + index, (float) (sunset - julianDayNumber));
+            data.putFloat(declinationOffset + index, (float) suntime.getDeclinationOfTheSun());
+            data.putFloat(daylengthOffset + index, (float) ((sunset - sunrise) * 24));
+        }
+
+        // write next to the target and swap it in, so a reader never maps a half written file
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tempFile, data.array());
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String getFileName(double longitude, double latitude, int firstYear) {
+        return String.format(Locale.ROOT, FILE_PREFIX + "%.2f_%.2f_%d" + FILE_SUFFIX, longitude, latitude, firstYear);
+    }
+
+    private boolean coversEh(double longitude, double latitude, long firstJulianDayNumber, int dayCount) {
+        return this.longitude == longitude
+                && this.latitude == latitude
+                && this.firstJulianDayNumber == firstJulianDayNumber
+                && this.dayCount == dayCount;
+    }
+
+    /**
+     * True if this file is for the grid cell of the given position and covers all of the given year.
+     */
+    public boolean coversEh(double longitude, double latitude, int year) {
+        return this.longitude == quantise(longitude)
+                && this.latitude == quantise(latitude)
+                && containsEh(getFirstJulianDayNumber(year))
+                && containsEh(Suntime.getJulianDayNumber(new GregorianCalendar(year, 11, 31, 12, 0, 0)));
+    }
+
+    public boolean containsEh(long julianDayNumber) {
+        return julianDayNumber >= firstJulianDayNumber && julianDayNumber < firstJulianDayNumber + dayCount;
+    }
+
+    private int getIndex(long julianDayNumber) {
+        return (int) (julianDayNumber - firstJulianDayNumber);
+    }
+
+
+    // Getterers
+    public FloatBuffer getColumn(Column column) {
+        return columns[column.ordinal()].duplicate();
+    }
+
+    public double getHighNoonJulianDate(long julianDayNumber) {
+        return (double) julianDayNumber + columns[Column.TRANSIT.ordinal()].get(getIndex(julianDayNumber));
+    }
+
+    public double getSunriseJulianDate(long julianDayNumber) {
+        return (double) julianDayNumber + columns[Column.SUNRISE.ordinal()].get(getIndex(julianDayNumber));
+    }
+
+    public double getSunsetJulianDate(long julianDayNumber) {
+        return (double) julianDayNumber + columns[Column.SUNSET.ordinal()].get(getIndex(julianDayNumber));
+    }
+
+    public double getDeclinationOfTheSun(long julianDayNumber) {
+        return columns[Column.DECLINATION.ordinal()].get(getIndex(julianDayNumber));
+    }
+
+    public double getDaylength(long julianDayNumber) {
+        return columns[Column.DAYLENGTH.ordinal()].get(getIndex(julianDayNumber));
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public long getFirstJulianDayNumber() {
+        return firstJulianDayNumber;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public static long getLookupHitCount() {
+        return LOOKUP_HITS.sum();
+    }
+
+    public static long getLookupMissCount() {
+        return LOOKUP_MISSES.sum();
+    }
+
+}
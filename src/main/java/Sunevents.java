@@ -0,0 +1,121 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder events for the places where time goes: the dial tick, the year chart, network refreshes
+ * and globe texture conversion. Record with
+ *
+ *   java -XX:StartFlightRecording=filename=sunface.jfr,settings=profile -jar sunface-1.0.jar
+ *
+ * and look for the Sunface category in JDK Mission Control or with "jfr print --categories Sunface".
+ *
+ * Java 8 runtimes before 8u262 have no jdk.jfr, so call sites only create events when JFR_EH is set.
+ * The event classes are never loaded otherwise.
+ */
+public class Sunevents {
+
+    public static final boolean JFR_EH = jfrAvailableEh();
+
+    private static boolean jfrAvailableEh() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    @Name("sunface.Tick")
+    @Label("Dial Update")
+    @Category("Sunface")
+    @Description("One run of the dial update, on the clock tick or as a time-lapse frame")
+    public static class TickEvent extends Event {
+
+        @Label("New Day")
+        @Description("Daily data (horizon, high noon, cycles) was recomputed")
+        boolean newDay;
+
+        @Label("Time-lapse")
+        boolean lapse;
+
+        @Label("Solver Iterations")
+        @Description("Sunrise and sunset refinement steps in the local and global Suntime")
+        long iterations;
+
+        @Label("Glyph Writes")
+        @Description("DotMatrix characters that actually changed")
+        long glyphWrites;
+    }
+
+    @Name("sunface.SunyearRecalculate")
+    @Label("Year Chart Recalculate")
+    @Category("Sunface")
+    public static class SunyearRecalculateEvent extends Event {
+
+        @Label("Year")
+        int year;
+
+        @Label("Days Computed")
+        @Description("Days that went through the solver")
+        int daysComputed;
+
+        @Label("Days From Ephemeris")
+        @Description("Days read from the cached ephemeris file")
+        int daysFromEphemeris;
+
+        @Label("Solver Iterations")
+        long iterations;
+    }
+
+    @Name("sunface.SunyearRefreshLines")
+    @Label("Year Chart Refresh Lines")
+    @Category("Sunface")
+    public static class SunyearRefreshLinesEvent extends Event {
+
+        @Label("Node Writes")
+        @Description("Polyline points and month markers written")
+        int nodeWrites;
+    }
+
+    @Name("sunface.CycleRequest")
+    @Label("Cycle Data Request")
+    @Category("Sunface")
+    public static class CycleRequestEvent extends Event {
+
+        @Label("Provider")
+        String provider;
+
+        @Label("URL")
+        String url;
+
+        @Label("Bytes Read")
+        @DataAmount
+        long bytesRead;
+
+        @Label("Success")
+        boolean success;
+
+        @Label("Timed Out")
+        boolean timedOut;
+    }
+
+    @Name("sunface.TextureConversion")
+    @Label("Globe Texture Conversion")
+    @Category("Sunface")
+    public static class TextureConversionEvent extends Event {
+
+        @Label("Width")
+        int width;
+
+        @Label("Height")
+        int height;
+
+        @Label("Pixels")
+        long pixels;
+    }
+
+}
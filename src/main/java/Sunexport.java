@@ -0,0 +1,108 @@
+import javafx.embed.swing.SwingFXUtils;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import static java.lang.Math.*;
+
+/**
+ * Renders nodes to images bigger than the window and writes them out as PNG.
+ * A single snapshot is limited by the maximum texture size, so the image is put together from tiles.
+ * snapshot() has to run on the FX thread, writePng() is meant for a background thread.
+ */
+public class Sunexport {
+
+    public static final int TILE_SIZE = 1024;
+
+    /**
+     * Node as it looks in its parent, scaled so the longer side is size pixels, on a transparent background.
+     */
+    public static WritableImage snapshot(Node node, int size) {
+
+        Bounds bounds = node.getBoundsInParent();
+        double scale = size / max(bounds.getWidth(), bounds.getHeight());
+
+        int width = (int) ceil(bounds.getWidth() * scale);
+        int height = (int) ceil(bounds.getHeight() * scale);
+
+        WritableImage image = new WritableImage(width, height);
+        PixelWriter pixelWriter = image.getPixelWriter();
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(scale, scale));
+
+        // the viewport is in the scaled parent space, so tiles are offset from the scaled bounds
+        double originX = bounds.getMinX() * scale;
+        double originY = bounds.getMinY() * scale;
+
+        WritableImage tile = null;
+
+        for (int y = 0; y < height; y += TILE_SIZE) {
+            for (int x = 0; x < width; x += TILE_SIZE) {
+
+                int tileWidth = min(TILE_SIZE, width - x);
+                int tileHeight = min(TILE_SIZE, height - y);
+
+                boolean reuseEh = (tile != null && tile.getWidth() == tileWidth && tile.getHeight() == tileHeight);
+
+                parameters.setViewport(new Rectangle2D(originX + x, originY + y, tileWidth, tileHeight));
+                tile = node.snapshot(parameters, reuseEh ? tile : null);
+
+                pixelWriter.setPixels(x, y, tileWidth, tileHeight, tile.getPixelReader(), 0, 0);
+            }
+        }
+
+        return image;
+    }
+
+    public static void writePng(Image image, Path file) throws IOException {
+
+        long writeStart = System.nanoTime();
+        BufferedImage bufferedImage = SwingFXUtils.fromFXImage(image, null);
+
+        // write next to the target and swap it in, a half written frame never shows up under its real name
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        if (!ImageIO.write(bufferedImage, "png", tempFile.toFile())) {
+            throw new IOException("No PNG writer available");
+        }
+
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        Sunrecorder.record(Sunrecorder.PNG_WRITE, writeStart);
+    }
+
+    /**
+     * Fresh, timestamped directory under the export directory in the user's home.
+     */
+    public static Path createDirectory(String name) throws IOException {
+        Path directory = Paths.get(System.getProperty("user.home"), Sunconfig.EXPORT_DIRECTORY, name + "-" + timestamp());
+        return Files.createDirectories(directory);
+    }
+
+    public static Path createFile(String name) throws IOException {
+        Path directory = Files.createDirectories(Paths.get(System.getProperty("user.home"), Sunconfig.EXPORT_DIRECTORY));
+        return directory.resolve(name + "-" + timestamp() + ".png");
+    }
+
+    private static String timestamp() {
+        return new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+    }
+
+}
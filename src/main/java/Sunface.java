@@ -1,7 +1,9 @@
 import javafx.animation.*;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.*;
+import javafx.beans.value.ChangeListener;
 import javafx.concurrent.Task;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.*;
@@ -9,6 +11,8 @@ import javafx.scene.Cursor;
 import javafx.scene.control.Button;
 import javafx.scene.control.TextArea;
 import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.event.EventHandler;
 import javafx.scene.input.*;
 import javafx.scene.paint.Color;
 import javafx.scene.transform.Scale;
@@ -19,11 +23,20 @@ import javafx.util.Duration;
 
 import java.awt.*;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -46,6 +59,7 @@ public class Sunface extends Application {
     private enum PositionType {LONGITUDE, LATITUDE, BOTH, GOOGLE_MAPS};
     private enum OffsetType {YEAR, MONTH, DAY, HOUR, MINUTE, SECOND, WEEK};
     private enum WindowType { PRIMARY, CHART, DEBUG }
+    private enum PulseWork { TIME, GLOBE, NIGHT_COMPRESSION }
 
     private double deltaX;
     private double deltaY;
@@ -72,28 +86,55 @@ public class Sunface extends Application {
 
     private TextArea debugTextArea;
     private TextArea cliTextArea;
+    private TextArea performanceTextArea;
+    private AnimationTimer pulseTimer;
+    private final Sunperformance sunperformance = new Sunperformance();
+    private Sunmonitor sunmonitor;
+    private Sungovernor sungovernor;
+    private Sunquality.Tier qualityTier = Sunquality.STARTUP_TIER;
+    private final Suncoalescer suncoalescer = new Suncoalescer();
+    private int nightCompressionSteps = 0;
     private String debugErrorMessage;
 
     private Sundial sundial;
     private Suntime suntimeLocal;
     private Suntime suntimeGlobal;
 
-    private KriegsrahmenZeit cetusTime;
-    private KriegsrahmenZeit orbVallisTime;
+    private CycleProviderRegistry cycleProviderRegistry;
+    private CycleRefreshScheduler cycleRefreshScheduler;
+    private Suntable suntable;
+    private int suntableYear;
+    private Sunlapse sunlapse;
+    private AnimationTimer lapseTimer;
+    private ExecutorService exportExecutor;     // encodes the frames of a running export sequence, one thread keeps them in order
+    private Path exportDirectory;
+    private int exportFrame;
+    private boolean lapseStartingEh = false;
 
-    private Sunchart sunchart;
     private Sunyear sunyear;
+    private SoftReference<Sunyear> releasedSunyear;
+    private SoftReference<Stage> releasedSunchartWindow;
+    private PauseTransition sunchartReleaseTimer;
+
+    private final ChangeListener<Boolean> sunchartShowingListener = (observable, oldValue, showing) -> {
+        if (showing) {
+            sunchartReleaseTimer.stop();
+        } else {
+            sunchartReleaseTimer.playFromStart();
+        }
+    };
 
     private double sunyearDefaultWidth;
     private double sunyearDefaultHeight;
 
     private Stage debugWindow;
+    private final char[] matrixChars = new char[4];
+    private Image appIconSun;
     private Stage sunchartWindow;
 
     private Clipboard clipboard;
 
-    private ArrayList<ArrayList<GregorianCalendar>> cetusCycleList;
-    private ArrayList<ArrayList<GregorianCalendar>> orbVallisCycleList;
+    private HashMap<String, ArrayList<ArrayList<GregorianCalendar>>> cycleListMap;
 
     private ArrayList<MouseButton> mouseButtonList = new ArrayList<>();
 
@@ -115,8 +156,21 @@ public class Sunface extends Application {
     private static Long inputZ = null;
     private static Boolean inputD = null;
     private static Boolean inputHelp = null;
+    private static Long inputServe = null;
+    private static Long inputAt = null;
+    private static Double inputSpeed = null;
+
+    private Clock clock;
+
+    private Sunserver sunserver;
 
     public static void main(String[] args) {
+
+        // headless tables, never touch the toolkit
+        if (Sunbatch.batchEh(args)) {
+            System.exit(Sunbatch.run(args));
+        }
+
         parseInput(args);
         launch(args);
     }
@@ -139,6 +193,9 @@ public class Sunface extends Application {
                 case "-b" : inputB = inputToDouble(value); break;
                 case "-z" : inputZ = inputToLong(value); break;
                 case "-d" : inputD = inputToBoolean(value); break;
+                case Sunserver.SERVER_SWITCH : inputServe = inputToLong(value); break;
+                case "--at" : inputAt = inputToEpochMillis(value); break;
+                case "--speed" : inputSpeed = inputToDouble(value); break;
                 case "-help" : inputHelp = true; break;
                 default: inputHelp = true;
             }
@@ -157,6 +214,12 @@ public class Sunface extends Application {
         return number;
     }
 
+    private static Long inputToEpochMillis(String value) {
+        Long millis = null;
+        try { millis = LocalDateTime.parse(value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(); } catch (DateTimeParseException e) { }
+        return millis;
+    }
+
     private static Boolean inputToBoolean(String value) {
 
         Boolean b = null;
@@ -189,12 +252,19 @@ public class Sunface extends Application {
     @Override
     public void start(Stage primaryStage) {
 
+        Sunstartup.mark("launch to start()");
+
+        // textures and fonts decode in the background while the rest of the stage is set up
+        Sunresources.warmUp();
+
         clipboard = Clipboard.getSystemClipboard();
 
         // Init time
-        currentLocalTime = new GregorianCalendar();
-        offsetLocalTime = new GregorianCalendar();
-        timeZonedCalendar = new GregorianCalendar();
+        clock = createClock();
+
+        currentLocalTime = Sunclock.now(clock);
+        offsetLocalTime = Sunclock.now(clock);
+        timeZonedCalendar = Sunclock.now(clock);
 
         timeZoneOffset = new SimpleIntegerProperty(currentLocalTime.getTimeZone().getRawOffset());
         localTimeZoneOffset = timeZoneOffset.getValue();
@@ -222,18 +292,31 @@ public class Sunface extends Application {
                 .observerLatitude(latitude.getValue())
                 .thankYou();
 
+        Sunstartup.mark("time and suntime");
+
+        cycleProviderRegistry = new CycleProviderRegistry();
+        cycleProviderRegistry.register(new KriegsrahmenZeit(KriegsrahmenZeit.Platform.PC, KriegsrahmenZeit.Location.CETUS, clock), Suncreator.createCetusLook());
+        cycleProviderRegistry.register(new KriegsrahmenZeit(KriegsrahmenZeit.Platform.PC, KriegsrahmenZeit.Location.ORB_VALLIS, clock), Suncreator.createOrbVallisLook());
+
+        cycleListMap = new HashMap<>();
+
+        cycleRefreshScheduler = new CycleRefreshScheduler(cycleProviderRegistry, Platform::runLater, this::cycleProviderChanged);
+
+        Sunstartup.mark("cycle providers");
+
         sundial = new Sundial.PleaseBuildSundial()
                 .nightCompression(0)
+                .cycleProviders(cycleProviderRegistry)
                 .thankYou();
 
+        sunmonitor = new Sunmonitor(cycleProviderRegistry, cycleRefreshScheduler, sundial.getDialsGroup(), this::setQualityTier, this::setAnimation);
+        sungovernor = new Sungovernor(this::applyQualityTier);
+        applyQualityTier(qualityTier);
+
         sundial.rotateGlobe(longitude.getValue(), latitude.getValue());
         sundial.getControlThingyDst().toggleState();
 
-        cetusTime = new KriegsrahmenZeit(KriegsrahmenZeit.Platform.PC, KriegsrahmenZeit.Location.CETUS);
-        orbVallisTime = new KriegsrahmenZeit(KriegsrahmenZeit.Platform.PC, KriegsrahmenZeit.Location.ORB_VALLIS);
-
-        sunchart = new Sunchart(longitude.getValue(), latitude.getValue(), currentLocalTime.get(Calendar.YEAR));
-        sunyear = new Sunyear(longitude.getValue(), latitude.getValue(), currentLocalTime, timeZoneOffset.getValue());
+        Sunstartup.mark("sundial");
 
         unmaximizedWindowPositionX = new HashMap<>();
         unmaximizedWindowPositionY = new HashMap<>();
@@ -248,6 +331,8 @@ public class Sunface extends Application {
 
         Scene mainScene = new Scene(dialsGroup, dialsGroup.getLayoutBounds().getWidth(), dialsGroup.getLayoutBounds().getHeight(), true, SceneAntialiasing.DISABLED);
         mainScene.setFill(Color.TRANSPARENT);
+        // release actions read what the drag left behind, so pending drag work goes first
+        mainScene.addEventFilter(MouseEvent.MOUSE_RELEASED, event -> suncoalescer.flush());
 
 
         // Setup dialsGroup scale transform and bind to primaryStage size
@@ -277,6 +362,10 @@ public class Sunface extends Application {
                 primaryStage.heightProperty())
         );
 
+        // a new size means new bitmaps for the cached dial layers, a resize drag would redo them every pulse
+        dialsScale.xProperty().addListener((observable, oldValue, newValue) -> sundial.invalidateStaticLayers());
+        dialsScale.yProperty().addListener((observable, oldValue, newValue) -> sundial.invalidateStaticLayers());
+
         // Fix for Z-axis scale not propagating through SubScene in globe
         sundial.globeLightScalerProperty().bind(Bindings.createDoubleBinding(() ->
                 (primaryStage.widthProperty().get() / Sundial.DEFAULT_WIDTH),
@@ -285,98 +374,17 @@ public class Sunface extends Application {
 
 
         // App icons
-        Image appIconSun = new Image(Sunconfig.ICON_APP_URL, 512, 512, true, true);
+        appIconSun = new Image(Sunconfig.ICON_APP_URL, 512, 512, true, true);
 
 
-        // Debug window
-        double scanline = 0;
+        // Debug window is built on first use, see createDebugWindow()
 
-        Button copyCliButton = new Button("Copy command line switches to clipboard");
-        copyCliButton.setMinHeight(26);
-        copyCliButton.setOnMouseClicked(event -> sendTextToClipboard(cliTextArea.getText()));
+        // Chart window is built after the first frame or on first use, see createSunchartWindow()
+        sunchartReleaseTimer = new PauseTransition(Duration.minutes(Sunconfig.SUNCHART_RELEASE_DELAY));
+        sunchartReleaseTimer.setOnFinished(event -> releaseSunchartWindow());
 
-        scanline += copyCliButton.getMinHeight();
 
-        cliTextArea = new TextArea();
-        cliTextArea.setFont(Sunconfig.FONT_DEBUG);
-        cliTextArea.setMinWidth(600);
-        cliTextArea.setMaxWidth(600);
-        cliTextArea.setMinHeight(30);
-        cliTextArea.setMaxHeight(30);
-        cliTextArea.setEditable(false);
-        cliTextArea.setWrapText(false);
-        cliTextArea.setText("");
-        cliTextArea.setTranslateY(scanline);
-
-        scanline += cliTextArea.getMinHeight();
-
-        Button copyDebugButton = new Button("Copy data to clipboard");
-        copyDebugButton.setMinHeight(26);
-        copyDebugButton.setTranslateY(scanline);
-        copyDebugButton.setOnMouseClicked(event -> sendTextToClipboard(debugTextArea.getText()));
-
-        scanline += copyDebugButton.getMinHeight();
-
-        debugTextArea = new TextArea();
-        debugTextArea.setFont(Sunconfig.FONT_DEBUG);
-        debugTextArea.setMinWidth(600);
-        debugTextArea.setMinHeight(800);
-        debugTextArea.setEditable(false);
-        debugTextArea.setWrapText(true);
-        debugTextArea.setText(Sunconfig.A_BEGINNING);
-        debugTextArea.setTranslateY(scanline);
-
-        Group debugGroup = new Group();
-        debugGroup.getChildren().addAll(copyCliButton, cliTextArea, copyDebugButton, debugTextArea);
-
-        Scene debugScene = new Scene(debugGroup, debugGroup.getLayoutBounds().getWidth() + 6, debugGroup.getLayoutBounds().getHeight() + 2 + 28);
-        debugScene.setFill(Color.LIGHTSKYBLUE);
-
-        debugWindow = new Stage();
-        debugWindow.setTitle("Debug window");
-        debugWindow.setScene(debugScene);
-        debugWindow.setWidth(debugScene.getWidth());
-        debugWindow.setHeight(debugScene.getHeight());
-        debugWindow.setX(0);
-        debugWindow.setY(0);
-        debugWindow.setResizable(false);
-        debugWindow.getIcons().add(appIconSun);
-
-
-        // Chart window
-        Group sunyearChart = sunyear.getChart();
-
-        sunyearDefaultWidth = sunyearChart.getLayoutBounds().getWidth();
-        sunyearDefaultHeight = sunyearChart.getLayoutBounds().getHeight();
-
-        Scene chartScene = new Scene(sunyearChart, sunyearDefaultWidth, sunyearDefaultHeight);
-        chartScene.setFill(Color.TRANSPARENT);
-
-        sunchartWindow = new Stage();
-        sunchartWindow.setTitle("Sunchart");
-        sunchartWindow.setScene(chartScene);
-        sunchartWindow.setX(0);
-        sunchartWindow.setY(0);
-        sunchartWindow.setWidth(chartScene.getWidth());
-        sunchartWindow.setHeight(chartScene.getHeight());
-        sunchartWindow.getIcons().add(appIconSun);
-        sunchartWindow.initStyle(StageStyle.TRANSPARENT);
-
-        Scale chartScale = new Scale();
-
-        sunyearChart.getTransforms().add(chartScale);
-
-        chartScale.xProperty().bind(Bindings.createDoubleBinding(() ->
-                        (sunchartWindow.widthProperty().get() / sunyearDefaultWidth),
-                sunchartWindow.widthProperty())
-        );
-
-        chartScale.yProperty().bind(Bindings.createDoubleBinding(() ->
-                        (sunchartWindow.heightProperty().get() / sunyearDefaultHeight),
-                sunchartWindow.heightProperty())
-        );
-
-        sundial.getControlThingyChart().stateProperty().bind(sunchartWindow.showingProperty());
+        Sunstartup.mark("scene and app icon");
 
 
         // Primary window
@@ -406,7 +414,12 @@ public class Sunface extends Application {
         mainScene.setOnMouseExited(event -> sundial.hideOuterControlsGroup());
 
         // SUNDIAL WINDOW
-        sundial.getControlThingyClose().setOnMouseClicked(event -> System.exit(0));
+        sundial.getControlThingyClose().setOnMouseClicked(event -> {
+            cycleRefreshScheduler.stop();
+            Sunrecorder.stopWatchdog();
+            if (sunserver != null) { sunserver.stop(); }
+            System.exit(0);
+        });
         sundial.getControlThingyMaximize().setOnMouseClicked(event -> maximizeActions(primaryStage, WindowType.PRIMARY));
 
         sundial.getControlThingyMinimize().setOnMousePressed(event -> saveMouse(primaryStage, event));
@@ -414,7 +427,7 @@ public class Sunface extends Application {
 
         sundial.getControlThingyResize().setOnMousePressed(event -> saveMouse(primaryStage, event));
         sundial.getControlThingyResize().setOnMouseReleased(event -> { resizeActions(primaryStage, WindowType.PRIMARY, event); killMouse(); });
-        sundial.getControlThingyResize().setOnMouseDragged(event -> resizeWindow(primaryStage, WindowType.PRIMARY, event));
+        sundial.getControlThingyResize().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_WINDOW, event -> resizeWindowOnPulse(primaryStage, WindowType.PRIMARY, event)));
 
         sundial.getControlThingyHelp().setOnMouseClicked(event -> sundial.toggleHelp());
         sundial.getControlThingyAlwaysOnTop().setOnMouseClicked(event -> toggleAlwaysOnTop(primaryStage));
@@ -422,38 +435,40 @@ public class Sunface extends Application {
         sundial.getControlThingyAnimation().setOnMouseClicked(event -> sundial.toggleAnimation());
         sundial.getControlThingyPinInfo().setOnMouseClicked(event -> sundial.togglePinInfo());
 
-        sundial.getControlThingyChart().setOnMouseClicked(event -> toggleSunchartWindow());
-        sundial.getControlThingyCetus().setOnMouseClicked(event -> toggleKriegsrahmenZeit(KriegsrahmenZeit.Location.CETUS, event));
-        sundial.getControlThingyOrbVallis().setOnMouseClicked(event -> toggleKriegsrahmenZeit(KriegsrahmenZeit.Location.ORB_VALLIS, event));
+        sundial.getControlThingyChart().setOnMouseClicked(event -> toggleSunchartWindow(primaryStage));
+
+        for (CycleProvider provider : cycleProviderRegistry.getProviders()) {
+            sundial.getCycleControlThingy(provider).setOnMouseClicked(event -> toggleCycleProvider(provider, event));
+        }
 
         sundial.getControlThingyGlobeGrid().setOnMouseClicked(event -> sundial.toggleGlobeGrid());
         sundial.getControlThingyGlobeLines().setOnMouseClicked(event -> sundial.toggleGlobeLines());
 
         sundial.getControlNightCompression().setOnMousePressed(event -> saveMouse(primaryStage, event));
         sundial.getControlNightCompression().setOnMouseReleased(event -> { nightCompressionActions(primaryStage, event); killMouse(); });
-        sundial.getControlNightCompression().setOnMouseDragged(event -> nightCompressionDrag(sundial, event));
+        sundial.getControlNightCompression().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_NIGHT, event -> nightCompressionDrag(sundial, event)));
         sundial.getControlNightCompression().setOnScroll(event -> nightCompressionDrag(sundial, event));
 
         sundial.getControlThingyDst().setOnMouseClicked(event -> toggleDst());
 
         sundial.getDialMarginCircle().setOnMousePressed(event -> saveMouse(primaryStage, event));
         sundial.getDialMarginCircle().setOnMouseReleased(event -> { /* NO ACTIONS */ killMouse(); });
-        sundial.getDialMarginCircle().setOnMouseDragged(event -> changeWindowPosition(primaryStage, event));
+        sundial.getDialMarginCircle().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_WINDOW, event -> changeWindowPosition(primaryStage, event)));
 
         sundial.getDialCircleFrame().setOnMousePressed(event -> { saveMouse(primaryStage, event); globeCheck(); });
         sundial.getDialCircleFrame().setOnMouseReleased(event -> { frameActions(primaryStage, event); killMouse(); globeCheck(); });
-        sundial.getDialCircleFrame().setOnMouseDragged(event -> frameDrag(primaryStage, event) );
+        sundial.getDialCircleFrame().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_GLOBE, event -> frameDrag(primaryStage, event)));
         sundial.getDialCircleFrame().setOnDragOver(event -> checkDragAndDropString(event));
         sundial.getDialCircleFrame().setOnDragDropped(event -> rotateGlobe(PositionType.GOOGLE_MAPS, event));
 
-        sundial.getCetusMarkerGroup().setOnMousePressed(event -> { saveMouse(primaryStage, event); globeCheck(); });
-        sundial.getCetusMarkerGroup().setOnMouseReleased(event -> { frameActions(primaryStage, event); killMouse(); globeCheck(); });
-        sundial.getCetusMarkerGroup().setOnMouseDragged(event -> frameDrag(primaryStage, event) );
+        sundial.getCycleMarkersGroup().setOnMousePressed(event -> { saveMouse(primaryStage, event); globeCheck(); });
+        sundial.getCycleMarkersGroup().setOnMouseReleased(event -> { frameActions(primaryStage, event); killMouse(); globeCheck(); });
+        sundial.getCycleMarkersGroup().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_GLOBE, event -> frameDrag(primaryStage, event)));
 
 //        sundial.getTinyGlobeGroup().setOnMouseClicked(event -> tinyGlobeActions(event));
         sundial.getTinyGlobeGroup().setOnMousePressed(event -> saveMouse(primaryStage, event));
         sundial.getTinyGlobeGroup().setOnMouseReleased(event -> { tinyGlobeActions(event); killMouse(); });
-        sundial.getTinyGlobeGroup().setOnMouseDragged(event -> tinyGlobeDrag(event) );
+        sundial.getTinyGlobeGroup().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_GLOBE, event -> tinyGlobeDrag(event)));
         sundial.getTinyGlobeGroup().setOnDragOver(event -> checkDragAndDropString(event));
         sundial.getTinyGlobeGroup().setOnDragDropped(event -> rotateGlobe(PositionType.GOOGLE_MAPS, event));
 
@@ -463,67 +478,48 @@ public class Sunface extends Application {
 
         sundial.getMatrixLongitude().setOnMousePressed(event -> { saveMouse(primaryStage, event); globeCheck(); });
         sundial.getMatrixLongitude().setOnMouseReleased(event -> { coordinateActions(primaryStage, PositionType.LONGITUDE, event); killMouse(); globeCheck(); });
-        sundial.getMatrixLongitude().setOnMouseDragged(event -> rotateGlobe(sundial, PositionType.LONGITUDE, event));
+        sundial.getMatrixLongitude().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_GLOBE, event -> rotateGlobe(sundial, PositionType.LONGITUDE, event)));
         sundial.getMatrixLongitude().setOnScroll(event -> rotateGlobe(sundial, PositionType.LONGITUDE, event));
 
         sundial.getMatrixLatitude().setOnMousePressed(event -> { saveMouse(primaryStage, event); globeCheck(); });
         sundial.getMatrixLatitude().setOnMouseReleased(event -> { coordinateActions(primaryStage, PositionType.LATITUDE, event); killMouse(); globeCheck(); });
-        sundial.getMatrixLatitude().setOnMouseDragged(event -> rotateGlobe(sundial, PositionType.LATITUDE, event));
+        sundial.getMatrixLatitude().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_GLOBE, event -> rotateGlobe(sundial, PositionType.LATITUDE, event)));
         sundial.getMatrixLatitude().setOnScroll(event -> { rotateGlobe(sundial, PositionType.LATITUDE, event); });
 
         sundial.getMatrixYear().setOnMousePressed(event -> saveMouse(primaryStage, event));
-        sundial.getMatrixYear().setOnMouseReleased(event -> { timeControlActions(event); killMouse(); });
-        sundial.getMatrixYear().setOnMouseDragged(event -> offsetTimeByEvent(OffsetType.YEAR, event));
+        sundial.getMatrixYear().setOnMouseReleased(event -> { timeControlActions(OffsetType.YEAR, event); killMouse(); });
+        sundial.getMatrixYear().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_TIME, event -> offsetTimeByEvent(OffsetType.YEAR, event)));
         sundial.getMatrixYear().setOnScroll(event -> offsetTimeByEvent(OffsetType.YEAR, event));
 
         sundial.getMatrixMonth().setOnMousePressed(event -> saveMouse(primaryStage, event));
-        sundial.getMatrixMonth().setOnMouseReleased(event -> { timeControlActions(event); killMouse(); });
-        sundial.getMatrixMonth().setOnMouseDragged(event -> offsetTimeByEvent(OffsetType.MONTH, event));
+        sundial.getMatrixMonth().setOnMouseReleased(event -> { timeControlActions(OffsetType.MONTH, event); killMouse(); });
+        sundial.getMatrixMonth().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_TIME, event -> offsetTimeByEvent(OffsetType.MONTH, event)));
         sundial.getMatrixMonth().setOnScroll(event -> offsetTimeByEvent(OffsetType.MONTH, event));
 
         sundial.getMatrixDay().setOnMousePressed(event -> saveMouse(primaryStage, event));
-        sundial.getMatrixDay().setOnMouseReleased(event -> { timeControlActions(event); killMouse(); });
-        sundial.getMatrixDay().setOnMouseDragged(event -> offsetTimeByEvent(OffsetType.DAY, event));
+        sundial.getMatrixDay().setOnMouseReleased(event -> { timeControlActions(OffsetType.DAY, event); killMouse(); });
+        sundial.getMatrixDay().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_TIME, event -> offsetTimeByEvent(OffsetType.DAY, event)));
         sundial.getMatrixDay().setOnScroll(event -> offsetTimeByEvent(OffsetType.DAY, event));
 
         sundial.getMatrixHour().setOnMousePressed(event -> saveMouse(primaryStage, event));
-        sundial.getMatrixHour().setOnMouseReleased(event -> { timeControlActions(event); killMouse(); });
-        sundial.getMatrixHour().setOnMouseDragged(event -> offsetTimeByEvent(OffsetType.HOUR, event));
+        sundial.getMatrixHour().setOnMouseReleased(event -> { timeControlActions(OffsetType.HOUR, event); killMouse(); });
+        sundial.getMatrixHour().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_TIME, event -> offsetTimeByEvent(OffsetType.HOUR, event)));
         sundial.getMatrixHour().setOnScroll(event -> offsetTimeByEvent(OffsetType.HOUR, event));
 
         sundial.getMatrixMinute().setOnMousePressed(event -> saveMouse(primaryStage, event));
-        sundial.getMatrixMinute().setOnMouseReleased(event -> { timeControlActions(event); killMouse(); });
-        sundial.getMatrixMinute().setOnMouseDragged(event -> offsetTimeByEvent(OffsetType.MINUTE, event));
+        sundial.getMatrixMinute().setOnMouseReleased(event -> { timeControlActions(OffsetType.MINUTE, event); killMouse(); });
+        sundial.getMatrixMinute().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_TIME, event -> offsetTimeByEvent(OffsetType.MINUTE, event)));
         sundial.getMatrixMinute().setOnScroll(event -> offsetTimeByEvent(OffsetType.MINUTE, event));
 
         sundial.getMatrixWeek().setOnMousePressed(event -> saveMouse(primaryStage, event));
-        sundial.getMatrixWeek().setOnMouseReleased(event -> { timeControlActions(event); killMouse(); });
-        sundial.getMatrixWeek().setOnMouseDragged(event -> offsetTimeByEvent(OffsetType.WEEK, event));
+        sundial.getMatrixWeek().setOnMouseReleased(event -> { timeControlActions(OffsetType.WEEK, event); killMouse(); });
+        sundial.getMatrixWeek().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_TIME, event -> offsetTimeByEvent(OffsetType.WEEK, event)));
         sundial.getMatrixWeek().setOnScroll(event -> offsetTimeByEvent(OffsetType.WEEK, event));
 
         sundial.getDialHighNoonGroup().setOnMouseClicked(event -> sundial.toggleSunHighNoon());
 
         sundial.getMiroTextGroup().setOnMouseClicked(event -> openBrowser(event, Sunconfig.MIRO_URL));
 
-        // CHART WINDOW
-        sunyear.getChartFrame().setOnMouseEntered(event -> sunyearChart.setCursor(Cursor.MOVE));
-        sunyear.getChartFrame().setOnMouseExited(event -> sunyearChart.setCursor(Cursor.DEFAULT));
-        sunyear.getChartFrame().setOnMousePressed(event -> saveMouse(sunchartWindow, event));
-        sunyear.getChartFrame().setOnMouseReleased(event -> killMouse());
-        sunyear.getChartFrame().setOnMouseDragged(event -> changeWindowPosition(sunchartWindow, event));
-
-        sunyear.getControlThingyResize().setOnMousePressed(event -> saveMouse(sunchartWindow, event));
-        sunyear.getControlThingyResize().setOnMouseReleased(event -> { resizeActions(sunchartWindow, WindowType.CHART, event); killMouse(); });
-        sunyear.getControlThingyResize().setOnMouseDragged(event -> resizeWindow(sunchartWindow, WindowType.CHART, event));
-
-        sunyear.getControlThingyClose().setOnMouseClicked(event -> sunchartWindow.close());
-
-        sunyear.getControlThingyMaximize().setOnMouseClicked(event -> maximizeActions(sunchartWindow, WindowType.CHART));
-
-        sunyear.getControlThingyMinimize().setOnMousePressed(event -> saveMouse(primaryStage, event));
-        sunyear.getControlThingyMinimize().setOnMouseClicked(event -> { minimizeActions(sunchartWindow, event); killMouse(); });
-
-
         // *** CONFIG ***
         primaryStage.xProperty().addListener((observable, oldValue, newValue) -> configX.setValue(primaryStage.getX()));
         primaryStage.yProperty().addListener((observable, oldValue, newValue) -> configY.setValue(primaryStage.getY()));
@@ -566,16 +562,30 @@ public class Sunface extends Application {
         }
 
 
+        Sunstartup.mark("controls and handlers");
+
+
         // *** SHOWTIME ***
 
         initCurrentTime();
         timeline.play();
 
+        Sunstartup.mark("initial time update");
+
+        cycleRefreshScheduler.start();
+
+        loadSuntable(offsetLocalTime.get(Calendar.YEAR));
+
+        if (inputServe != null) { startSunserver(inputServe.intValue()); }
+
         sundial.hideOuterControlsGroup();
 //        sundial.toggleSunHighNoon();
 
         primaryStage.show();
 
+        Sunstartup.mark("stage shown");
+        afterFirstFrame(primaryStage);
+
         primaryStage.setAlwaysOnTop(true);
         primaryStage.setAlwaysOnTop(false);
 
@@ -586,22 +596,7 @@ public class Sunface extends Application {
         unmaximizedWindowSizeX.put(WindowType.PRIMARY, savedWindowSizeX);
         unmaximizedWindowSizeY.put(WindowType.PRIMARY, savedWindowSizeY);
 
-        unmaximizedWindowPositionX.put(WindowType.CHART, 0d);
-        unmaximizedWindowPositionY.put(WindowType.CHART, 0d);
-        unmaximizedWindowSizeX.put(WindowType.CHART, sunyearDefaultWidth);
-        unmaximizedWindowSizeY.put(WindowType.CHART, sunyearDefaultHeight);
-
         maximizedEh.put(WindowType.PRIMARY, false);
-        maximizedEh.put(WindowType.CHART, false);
-
-        Rectangle2D currentScreen = getCurrentScreen(primaryStage);
-        if (currentScreen != null) {
-            debugWindow.setX(currentScreen.getMinX());
-            debugWindow.setY(currentScreen.getMinY());
-            sunchartWindow.setX(currentScreen.getMinX());
-            sunchartWindow.setY(currentScreen.getMinY());
-        }
-
     }
 
 
@@ -609,8 +604,22 @@ public class Sunface extends Application {
     // *** Methods ***
 
     private void initCurrentTime() {
+        long initStart = System.nanoTime();
+        stopLapse();
         updateCurrentTime(true);
         setWarnings();
+        Sunrecorder.record(Sunrecorder.INIT, initStart);
+    }
+
+    // --at moves the start, --speed makes it run faster or slower from there
+    private Clock createClock() {
+
+        Clock newClock = Sunclock.real();
+
+        if (inputAt != null) { newClock = Sunclock.offset(newClock, inputAt - newClock.millis()); }
+        if (inputSpeed != null && inputSpeed >= 0) { newClock = Sunclock.accelerated(newClock, inputSpeed); }
+
+        return newClock;
     }
 
     private void updateCurrentTime() {
@@ -619,7 +628,7 @@ public class Sunface extends Application {
 
     private void updateCurrentTime(boolean initialize) {
 
-        GregorianCalendar newLocalTime = new GregorianCalendar();
+        GregorianCalendar newLocalTime = Sunclock.now(clock);
 
         // Store current Julian Day Number before updating current time
         long oldJulianDayNumber = Suntime.getJulianDayNumber(offsetLocalTime);
@@ -629,11 +638,36 @@ public class Sunface extends Application {
 
         if (newTimeInSeconds == currentTimeInSeconds && !initialize) { return; }
 
+        // a running time-lapse owns the offset time, only keep up with the real one
+        if (sunlapse != null) {
+            currentLocalTime = newLocalTime;
+            return;
+        }
+
         // Update current and offset local time
         long offsetSeconds = (offsetLocalTime.getTimeInMillis() - currentLocalTime.getTimeInMillis()) / 1000;
         currentLocalTime = newLocalTime;
         offsetLocalTime.setTimeInMillis(currentLocalTime.getTimeInMillis() + offsetSeconds * 1000);
 
+        updateDial(oldJulianDayNumber, initialize);
+    }
+
+    private void updateDial(long oldJulianDayNumber, boolean initialize) {
+
+        // phases for the performance panel, each lap adds the time since the previous one
+        long phaseStart = System.nanoTime();
+        long tickStart = phaseStart;
+
+        Sunevents.TickEvent tickEvent = Sunevents.JFR_EH ? new Sunevents.TickEvent() : null;
+        long iterations = 0;
+        long glyphWrites = 0;
+
+        if (tickEvent != null) {
+            tickEvent.begin();
+            iterations = suntimeLocal.getIterations() + suntimeGlobal.getIterations();
+            glyphWrites = DotMatrix.getGlyphWriteCount();
+        }
+
         // Update suntime and sundial objects
         timeZoneCorrection = offsetLocalTime.getTimeZone().getOffset(offsetLocalTime.getTimeInMillis());
 
@@ -642,75 +676,150 @@ public class Sunface extends Application {
         GregorianCalendar globalCalendar = new GregorianCalendar();
         globalCalendar.setTimeInMillis(timeZonedCalendar.getTimeInMillis() - timeZoneCorrection);
 
-        suntimeLocal.setObserverTime(timeZonedCalendar);
-        suntimeGlobal.setObserverTime(globalCalendar);
-
-        long newJulianDayNumber = suntimeLocal.getJulianDayNumber();
-
-        String yearString = ("0000" + offsetLocalTime.get(Calendar.YEAR));
-        yearString = yearString.substring(yearString.length() - 4);
-        String monthString = ("00" + (offsetLocalTime.get(Calendar.MONTH) + 1));
-        monthString = monthString.substring(monthString.length() - 2);
-        String dayString = ("00" + offsetLocalTime.get(Calendar.DAY_OF_MONTH));
-        dayString = dayString.substring(dayString.length() - 2);
-        String hourString = ("00" + offsetLocalTime.get(Calendar.HOUR_OF_DAY));
-        hourString = hourString.substring(hourString.length() - 2);
-        String minuteString = ("00" + offsetLocalTime.get(Calendar.MINUTE));
-        minuteString = minuteString.substring(minuteString.length() - 2);
-        String secondString = ("00" + offsetLocalTime.get(Calendar.SECOND));
-        secondString = secondString.substring(secondString.length() - 2);
-        String weekString = ("00" + offsetLocalTime.get(Calendar.WEEK_OF_YEAR));
-        weekString = weekString.substring(weekString.length() - 2);
+        long newJulianDayNumber;
+
+        // time-lapse frames read everything from the precomputed buffer, the solvers only run on the normal tick
+        if (sunlapse == null) {
+            suntimeLocal.setObserverTime(timeZonedCalendar);
+            suntimeGlobal.setObserverTime(globalCalendar);
+            newJulianDayNumber = suntimeLocal.getJulianDayNumber();
+        } else {
+            newJulianDayNumber = Suntime.getJulianDayNumber(timeZonedCalendar);
+        }
+
+        boolean newDayEh = (newJulianDayNumber != oldJulianDayNumber || initialize);
 
         // Update daily data only if it's a new day, or forced initialization event
-        if (newJulianDayNumber != oldJulianDayNumber || initialize) {
+        if (newDayEh) {
+
+            if (sunlapse == null) {
+                suntimeLocal.setObserverPosition(longitude.getValue(), latitude.getValue());
+                suntimeGlobal.setObserverPosition(longitude.getValue(), latitude.getValue());
+            }
 
-            suntimeLocal.setObserverPosition(longitude.getValue(), latitude.getValue());
-            suntimeGlobal.setObserverPosition(longitude.getValue(), latitude.getValue());
+            for (CycleProvider provider : cycleProviderRegistry.getProviders()) {
+                cycleListMap.put(provider.getCode(), provider.getCycleList(timeZonedCalendar));
+            }
 
-            cetusCycleList = cetusTime.getCycleList(timeZonedCalendar);
-            orbVallisCycleList = orbVallisTime.getCycleList(timeZonedCalendar);
+            // tables are per year, an offset, --at or a lapse can take the clock into another one
+            if (suntable != null && !suntable.containsEh(newJulianDayNumber)) {
+                loadSuntable(offsetLocalTime.get(Calendar.YEAR));
+            }
 
-            double highNoonJulianDate = suntimeLocal.getHighnoonJulianDate();
-            double sunriseJulianDate = suntimeLocal.getSunriseJulianDate();
-            double sunsetJulianDate = suntimeLocal.getSunsetJulianDate();
+            // known cities come straight from the precomputed table, everything else goes through the solver
+            int city = (suntable != null && suntable.containsEh(newJulianDayNumber))
+                    ? suntable.findCity(longitude.getValue(), latitude.getValue())
+                    : -1;
+
+            double highNoonJulianDate;
+            double sunriseJulianDate;
+            double sunsetJulianDate;
+            double noonDeclination;
+
+            if (sunlapse != null && sunlapse.containsEh(newJulianDayNumber)) {
+                highNoonJulianDate = sunlapse.getHighNoonJulianDate(newJulianDayNumber);
+                sunriseJulianDate = sunlapse.getSunriseJulianDate(newJulianDayNumber);
+                sunsetJulianDate = sunlapse.getSunsetJulianDate(newJulianDayNumber);
+                noonDeclination = sunlapse.getNoonDeclination(newJulianDayNumber);
+                sunmonitor.dayDone(Sunmonitor.LAPSE_BUFFER);
+            } else if (city >= 0) {
+                highNoonJulianDate = suntable.getHighNoonJulianDate(city, newJulianDayNumber);
+                sunriseJulianDate = suntable.getSunriseJulianDate(city, newJulianDayNumber);
+                sunsetJulianDate = suntable.getSunsetJulianDate(city, newJulianDayNumber);
+                noonDeclination = suntimeGlobal.getRealTimeDeclinationOfTheSun(newJulianDayNumber - 0.5);
+                sunmonitor.dayDone(Sunmonitor.CITY_TABLE);
+            } else {
+                highNoonJulianDate = suntimeLocal.getHighnoonJulianDate();
+                sunriseJulianDate = suntimeLocal.getSunriseJulianDate();
+                sunsetJulianDate = suntimeLocal.getSunsetJulianDate();
+                noonDeclination = suntimeGlobal.getRealTimeDeclinationOfTheSun(newJulianDayNumber - 0.5);
+                sunmonitor.dayDone(Sunmonitor.SOLVER);
+            }
 
             GregorianCalendar highNoonDate = Suntime.getCalendarDate(highNoonJulianDate, offsetLocalTime.getTimeZone());
             GregorianCalendar sunriseDate = Suntime.getCalendarDate(sunriseJulianDate, offsetLocalTime.getTimeZone());
             GregorianCalendar sunsetDate = Suntime.getCalendarDate(sunsetJulianDate, offsetLocalTime.getTimeZone());
 
-            double noonAngle = latitude.getValue() - suntimeGlobal.getRealTimeDeclinationOfTheSun(newJulianDayNumber - 0.5);
+            double noonAngle = latitude.getValue() - noonDeclination;
+
+            phaseStart = sunperformance.lap(Sunperformance.SOLVER, phaseStart);
 
             sundial.setHorizon(sunriseDate, sunsetDate);
             sundial.setCoordinates(longitude.getValue(), latitude.getValue());
-            sundial.setCetusTime(cetusCycleList, timeZonedCalendar, timeZoneCorrection);
-            sundial.setOrbVallisTime(orbVallisCycleList, timeZonedCalendar, timeZoneCorrection);
+            for (CycleProvider provider : cycleProviderRegistry.getProviders()) {
+                sundial.setCycles(provider, getCycleList(provider), timeZonedCalendar, timeZoneCorrection);
+            }
             sundial.setTimeZone(offsetLocalTime.getTimeZone());
             sundial.setHighNoon(highNoonDate, noonAngle);
             sundial.setArcHourRotate(offsetLocalTime);
 
-            sunyear.setLocalDate(offsetLocalTime);
+            phaseStart = sunperformance.lap(Sunperformance.SUNDIAL, phaseStart);
+
+            if (sunyear != null) { sunyear.setLocalDate(offsetLocalTime); }
+
+            phaseStart = sunperformance.lap(Sunperformance.CHART, phaseStart);
         }
 
         sundial.setLocalTime(offsetLocalTime);
-        sundial.updateCetusTimer(cetusCycleList);
-        sundial.updateOrbVallisTimer(orbVallisCycleList);
+        for (CycleProvider provider : cycleProviderRegistry.getProviders()) {
+            sundial.updateCycleTimer(provider, getCycleList(provider));
+        }
         sundial.updateDialMarkers();
 
-        double phase = (suntimeGlobal.getJulianDate() - suntimeGlobal.getJulianDayNumber()) * 360;
-        double tilt = -suntimeGlobal.getRealTimeDeclinationOfTheSun(Suntime.getJulianDate(globalCalendar));
+        phaseStart = sunperformance.lap(Sunperformance.SUNDIAL, phaseStart);
+
+        double phase;
+        double tilt;
+
+        if (sunlapse == null) {
+            phase = (suntimeGlobal.getJulianDate() - suntimeGlobal.getJulianDayNumber()) * 360;
+            tilt = -suntimeGlobal.getRealTimeDeclinationOfTheSun(Suntime.getJulianDate(globalCalendar));
+        } else {
+            double globalJulianDate = Suntime.getJulianDate(globalCalendar);
+            phase = (globalJulianDate - Suntime.getJulianDayNumber(globalCalendar)) * 360;
+            tilt = -sunlapse.getDeclination(globalJulianDate);
+        }
+
+        phaseStart = sunperformance.lap(Sunperformance.SOLVER, phaseStart);
 
         sundial.setGlobeDaylight(phase, tilt);
 
-        sundial.getMatrixHour().setString(hourString);
-        sundial.getMatrixMinute().setString(minuteString);
-        sundial.getMatrixSecond().setString(secondString);
-        sundial.getMatrixDay().setString(dayString);
-        sundial.getMatrixMonth().setString(monthString);
-        sundial.getMatrixYear().setString(yearString);
-        sundial.getMatrixWeek().setString(weekString);
+        // one reused buffer for all the date and time matrices, nothing here allocates
+        Sunformat.putDigits(matrixChars, 0, offsetLocalTime.get(Calendar.HOUR_OF_DAY), 2);
+        sundial.getMatrixHour().setChars(matrixChars, 0, 2);
+        Sunformat.putDigits(matrixChars, 0, offsetLocalTime.get(Calendar.MINUTE), 2);
+        sundial.getMatrixMinute().setChars(matrixChars, 0, 2);
+        Sunformat.putDigits(matrixChars, 0, offsetLocalTime.get(Calendar.SECOND), 2);
+        sundial.getMatrixSecond().setChars(matrixChars, 0, 2);
+        Sunformat.putDigits(matrixChars, 0, offsetLocalTime.get(Calendar.DAY_OF_MONTH), 2);
+        sundial.getMatrixDay().setChars(matrixChars, 0, 2);
+        Sunformat.putDigits(matrixChars, 0, offsetLocalTime.get(Calendar.MONTH) + 1, 2);
+        sundial.getMatrixMonth().setChars(matrixChars, 0, 2);
+        Sunformat.putDigits(matrixChars, 0, offsetLocalTime.get(Calendar.YEAR), 4);
+        sundial.getMatrixYear().setChars(matrixChars, 0, 4);
+        Sunformat.putDigits(matrixChars, 0, offsetLocalTime.get(Calendar.WEEK_OF_YEAR), 2);
+        sundial.getMatrixWeek().setChars(matrixChars, 0, 2);
+
+        phaseStart = sunperformance.lap(Sunperformance.SUNDIAL, phaseStart);
+
+        updateSunchart();
+
+        sunperformance.lap(Sunperformance.CHART, phaseStart);
+        sunperformance.tickDone();
+        sunmonitor.tickDone(System.nanoTime() - tickStart);
+        Sunrecorder.record(Sunrecorder.TICK, tickStart);
+
+        if (tickEvent != null) {
+            tickEvent.end();
+            if (tickEvent.shouldCommit()) {
+                tickEvent.newDay = newDayEh;
+                tickEvent.lapse = (sunlapse != null);
+                tickEvent.iterations = suntimeLocal.getIterations() + suntimeGlobal.getIterations() - iterations;
+                tickEvent.glyphWrites = DotMatrix.getGlyphWriteCount() - glyphWrites;
+                tickEvent.commit();
+            }
+        }
 
-        updateSunchart(sunchart);
         updateDebugWindow(sundial);
     }
 
@@ -835,7 +944,273 @@ public class Sunface extends Application {
             );
         }
 
-        initCurrentTime();
+        initCurrentTimeOnPulse();
+    }
+
+    private void toggleLapse(OffsetType offsetType) {
+
+        if (lapseStartingEh) { return; }
+
+        if (sunlapse != null) {
+            initCurrentTime();
+            return;
+        }
+
+        computeLapse(offsetType, this::startLapse);
+    }
+
+    // fills the ephemeris buffer for the next year, month, week or day in the background
+    private void computeLapse(OffsetType offsetType, Consumer<Sunlapse> onComputed) {
+
+        GregorianCalendar lapseEnd = (GregorianCalendar) offsetLocalTime.clone();
+
+        switch (offsetType) {
+            case YEAR   : lapseEnd.add(Calendar.YEAR, 1); break;
+            case MONTH  : lapseEnd.add(Calendar.MONTH, 1); break;
+            case WEEK   : lapseEnd.add(Calendar.WEEK_OF_YEAR, 1); break;
+            default     : lapseEnd.add(Calendar.DAY_OF_YEAR, 1);
+        }
+
+        // a couple of spare days either side, the time zone correction can move the day number by one
+        long firstJulianDayNumber = Suntime.getJulianDayNumber(offsetLocalTime) - 2;
+        int dayCount = (int) (Suntime.getJulianDayNumber(lapseEnd) + 2 - firstJulianDayNumber) + 1;
+
+        ComputeLapseTask computeLapseTask = new ComputeLapseTask(
+                longitude.getValue(),
+                latitude.getValue(),
+                firstJulianDayNumber,
+                dayCount,
+                offsetLocalTime.getTimeInMillis(),
+                lapseEnd.getTimeInMillis()
+        );
+
+        computeLapseTask.setOnSucceeded(event -> {
+            lapseStartingEh = false;
+            Sunlapse newSunlapse = computeLapseTask.getValue();
+            // the globe moved while the buffer was being filled
+            if (newSunlapse.getLongitude() != longitude.getValue() || newSunlapse.getLatitude() != latitude.getValue()) { return; }
+            onComputed.accept(newSunlapse);
+        });
+        computeLapseTask.setOnFailed(event -> {
+            lapseStartingEh = false;
+            System.out.println("Time-lapse unavailable: " + computeLapseTask.getException().getMessage());
+        });
+
+        lapseStartingEh = true;
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.execute(computeLapseTask);
+        executorService.shutdown();
+    }
+
+    private class ComputeLapseTask extends Task<Sunlapse> {
+
+        double longitude;
+        double latitude;
+        long firstJulianDayNumber;
+        int dayCount;
+        long startMillis;
+        long endMillis;
+
+        public ComputeLapseTask(double longitude, double latitude, long firstJulianDayNumber, int dayCount, long startMillis, long endMillis) {
+            this.longitude = longitude;
+            this.latitude = latitude;
+            this.firstJulianDayNumber = firstJulianDayNumber;
+            this.dayCount = dayCount;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+
+        @Override
+        protected Sunlapse call() {
+            long computeStart = System.nanoTime();
+            Sunlapse sunlapse = Sunlapse.compute(longitude, latitude, firstJulianDayNumber, dayCount, startMillis, endMillis, Sunconfig.LAPSE_DURATION);
+            Sunrecorder.record(Sunrecorder.LAPSE_COMPUTE, computeStart);
+            return sunlapse;
+        }
+    }
+
+    private void startLapse(Sunlapse newSunlapse) {
+
+        sunlapse = newSunlapse;
+        sundial.setCustomTimeWarning(true);
+
+        lapseTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+
+                if (sunlapse == null) { stop(); return; }
+
+                long simulatedMillis = sunlapse.getMillis(now);
+
+                if (sunlapse.frameDueEh(now)) {
+                    long frameStart = System.nanoTime();
+                    lapseFrame(simulatedMillis);
+                    sunlapse.frameDone(now, System.nanoTime() - frameStart);
+                }
+
+                if (sunlapse.finishedEh(now)) { initCurrentTime(); }
+            }
+        };
+
+        lapseTimer.start();
+    }
+
+    private void exportDial() {
+        writePng(Sunexport.snapshot(sundial.getDialsGroup(), Sunconfig.EXPORT_SIZE), "sundial");
+    }
+
+    private void exportChart() {
+
+        // a chart of its own, the one in the chart window may be released or out of date
+        BuildSunyearTask buildSunyearTask = new BuildSunyearTask(
+                longitude.getValue(), latitude.getValue(), offsetLocalTime, timeZoneOffset.getValue()
+        );
+
+        buildSunyearTask.setOnSucceeded(event -> {
+            Sunyear chartSunyear = buildSunyearTask.getValue();
+            chartSunyear.setTimeZone(offsetLocalTime.getTimeZone());
+            chartSunyear.setLocalDate(offsetLocalTime);
+            writePng(Sunexport.snapshot(chartSunyear.getChart(), Sunconfig.EXPORT_SIZE), "sunyear");
+        });
+        buildSunyearTask.setOnFailed(event -> showExportInfo("Export failed: " + buildSunyearTask.getException().getMessage()));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.execute(buildSunyearTask);
+        executorService.shutdown();
+    }
+
+    private void writePng(WritableImage image, String name) {
+
+        WritePngTask writePngTask = new WritePngTask(image, name);
+
+        writePngTask.setOnSucceeded(event -> showExportInfo("Saved " + writePngTask.getValue()));
+        writePngTask.setOnFailed(event -> showExportInfo("Export failed: " + writePngTask.getException().getMessage()));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.execute(writePngTask);
+        executorService.shutdown();
+    }
+
+    private class WritePngTask extends Task<Path> {
+
+        WritableImage image;
+        String name;
+
+        public WritePngTask(WritableImage image, String name) {
+            this.image = image;
+            this.name = name;
+        }
+
+        @Override
+        protected Path call() throws IOException {
+            Path file = Sunexport.createFile(name);
+            Sunexport.writePng(image, file);
+            return file;
+        }
+    }
+
+    private void exportSequence(OffsetType offsetType) {
+
+        if (lapseStartingEh || sunlapse != null) { return; }
+
+        computeLapse(offsetType, this::startExportSequence);
+    }
+
+    /**
+     * Same dial and buffer as a time-lapse, but frame by frame on a simulated clock: frame n shows
+     * start + n / EXPORT_FRAMES of the range, however long rendering and encoding take. One frame per pulse
+     * at most, so the window stays responsive, and none while the encoder has EXPORT_PENDING_FRAMES waiting.
+     */
+    private void startExportSequence(Sunlapse newSunlapse) {
+
+        try {
+            exportDirectory = Sunexport.createDirectory("sundial");
+        } catch (IOException e) {
+            showExportInfo("Export failed: " + e.getMessage());
+            return;
+        }
+
+        AtomicInteger pendingFrames = new AtomicInteger();
+
+        exportExecutor = Executors.newSingleThreadExecutor();
+        exportFrame = 0;
+
+        sunlapse = newSunlapse;
+        sundial.setCustomTimeWarning(true);
+
+        lapseTimer = new AnimationTimer() {
+
+            @Override
+            public void handle(long now) {
+
+                if (sunlapse == null) { stop(); return; }
+
+                if (pendingFrames.get() >= Sunconfig.EXPORT_PENDING_FRAMES) { return; }
+
+                lapseFrame(sunlapse.getFrameMillis(exportFrame, Sunconfig.EXPORT_FRAMES));
+
+                WritableImage image = Sunexport.snapshot(sundial.getDialsGroup(), Sunconfig.EXPORT_FRAME_SIZE);
+                Path file = exportDirectory.resolve(String.format("frame-%04d.png", exportFrame));
+
+                pendingFrames.incrementAndGet();
+
+                exportExecutor.execute(() -> {
+                    try {
+                        Sunexport.writePng(image, file);
+                    } catch (IOException e) {
+                        System.out.println("Unable to write " + file + ": " + e.getMessage());
+                    } finally {
+                        pendingFrames.decrementAndGet();
+                    }
+                });
+
+                exportFrame++;
+
+                if (exportFrame >= Sunconfig.EXPORT_FRAMES) {
+
+                    // queued after the last frame, so it's only said once everything is on disk
+                    String savedText = "Saved " + exportFrame + " frames to " + exportDirectory;
+                    exportExecutor.execute(() -> Platform.runLater(() -> showExportInfo(savedText)));
+                    exportExecutor.shutdown();
+                    exportExecutor = null;
+
+                    initCurrentTime();
+                }
+            }
+        };
+
+        lapseTimer.start();
+    }
+
+    private void showExportInfo(String text) {
+        sundial.getInfoText().setText(text);
+        showInfoText();
+        hideInfoTextWithDelay();
+    }
+
+    private void lapseFrame(long simulatedMillis) {
+        long oldJulianDayNumber = Suntime.getJulianDayNumber(offsetLocalTime);
+        offsetLocalTime.setTimeInMillis(simulatedMillis);
+        updateDial(oldJulianDayNumber, false);
+    }
+
+    // stays on whatever time the sweep reached, MMB on a time matrix goes back to now
+    private void stopLapse() {
+
+        if (lapseTimer != null) {
+            lapseTimer.stop();
+            lapseTimer = null;
+        }
+
+        // a time or globe change ended an export sequence before its last frame, frames so far still get written
+        if (exportExecutor != null) {
+            exportExecutor.shutdown();
+            exportExecutor = null;
+            showExportInfo("Export stopped after " + exportFrame + " of " + Sunconfig.EXPORT_FRAMES + " frames, " + exportDirectory + " is incomplete");
+        }
+
+        sunlapse = null;
     }
 
     private void resetGlobePosition(Sundial sundial, PositionType type) {
@@ -874,7 +1249,7 @@ public class Sunface extends Application {
             try {
                 Thread.sleep(millis);
             } catch (InterruptedException e) {
-                debugTextArea.setText("Error while calling sleep for InfoText:\n" + e.getMessage());
+                System.out.println("Error while calling sleep for InfoText:\n" + e.getMessage());
             }
 
             return true;
@@ -936,8 +1311,194 @@ public class Sunface extends Application {
         return currentScreen;
     }
 
+    private void createDebugWindow(Stage stage) {
+
+        double scanline = 0;
+
+        Button copyCliButton = new Button("Copy command line switches to clipboard");
+        copyCliButton.setMinHeight(26);
+        copyCliButton.setOnMouseClicked(event -> sendTextToClipboard(cliTextArea.getText()));
+
+        scanline += copyCliButton.getMinHeight();
+
+        cliTextArea = new TextArea();
+        cliTextArea.setFont(Sunresources.getFontDebug());
+        cliTextArea.setMinWidth(600);
+        cliTextArea.setMaxWidth(600);
+        cliTextArea.setMinHeight(30);
+        cliTextArea.setMaxHeight(30);
+        cliTextArea.setEditable(false);
+        cliTextArea.setWrapText(false);
+        cliTextArea.setText("");
+        cliTextArea.setTranslateY(scanline);
+
+        scanline += cliTextArea.getMinHeight();
+
+        Button copyDebugButton = new Button("Copy data to clipboard");
+        copyDebugButton.setMinHeight(26);
+        copyDebugButton.setTranslateY(scanline);
+        copyDebugButton.setOnMouseClicked(event -> sendTextToClipboard(debugTextArea.getText()));
+
+        Button exportDialButton = new Button("Export dial");
+        exportDialButton.setMinHeight(26);
+        exportDialButton.setTranslateX(200);
+        exportDialButton.setTranslateY(scanline);
+        exportDialButton.setOnMouseClicked(event -> exportDial());
+
+        Button exportChartButton = new Button("Export chart");
+        exportChartButton.setMinHeight(26);
+        exportChartButton.setTranslateX(300);
+        exportChartButton.setTranslateY(scanline);
+        exportChartButton.setOnMouseClicked(event -> exportChart());
+
+        Button exportSequenceButton = new Button("Export year as frames");
+        exportSequenceButton.setMinHeight(26);
+        exportSequenceButton.setTranslateX(410);
+        exportSequenceButton.setTranslateY(scanline);
+        exportSequenceButton.setOnMouseClicked(event -> exportSequence(OffsetType.YEAR));
+
+        scanline += copyDebugButton.getMinHeight();
+
+        debugTextArea = new TextArea();
+        debugTextArea.setFont(Sunresources.getFontDebug());
+        debugTextArea.setMinWidth(600);
+        debugTextArea.setMinHeight(800);
+        debugTextArea.setEditable(false);
+        debugTextArea.setWrapText(true);
+        debugTextArea.setText(Sunconfig.A_BEGINNING);
+        debugTextArea.setTranslateY(scanline);
+
+        Button copyPerformanceButton = new Button("Copy performance to clipboard");
+        copyPerformanceButton.setMinHeight(26);
+        copyPerformanceButton.setTranslateX(debugTextArea.getMinWidth() + 6);
+        copyPerformanceButton.setOnMouseClicked(event -> sendTextToClipboard(performanceTextArea.getText()));
+
+        performanceTextArea = new TextArea();
+        performanceTextArea.setFont(Sunresources.getFontDebug());
+        performanceTextArea.setMinWidth(600);
+        performanceTextArea.setMinHeight(scanline + debugTextArea.getMinHeight() - copyPerformanceButton.getMinHeight());
+        performanceTextArea.setEditable(false);
+        performanceTextArea.setWrapText(false);
+        performanceTextArea.setTranslateX(debugTextArea.getMinWidth() + 6);
+        performanceTextArea.setTranslateY(copyPerformanceButton.getMinHeight());
+
+        // frame times are taken pulse to pulse, only while the window is up
+        pulseTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                sunperformance.pulse(now);
+            }
+        };
+
+        Group debugGroup = new Group();
+        debugGroup.getChildren().addAll(copyCliButton, cliTextArea, copyDebugButton, exportDialButton, exportChartButton, exportSequenceButton, debugTextArea);
+        debugGroup.getChildren().addAll(copyPerformanceButton, performanceTextArea);
+
+        Scene debugScene = new Scene(debugGroup, debugGroup.getLayoutBounds().getWidth() + 6, debugGroup.getLayoutBounds().getHeight() + 2 + 28);
+        debugScene.setFill(Color.LIGHTSKYBLUE);
+
+        debugWindow = new Stage();
+        debugWindow.setTitle("Debug window");
+        debugWindow.setScene(debugScene);
+        debugWindow.setWidth(debugScene.getWidth());
+        debugWindow.setHeight(debugScene.getHeight());
+        debugWindow.setX(0);
+        debugWindow.setY(0);
+        debugWindow.setResizable(false);
+        debugWindow.getIcons().add(appIconSun);
+        debugWindow.setOnShown(event -> { sunperformance.reset(); pulseTimer.start(); });
+        debugWindow.setOnHidden(event -> pulseTimer.stop());
+
+        Rectangle2D currentScreen = getCurrentScreen(stage);
+        if (currentScreen != null) {
+            debugWindow.setX(currentScreen.getMinX());
+            debugWindow.setY(currentScreen.getMinY());
+        }
+
+        generateCliSwitches(cliTextArea);
+    }
+
+    private void afterFirstFrame(Stage primaryStage) {
+
+        // an animation timer fires on the first pulse after the stage is shown, which is the one that renders it
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                Sunstartup.mark("first frame");
+                Sunstartup.report();
+                if (Sunstartup.EXIT_EH) { Platform.runLater(() -> System.exit(0)); }
+                prewarmSunchartWindow(primaryStage);
+                // the platform MBean server takes a while to come up, so not before the first frame
+                sunmonitor.register();
+                Sunrecorder.startWatchdog();
+                // start-up frames are slow for other reasons, the governor starts measuring after them
+                if (Sunquality.AUTO_EH) { setQualityTier(Sunquality.AUTO); }
+            }
+        }.start();
+    }
+
+    // drags and wheels can fire several times a frame, the daily recompute only has to run once per pulse
+    private void initCurrentTimeOnPulse() {
+        suncoalescer.post(PulseWork.TIME, this::initCurrentTime);
+    }
+
+    private void rotateGlobeOnPulse() {
+        initCurrentTimeOnPulse();
+        suncoalescer.post(PulseWork.GLOBE, () -> sundial.rotateGlobe(longitude.getValue(), latitude.getValue()));
+    }
+
+    private void changeNightCompressionOnPulse(int steps) {
+        nightCompressionSteps += steps;
+        suncoalescer.post(PulseWork.NIGHT_COMPRESSION, () -> {
+            sundial.changeNightCompression(nightCompressionSteps);
+            nightCompressionSteps = 0;
+        });
+    }
+
+    // times a drag handler for the event log
+    private EventHandler<MouseEvent> recordDrag(int type, EventHandler<MouseEvent> handler) {
+        return event -> {
+            long dragStart = System.nanoTime();
+            handler.handle(event);
+            Sunrecorder.record(type, dragStart);
+        };
+    }
+
+    private void setAnimation(boolean animationEh) {
+        if (sundial.getLedAnimationOnEh() != animationEh) { sundial.toggleAnimation(); }
+    }
+
+    // a tier name fixes the tier, auto hands it to the governor
+    private void setQualityTier(String qualityTierName) {
+
+        if (Sunquality.AUTO.equals(qualityTierName)) {
+            if (!sungovernor.getRunningEh()) { sungovernor.start(qualityTier); }
+            sunmonitor.qualityTierChanged(qualityTier, true);
+            return;
+        }
+
+        Sunquality.Tier tier = Sunquality.Tier.forName(qualityTierName);
+        if (tier == null) { return; }
+
+        sungovernor.stop();
+        applyQualityTier(tier);
+    }
+
+    private void applyQualityTier(Sunquality.Tier tier) {
+
+        qualityTier = tier;
+
+        sundial.setQualityTier(tier);
+        if (sunyear != null) { sunyear.setQualityTier(tier); }
+
+        sunmonitor.qualityTierChanged(tier, sungovernor.getRunningEh());
+    }
+
     private void toggleDebugWindow(Stage stage) {
 
+        if (debugWindow == null) { createDebugWindow(stage); }
+
         if (debugWindow.isShowing()) {
             debugWindow.close();
         } else {
@@ -945,44 +1506,203 @@ public class Sunface extends Application {
         }
     }
 
-    private void toggleSunchartWindow() {
+    private Sunyear createSunyear(double longitude, double latitude, GregorianCalendar date, long timeZoneOffset) {
+        Sunyear sunyear = new Sunyear(longitude, latitude, date, timeZoneOffset, clock);
+        sunyear.setEphemerisDirectory(Paths.get(System.getProperty("user.home"), Sunconfig.CACHE_DIRECTORY, Sunconfig.EPHEMERIS_DIRECTORY));
+        return sunyear;
+    }
+
+    private void createSunchartWindow(Sunyear newSunyear, Stage primaryStage) {
+
+        Group sunyearChart = newSunyear.getChart();
+
+        sunyearDefaultWidth = sunyearChart.getLayoutBounds().getWidth();
+        sunyearDefaultHeight = sunyearChart.getLayoutBounds().getHeight();
+
+        Scene chartScene = new Scene(sunyearChart, sunyearDefaultWidth, sunyearDefaultHeight);
+        chartScene.setFill(Color.TRANSPARENT);
+        chartScene.addEventFilter(MouseEvent.MOUSE_RELEASED, event -> suncoalescer.flush());
+
+        Stage chartWindow = new Stage();
+        chartWindow.setTitle("Sunchart");
+        chartWindow.setScene(chartScene);
+        chartWindow.setX(0);
+        chartWindow.setY(0);
+        chartWindow.setWidth(chartScene.getWidth());
+        chartWindow.setHeight(chartScene.getHeight());
+        chartWindow.getIcons().add(appIconSun);
+        chartWindow.initStyle(StageStyle.TRANSPARENT);
+
+        Scale chartScale = new Scale();
+
+        sunyearChart.getTransforms().add(chartScale);
+
+        chartScale.xProperty().bind(Bindings.createDoubleBinding(() ->
+                        (chartWindow.widthProperty().get() / sunyearDefaultWidth),
+                chartWindow.widthProperty())
+        );
+
+        chartScale.yProperty().bind(Bindings.createDoubleBinding(() ->
+                        (chartWindow.heightProperty().get() / sunyearDefaultHeight),
+                chartWindow.heightProperty())
+        );
+
+        attachSunchartWindow(newSunyear, chartWindow);
+
+        sunyear.getChartFrame().setOnMouseEntered(event -> sunyearChart.setCursor(Cursor.MOVE));
+        sunyear.getChartFrame().setOnMouseExited(event -> sunyearChart.setCursor(Cursor.DEFAULT));
+        sunyear.getChartFrame().setOnMousePressed(event -> saveMouse(sunchartWindow, event));
+        sunyear.getChartFrame().setOnMouseReleased(event -> killMouse());
+        sunyear.getChartFrame().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_WINDOW, event -> changeWindowPosition(sunchartWindow, event)));
+
+        sunyear.getControlThingyResize().setOnMousePressed(event -> saveMouse(sunchartWindow, event));
+        sunyear.getControlThingyResize().setOnMouseReleased(event -> { resizeActions(sunchartWindow, WindowType.CHART, event); killMouse(); });
+        sunyear.getControlThingyResize().setOnMouseDragged(recordDrag(Sunrecorder.DRAG_WINDOW, event -> resizeWindowOnPulse(sunchartWindow, WindowType.CHART, event)));
+
+        sunyear.getControlThingyClose().setOnMouseClicked(event -> sunchartWindow.close());
+
+        sunyear.getControlThingyMaximize().setOnMouseClicked(event -> maximizeActions(sunchartWindow, WindowType.CHART));
+
+        sunyear.getControlThingyMinimize().setOnMousePressed(event -> saveMouse(primaryStage, event));
+        sunyear.getControlThingyMinimize().setOnMouseClicked(event -> { minimizeActions(sunchartWindow, event); killMouse(); });
+
+        unmaximizedWindowPositionX.put(WindowType.CHART, 0d);
+        unmaximizedWindowPositionY.put(WindowType.CHART, 0d);
+        unmaximizedWindowSizeX.put(WindowType.CHART, sunyearDefaultWidth);
+        unmaximizedWindowSizeY.put(WindowType.CHART, sunyearDefaultHeight);
+
+        maximizedEh.put(WindowType.CHART, false);
+
+        Rectangle2D currentScreen = getCurrentScreen(primaryStage);
+        if (currentScreen != null) {
+            sunchartWindow.setX(currentScreen.getMinX());
+            sunchartWindow.setY(currentScreen.getMinY());
+        }
+    }
+
+    private void attachSunchartWindow(Sunyear sunyear, Stage stage) {
+
+        this.sunyear = sunyear;
+        sunchartWindow = stage;
+
+        // may have been made or released under another tier
+        sunyear.setQualityTier(qualityTier);
+
+        sundial.getControlThingyChart().stateProperty().bind(sunchartWindow.showingProperty());
+        sunchartWindow.showingProperty().addListener(sunchartShowingListener);
+    }
+
+    private void releaseSunchartWindow() {
+
+        if (sunchartWindow == null || sunchartWindow.isShowing()) { return; }
+
+        // closed for a while, keep it only as long as the heap has room for it
+        sunchartWindow.showingProperty().removeListener(sunchartShowingListener);
+        sundial.getControlThingyChart().stateProperty().unbind();
+
+        releasedSunyear = new SoftReference<>(sunyear);
+        releasedSunchartWindow = new SoftReference<>(sunchartWindow);
+
+        sunyear = null;
+        sunchartWindow = null;
+    }
+
+    private boolean restoreSunchartWindow() {
+
+        if (releasedSunyear == null || releasedSunchartWindow == null) { return false; }
+
+        Sunyear releasedYear = releasedSunyear.get();
+        Stage releasedWindow = releasedSunchartWindow.get();
+
+        releasedSunyear = null;
+        releasedSunchartWindow = null;
+
+        if (releasedYear == null || releasedWindow == null) { return false; }
+
+        attachSunchartWindow(releasedYear, releasedWindow);
+
+        return true;
+    }
+
+    private void prewarmSunchartWindow(Stage primaryStage) {
+
+        if (sunchartWindow != null) { return; }
+
+        BuildSunyearTask buildSunyearTask = new BuildSunyearTask(
+                longitude.getValue(), latitude.getValue(), offsetLocalTime, timeZoneOffset.getValue()
+        );
+
+        // nodes are put together off the FX thread, the stage itself has to be made on it
+        buildSunyearTask.setOnSucceeded(event -> {
+            if (sunchartWindow == null && !restoreSunchartWindow()) {
+                createSunchartWindow(buildSunyearTask.getValue(), primaryStage);
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.execute(buildSunyearTask);
+        executorService.shutdown();
+    }
+
+    private class BuildSunyearTask extends Task<Sunyear> {
+
+        double longitude;
+        double latitude;
+        GregorianCalendar date;
+        long timeZoneOffset;
+
+        public BuildSunyearTask(double longitude, double latitude, GregorianCalendar date, long timeZoneOffset) {
+            this.longitude = longitude;
+            this.latitude = latitude;
+            this.date = (GregorianCalendar) date.clone();
+            this.timeZoneOffset = timeZoneOffset;
+        }
+
+        @Override
+        protected Sunyear call() {
+            long buildStart = System.nanoTime();
+            Sunyear sunyear = createSunyear(longitude, latitude, date, timeZoneOffset);
+            Sunrecorder.record(Sunrecorder.SUNYEAR_BUILD, buildStart);
+            return sunyear;
+        }
+    }
+
+    private void toggleSunchartWindow(Stage stage) {
+
+        if (sunchartWindow == null && !restoreSunchartWindow()) {
+            createSunchartWindow(createSunyear(longitude.getValue(), latitude.getValue(), offsetLocalTime, timeZoneOffset.getValue()), stage);
+        }
 
         if (sunchartWindow.isShowing()) {
             sunchartWindow.close();
         } else {
+            sunyear.setTimeZone(offsetLocalTime.getTimeZone());
             sunyear.setSpaceTime(longitude.getValue(), latitude.getValue(), offsetLocalTime, timeZoneOffset.getValue());
+            sunyear.setLocalDate(offsetLocalTime);
             sunchartWindow.show();
         }
     }
 
-    private void refreshKriegsrahmenZeit(KriegsrahmenZeit.Location location, MouseEvent mouseEvent) {
+    private void refreshCycleProvider(CycleProvider provider, MouseEvent mouseEvent) {
 
         sundial.moveGroup(sundial.getInfoTextGroup(), mouseEvent, Sundial.MouseCatcher.SCENE);
 
-        KriegsrahmenZeit kriegsrahmenZeit;
-
-        switch (location) {
-            case CETUS: kriegsrahmenZeit = cetusTime; break;
-            case ORB_VALLIS: kriegsrahmenZeit = orbVallisTime; break;
-            default: return;
-        }
-
-        RefreshKriegsrahmenZeitDataTask refreshDataTask = new RefreshKriegsrahmenZeitDataTask(kriegsrahmenZeit);
+        RefreshCycleProviderDataTask refreshDataTask = new RefreshCycleProviderDataTask(provider);
 
         refreshDataTask.setOnScheduled(refreshEvent -> {
-            sundial.getInfoText().setText("Syncing with " + location.getFullName() + "...");
+            sundial.getInfoText().setText("Syncing with " + provider.getFullName() + "...");
             showInfoText(mouseEvent);
         });
 
         refreshDataTask.setOnFailed(refreshEvent -> {
-            sundial.getInfoText().setText(kriegsrahmenZeit.getShortResult());
+            sundial.getInfoText().setText(provider.getShortResult());
             showInfoText(mouseEvent);
             hideInfoTextWithDelay();
         });
 
         refreshDataTask.setOnSucceeded(refreshEvent -> {
-            sundial.getInfoText().setText(kriegsrahmenZeit.getShortResult());
-            showKriegsrahmenZeit(location, mouseEvent);
+            sundial.getInfoText().setText(provider.getShortResult());
+            showCycleProvider(provider, mouseEvent);
             hideInfoTextWithDelay();
         });
 
@@ -1023,31 +1743,21 @@ public class Sunface extends Application {
         }
     }
 
-    private void showKriegsrahmenZeit(KriegsrahmenZeit.Location location, MouseEvent mouseEvent) {
+    private void showCycleProvider(CycleProvider provider, MouseEvent mouseEvent) {
 
-        KriegsrahmenZeit kriegsrahmenZeit;
-        ArrayList<ArrayList<GregorianCalendar>> cycleList;
+        ArrayList<ArrayList<GregorianCalendar>> cycleList = getCycleList(provider);
 
-        switch (location) {
-            case CETUS:
-                kriegsrahmenZeit = cetusTime;
-                if (cetusCycleList.isEmpty()) { cetusCycleList = kriegsrahmenZeit.getCycleList(offsetLocalTime); }
-                cycleList = cetusCycleList;
-                break;
-            case ORB_VALLIS:
-                kriegsrahmenZeit = orbVallisTime;
-                if (orbVallisCycleList.isEmpty()) { orbVallisCycleList = kriegsrahmenZeit.getCycleList(offsetLocalTime); }
-                cycleList = orbVallisCycleList;
-                break;
-            default: return;
+        if (cycleList.isEmpty()) {
+            cycleList = provider.getCycleList(offsetLocalTime);
+            cycleListMap.put(provider.getCode(), cycleList);
         }
 
-        if (kriegsrahmenZeit.getStatusOkEh()) {
-            sundial.setKriegsrahmenZeit(location, cycleList, timeZonedCalendar, timeZoneCorrection);
-            sundial.updateKriegsrahmenTimer(location, cycleList);
-            sundial.setKriegsrahmenTimeVisibility(location, true);
+        if (provider.getStatusOkEh()) {
+            sundial.setCycles(provider, cycleList, timeZonedCalendar, timeZoneCorrection);
+            sundial.updateCycleTimer(provider, cycleList);
+            sundial.setCycleVisibility(provider, true);
         } else {
-            sundial.getInfoText().setText(location.getFullName() + " time unavailable: \n" + kriegsrahmenZeit.getShortResult());
+            sundial.getInfoText().setText(provider.getFullName() + " time unavailable: \n" + provider.getShortResult());
             sundial.moveGroup(sundial.getInfoTextGroup(), mouseEvent, Sundial.MouseCatcher.LOCAL);
             showInfoText(mouseEvent);
         }
@@ -1057,24 +1767,89 @@ public class Sunface extends Application {
         updateDebugWindow(sundial);
     }
 
-    private class RefreshKriegsrahmenZeitDataTask extends Task<Boolean> {
+    private void startSunserver(int port) {
+        try {
+            sunserver = new Sunserver(port, Sunconfig.SERVER_THREADS);
+            sunserver.start();
+            System.out.println("Serving sun times on http://127.0.0.1:" + sunserver.getPort() + "/sun");
+        } catch (IOException e) {
+            System.out.println("Could not start server on port " + port + ": " + e.getMessage());
+        }
+    }
+
+    private void loadSuntable(int year) {
+
+        // the old table keeps serving the days it has until the new one is in, one load per year
+        if (year == suntableYear) { return; }
+        suntableYear = year;
+
+        LoadSuntableTask loadSuntableTask = new LoadSuntableTask(year);
+
+        loadSuntableTask.setOnSucceeded(event -> suntable = loadSuntableTask.getValue());
+        loadSuntableTask.setOnFailed(event -> System.out.println("City table unavailable: " + loadSuntableTask.getException().getMessage()));
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.execute(loadSuntableTask);
+        executorService.shutdown();
+    }
+
+    private class LoadSuntableTask extends Task<Suntable> {
+
+        int year;
+
+        public LoadSuntableTask(int year) {
+            this.year = year;
+        }
+
+        @Override
+        protected Suntable call() throws IOException {
+            long loadStart = System.nanoTime();
+            Path cacheDirectory = Paths.get(System.getProperty("user.home"), Sunconfig.CACHE_DIRECTORY);
+            Suntable suntable = Suntable.load(Sunconfig.DEFAULT_GAZETTEER, cacheDirectory, year);
+            Sunrecorder.record(Sunrecorder.SUNTABLE_LOAD, loadStart);
+            return suntable;
+        }
+    }
+
+    private void cycleProviderChanged(CycleProvider provider) {
+
+        // background refresh brought new data, swap it in without waiting for the next day rollover
+        ArrayList<ArrayList<GregorianCalendar>> cycleList = provider.getCycleList(timeZonedCalendar);
+        cycleListMap.put(provider.getCode(), cycleList);
+
+        if (sundial.getCycleVisibleEh(provider)) {
+            sundial.setCycles(provider, cycleList, timeZonedCalendar, timeZoneCorrection);
+            sundial.updateCycleTimer(provider, cycleList);
+        }
+
+        updateDebugWindow(sundial);
+    }
+
+    private ArrayList<ArrayList<GregorianCalendar>> getCycleList(CycleProvider provider) {
+        ArrayList<ArrayList<GregorianCalendar>> cycleList = cycleListMap.get(provider.getCode());
+        return (cycleList == null) ? new ArrayList<>() : cycleList;
+    }
+
+    private class RefreshCycleProviderDataTask extends Task<Boolean> {
 
-        KriegsrahmenZeit kriegsrahmenZeit;
+        CycleProvider provider;
 
-        public RefreshKriegsrahmenZeitDataTask(KriegsrahmenZeit kriegsrahmenZeit) {
-            this.kriegsrahmenZeit = kriegsrahmenZeit;
+        public RefreshCycleProviderDataTask(CycleProvider provider) {
+            this.provider = provider;
         }
 
         @Override
         protected Boolean call() {
-            this.kriegsrahmenZeit.requestNewData();
-            return kriegsrahmenZeit.getStatusOkEh();
+            long refreshStart = System.nanoTime();
+            this.provider.requestNewData();
+            Sunrecorder.record(Sunrecorder.CYCLE_REFRESH, refreshStart);
+            return provider.getStatusOkEh();
         }
     }
 
-    private void updateSunchart(Sunchart sunchart) {
+    private void updateSunchart() {
 
-        if (sunchartWindow.isShowing() &&
+        if (sunchartWindow != null && sunchartWindow.isShowing() &&
                 (
                         longitude.getValue() != sunyear.getLongitude() ||
                         latitude.getValue() != sunyear.getLatitude() ||
@@ -1102,7 +1877,10 @@ public class Sunface extends Application {
 
     private void updateDebugWindow(Sundial sundial) {
 
-        if (!debugWindow.isShowing()) { return; }
+        if (debugWindow == null || !debugWindow.isShowing()) { return; }
+
+        // before the panel builds anything, its own allocations are skipped at the end
+        sunperformance.sampleAllocationRate();
 
         double dividend = sin(toRadians(-0.83d)) - sin(toRadians(latitude.getValue())) * sin(toRadians(suntimeLocal.getDeclinationOfTheSun()));
         double divisor = cos(toRadians(latitude.getValue())) * cos(toRadians(suntimeLocal.getDeclinationOfTheSun()));
@@ -1118,30 +1896,16 @@ public class Sunface extends Application {
         GregorianCalendar sunriseDate = Suntime.getCalendarDate(sunriseJulianDate, offsetLocalTime.getTimeZone());
         GregorianCalendar sunsetDate = Suntime.getCalendarDate(sunsetJulianDate, offsetLocalTime.getTimeZone());
 
-        StringBuilder cetusDataString = new StringBuilder();
-
-        for (String key : cetusTime.getDataMap().keySet()) {
-            cetusDataString.append(key).append(" = ").append(cetusTime.getDataMap().get(key)).append("\n");
-        }
-
-        StringBuilder cetusNightListString = new StringBuilder();
-        for(int i = 0; i < cetusCycleList.size(); i++) {
-            String nightStart = cetusCycleList.get(i).get(0).getTime().toString();
-            String nightEnd = cetusCycleList.get(i).get(1).getTime().toString();
-            cetusNightListString.append("\nnight ").append(i+1).append(": start = ").append(nightStart).append(", end = ").append(nightEnd);
-        }
+        StringBuilder cycleProviderString = new StringBuilder();
 
-        StringBuilder orbVallisDataString = new StringBuilder();
+        for (CycleProvider provider : cycleProviderRegistry.getProviders()) {
 
-        for (String key : orbVallisTime.getDataMap().keySet()) {
-            orbVallisDataString.append(key).append(" = ").append(orbVallisTime.getDataMap().get(key)).append("\n");
-        }
+            cycleProviderString.append("\n").append(provider.getFullName()).append(" okEh = ").append(provider.getStatusOkEh()).append("\n");
+            cycleProviderString.append(provider.getFullName()).append(" dataMap: \n");
 
-        StringBuilder orbVallisNightListString = new StringBuilder();
-        for(int i = 0; i < orbVallisCycleList.size(); i++) {
-            String nightStart = orbVallisCycleList.get(i).get(0).getTime().toString();
-            String nightEnd = orbVallisCycleList.get(i).get(1).getTime().toString();
-            orbVallisNightListString.append("\nwarm ").append(i+1).append(": start = ").append(nightStart).append(", end = ").append(nightEnd);
+            for (String key : provider.getDataMap().keySet()) {
+                cycleProviderString.append(key).append(" = ").append(provider.getDataMap().get(key)).append("\n");
+            }
         }
 
         long timeZoneOffset = offsetLocalTime.getTimeZone().getOffset(offsetLocalTime.getTimeInMillis());
@@ -1181,22 +1945,7 @@ public class Sunface extends Application {
                 + "localHourAngle           = " + suntimeLocal.getLocalHourAngle() + "\n"
 //                + "localHourAngle dividend  = " + dividend + "\n"
 //                + "localHourAngle divisor   = " + divisor + "\n"
-                + "\n"
-                + "Cetus okEh = " + cetusTime.getStatusOkEh() + "\n"
-//                + "Cetus result = " + cetusTime.getResult() + "\n"
-//                + "Cetus shortResult = " + cetusTime.getShortResult() + "\n"
-//                + "Cetus data expired = " + cetusTime.dataExpiredEh() + "\n"
-//                + "Cetus expiry calendar = " + cetusTime.getExpiry().getTime() + "\n"
-//                + "Cetus reloadCounter: " + cetusTime.getReloadCounter() + "\n"
-                + "Cetus dataMap: \n" + cetusDataString
-                + "\n"
-                + "Orb Vallis okEh = " + orbVallisTime.getStatusOkEh() + "\n"
-//                + "Orb Vallis result = " + orbVallisTime.getResult() + "\n"
-//                + "Orb Vallis shortResult = " + orbVallisTime.getShortResult() + "\n"
-//                + "Orb Vallis data expired = " + orbVallisTime.dataExpiredEh() + "\n"
-//                + "Orb Vallis expiry calendar = " + orbVallisTime.getExpiry().getTime() + "\n"
-//                + "Orb Vallis reloadCounter: " + orbVallisTime.getReloadCounter() + "\n"
-                + "Orb Vallis dataMap: \n" + orbVallisDataString
+                + cycleProviderString
                 ;
 
         if (debugErrorMessage != null && !debugErrorMessage.isEmpty()) {
@@ -1204,10 +1953,16 @@ public class Sunface extends Application {
         }
 
         debugTextArea.setText(debugText);
+
+        sunperformance.countNodes(sundial.getDialsGroup());
+        performanceTextArea.setText(sunperformance.report());
+        sunperformance.skipAllocation();
     }
 
     private void generateCliSwitches(TextArea textArea) {
 
+        if (textArea == null) { return; }
+
         String x = String.format(Locale.ROOT, "%.0f", configX.getValue());
         String y = String.format(Locale.ROOT, "%.0f", configY.getValue());
         String w = String.format(Locale.ROOT, "%.0f", configW.getValue());
@@ -1346,12 +2101,12 @@ public class Sunface extends Application {
 
         // LMB action -> update Sunchart
         if (getLastButton().equals(MouseButton.PRIMARY)) {
-            updateSunchart(sunchart);
+            updateSunchart();
         }
 
         // RMB action -> update Sunchart
         if (getLastButton().equals(MouseButton.SECONDARY)) {
-            updateSunchart(sunchart);
+            updateSunchart();
         }
 
         // MMB action -> reset globe coordinates
@@ -1388,7 +2143,7 @@ public class Sunface extends Application {
         currentLocalTime.getTimeZone().setRawOffset(timeZoneOffset.getValue());
         offsetLocalTime.getTimeZone().setRawOffset(timeZoneOffset.getValue());
 
-        initCurrentTime();
+        initCurrentTimeOnPulse();
     }
 
     private void coordinateActions(Stage stage, PositionType positionType, MouseEvent event) {
@@ -1400,12 +2155,12 @@ public class Sunface extends Application {
 
         // LMB action -> update Sunchart
         if (getLastButton().equals(MouseButton.PRIMARY)) {
-            updateSunchart(sunchart);
+            updateSunchart();
         }
 
         // RMB action -> update Sunchart
         if (getLastButton().equals(MouseButton.SECONDARY)) {
-            updateSunchart(sunchart);
+            updateSunchart();
         }
 
         // MMB action -> reset globe coordinates
@@ -1414,7 +2169,7 @@ public class Sunface extends Application {
         }
     }
 
-    private void timeControlActions(MouseEvent event) {
+    private void timeControlActions(OffsetType offsetType, MouseEvent event) {
 
         // Do no action if mouse left original control surface (node)
         if (!sameNodeEh(event)) { return; }
@@ -1425,7 +2180,13 @@ public class Sunface extends Application {
             return;
         }
 
-        updateSunchart(sunchart);
+        // RMB click -> time-lapse through the next year, month, week or day, again to stop it
+        if (getLastButton().equals(MouseButton.SECONDARY) && event.isStillSincePress()) {
+            toggleLapse(offsetType);
+            return;
+        }
+
+        updateSunchart();
     }
 
 
@@ -1466,24 +2227,16 @@ public class Sunface extends Application {
         stage.setAlwaysOnTop(sundial.getControlThingyAlwaysOnTop().getState());
     }
 
-    private boolean getKriegsrahmenZeitDataExpired(KriegsrahmenZeit.Location location) {
-        switch (location) {
-            case CETUS: return cetusTime.dataExpiredEh();
-            case ORB_VALLIS: return orbVallisTime.dataExpiredEh();
-            default: return false;
-        }
-    }
+    private void toggleCycleProvider(CycleProvider provider, MouseEvent mouseEvent) {
 
-    private void toggleKriegsrahmenZeit(KriegsrahmenZeit.Location location, MouseEvent mouseEvent) {
-
-        if (sundial.getKriegsrahmenZeitVisibleEh(location)) {
-            sundial.setKriegsrahmenTimeVisibility(location,false);
+        if (sundial.getCycleVisibleEh(provider)) {
+            sundial.setCycleVisibility(provider, false);
         } else {
 
-            if (getKriegsrahmenZeitDataExpired(location)) {
-                refreshKriegsrahmenZeit(location, mouseEvent);
+            if (provider.dataExpiredEh()) {
+                refreshCycleProvider(provider, mouseEvent);
             } else {
-                showKriegsrahmenZeit(location, mouseEvent);
+                showCycleProvider(provider, mouseEvent);
             }
         }
     }
@@ -1583,6 +2336,11 @@ public class Sunface extends Application {
         event.consume();
     }
 
+    // the size follows from the latest mouse position alone, so only the last event of a pulse matters
+    private void resizeWindowOnPulse(Stage stage, WindowType windowType, MouseEvent event) {
+        suncoalescer.post(stage, () -> resizeWindow(stage, windowType, event));
+    }
+
     private void resizeWindow(Stage stage, WindowType windowType, MouseEvent event) {
 
         if(getLastButton().equals(MouseButton.MIDDLE)) { return; }
@@ -1691,11 +2449,7 @@ public class Sunface extends Application {
         if (event.isSecondaryButtonDown()) { stepSize = Sunconfig.FAST_STEP_SIZE; }
 
         if (abs(deltaMouseY) >= stepSize) {
-            if (deltaMouseY > 0) {
-                sundial.increaseNightCompression();
-            } else {
-                sundial.decreaseNightCompression();
-            }
+            changeNightCompressionOnPulse((deltaMouseY > 0) ? 1 : -1);
             savedMouseY = mouseY;
         }
     }
@@ -1801,8 +2555,7 @@ public class Sunface extends Application {
         if (latitude.getValue() < Suntime.MIN_LATITUDE) { latitude.setValue(Suntime.MIN_LATITUDE); }
         if (latitude.getValue() > Suntime.MAX_LATITUDE) { latitude.setValue(Suntime.MAX_LATITUDE); }
 
-        initCurrentTime();
-        sundial.rotateGlobe(longitude.getValue(), latitude.getValue());
+        rotateGlobeOnPulse();
     }
 
     private void rotateGlobe(PositionType positionType, DragEvent dragEvent) {
@@ -1880,8 +2633,7 @@ public class Sunface extends Application {
         if (latitude.getValue() < Suntime.MIN_LATITUDE) { latitude.setValue(Suntime.MIN_LATITUDE); }
         if (latitude.getValue() > Suntime.MAX_LATITUDE) { latitude.setValue(Suntime.MAX_LATITUDE); }
 
-        initCurrentTime();
-        sundial.rotateGlobe(longitude.getValue(), latitude.getValue());
+        rotateGlobeOnPulse();
     }
 
 
@@ -1893,11 +2645,7 @@ public class Sunface extends Application {
 
         if (!mouseButtonList.isEmpty()) { return; }
 
-        if (event.getDeltaY() < 0) {
-            sundial.increaseNightCompression();
-        } else {
-            sundial.decreaseNightCompression();
-        }
+        changeNightCompressionOnPulse((event.getDeltaY() < 0) ? 1 : -1);
     }
 
     private void timeZoneScroll(Sundial sundial, ScrollEvent event) {
@@ -1945,7 +2693,6 @@ public class Sunface extends Application {
         if (latitude.getValue() < Suntime.MIN_LATITUDE) { latitude.setValue(Suntime.MIN_LATITUDE); }
         if (latitude.getValue() > Suntime.MAX_LATITUDE) { latitude.setValue(Suntime.MAX_LATITUDE); }
 
-        initCurrentTime();
-        sundial.rotateGlobe(longitude.getValue(), latitude.getValue());
+        rotateGlobeOnPulse();
     }
 }
@@ -0,0 +1,114 @@
+import static java.lang.Math.*;
+
+/**
+ * Garbage free versions of the Sunutil text helpers. Everything is written into a caller owned char[]
+ * with integer arithmetic and handed to DotMatrix.setChars, so the once a second matrix updates allocate nothing.
+ * Each put method returns the offset just past what it wrote.
+ */
+public class Sunformat {
+
+    public static final int SHORT_TIME_LENGTH = 8;          // HH:MM:SS
+    public static final int SHORTER_TIME_LENGTH = 5;        // HH:MM
+    public static final int TIME_LENGTH_LENGTH = 9;         // HHhMMmSSs
+    public static final int COORDINATE_LENGTH = 6;          // DDD.dd
+
+    /**
+     * Writes the last width characters of value, zero padded. Same result as ("00" + value).substring(...),
+     * including the odd cases of negative values and values that do not fit.
+     */
+    public static int putDigits(char[] chars, int offset, int value, int width) {
+
+        long remainder = abs((long) value);
+        int position = offset + width - 1;
+
+        do {
+            chars[position--] = (char) ('0' + remainder % 10);
+            remainder /= 10;
+        } while (remainder > 0 && position >= offset);
+
+        if (value < 0 && position >= offset) { chars[position--] = '-'; }
+
+        while (position >= offset) { chars[position--] = '0'; }
+
+        return offset + width;
+    }
+
+    public static int putShortTime(char[] chars, int offset, int hours, int minutes, int seconds) {
+        offset = putDigits(chars, offset, hours, 2);
+        chars[offset++] = ':';
+        offset = putDigits(chars, offset, minutes, 2);
+        chars[offset++] = ':';
+        return putDigits(chars, offset, seconds, 2);
+    }
+
+    public static int putShorterTime(char[] chars, int offset, int minuteOfDay) {
+        offset = putDigits(chars, offset, minuteOfDay / 60, 2);
+        chars[offset++] = ':';
+        return putDigits(chars, offset, minuteOfDay % 60, 2);
+    }
+
+    public static int putTimeLength(char[] chars, int offset, double inputSeconds) {
+
+        double precisionHours = inputSeconds / (60 * 60);
+        int hours = (int) floor(precisionHours);
+
+        double precisionMins = (precisionHours - hours) * 60;
+        int minutes = (int) floor(precisionMins);
+
+        double precisionSecs = (precisionMins - minutes) * 60;
+        int seconds = (int) floor(precisionSecs);
+
+        offset = putDigits(chars, offset, hours, 2);
+        chars[offset++] = 'h';
+        offset = putDigits(chars, offset, minutes, 2);
+        chars[offset++] = 'm';
+        offset = putDigits(chars, offset, seconds, 2);
+        chars[offset++] = 's';
+
+        return offset;
+    }
+
+    /**
+     * Absolute value as "DDD.dd", whole degrees space padded, hundredths rounded half-even like DecimalFormat did.
+     * The hemisphere suffix is left to the caller.
+     */
+    public static int putCoordinate(char[] chars, int offset, double coordinate) {
+
+        long hundredths = roundHundredths(abs(coordinate));
+        int whole = (int) (hundredths / 100);
+        int fraction = (int) (hundredths % 100);
+
+        int position = offset + 2;
+        do {
+            chars[position--] = (char) ('0' + whole % 10);
+            whole /= 10;
+        } while (whole > 0 && position >= offset);
+
+        while (position >= offset) { chars[position--] = ' '; }
+
+        chars[offset + 3] = '.';
+
+        return putDigits(chars, offset + 4, fraction, 2);
+    }
+
+    // DecimalFormat rounds the exact binary value, so x * 100 alone gets ties like 96.615 wrong.
+    // The product's rounding error is recovered exactly (Dekker) and decides which side of the tie we are on.
+    private static long roundHundredths(double value) {
+
+        double product = value * 100;
+        double floor = floor(product);
+
+        double split = value * 134217729d;
+        double high = split - (split - value);
+        double low = value - high;
+        double error = ((high * 100 - product) + low * 100);
+
+        double distance = (product - (floor + 0.5)) + error;
+
+        if (distance > 0) { return (long) floor + 1; }
+        if (distance < 0) { return (long) floor; }
+
+        return ((long) floor % 2 == 0) ? (long) floor : (long) floor + 1;
+    }
+
+}
@@ -0,0 +1,140 @@
+import javafx.animation.AnimationTimer;
+
+import java.util.function.Consumer;
+
+/**
+ * Picks the quality tier that holds the frame budget. Frame times are taken pulse to pulse and looked at in
+ * windows: a window that spent too much of its time past the budget costs a tier, a run of windows comfortably
+ * under it buys one back. Counting time rather than frames matters because most pulses render nothing and
+ * come in on time, one slow tick a second would otherwise hide among them. A tier up that gets taken back
+ * right away doubles the run needed for the next try, so a machine that can't hold a tier settles below it
+ * instead of flipping back and forth.
+ *
+ * The animation timer keeps a pulse going every frame, that's what gets measured, but it also costs a little
+ * on a dial that would otherwise sit idle between ticks. So it only runs with -Dsunface.quality=auto.
+ */
+public class Sungovernor {
+
+    private final Consumer<Sunquality.Tier> tierListener;
+
+    private final AnimationTimer pulseTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            pulse(now);
+        }
+    };
+
+    private Sunquality.Tier tier;
+    private boolean runningEh = false;
+
+    private long lastPulseNanos = -1;
+    private long windowStartNanos = -1;
+    private int frameCount;
+    private double frameMillisTotal;
+    private double overBudgetMillisTotal;
+
+    private int goodWindowCount;
+    private int upgradeWindows = Sunconfig.QUALITY_UPGRADE_WINDOWS;
+    private int probationWindows;
+
+    public Sungovernor(Consumer<Sunquality.Tier> tierListener) {
+        this.tierListener = tierListener;
+    }
+
+    public void start(Sunquality.Tier tier) {
+
+        this.tier = tier;
+
+        goodWindowCount = 0;
+        probationWindows = 0;
+        startWindow();
+
+        runningEh = true;
+        pulseTimer.start();
+    }
+
+    public void stop() {
+        pulseTimer.stop();
+        runningEh = false;
+    }
+
+    private void startWindow() {
+        lastPulseNanos = -1;
+        windowStartNanos = -1;
+        frameCount = 0;
+        frameMillisTotal = 0;
+        overBudgetMillisTotal = 0;
+    }
+
+    private void pulse(long now) {
+
+        if (windowStartNanos < 0) { windowStartNanos = now; }
+
+        if (lastPulseNanos >= 0) {
+
+            double frameMillis = (now - lastPulseNanos) / 1e6;
+
+            if (frameMillis < Sunconfig.QUALITY_STALL) {
+                frameCount++;
+                frameMillisTotal += frameMillis;
+                if (frameMillis > Sunconfig.QUALITY_FRAME_BUDGET) { overBudgetMillisTotal += frameMillis - Sunconfig.QUALITY_FRAME_BUDGET; }
+            }
+        }
+
+        lastPulseNanos = now;
+
+        if (now - windowStartNanos < Sunconfig.QUALITY_WINDOW * 1000000) { return; }
+
+        if (frameCount >= Sunconfig.QUALITY_WINDOW_MIN_FRAMES) { windowDone(overBudgetMillisTotal / frameMillisTotal); }
+
+        startWindow();
+    }
+
+    private void windowDone(double overBudgetShare) {
+
+        if (probationWindows > 0) { probationWindows--; }
+
+        if (overBudgetShare > Sunconfig.QUALITY_OVER_BUDGET_DOWN) {
+
+            goodWindowCount = 0;
+            if (tier == Sunquality.Tier.MINIMAL) { return; }
+
+            if (probationWindows > 0) {
+                upgradeWindows = Math.min(upgradeWindows * 2, Sunconfig.QUALITY_UPGRADE_WINDOWS_MAX);
+                probationWindows = 0;
+            }
+
+            changeTier(tier.lower());
+
+        } else if (overBudgetShare < Sunconfig.QUALITY_OVER_BUDGET_UP) {
+
+            if (tier == Sunquality.Tier.FULL) { return; }
+            if (++goodWindowCount < upgradeWindows) { return; }
+
+            goodWindowCount = 0;
+            probationWindows = Sunconfig.QUALITY_PROBATION_WINDOWS;
+
+            changeTier(tier.higher());
+
+        } else {
+            goodWindowCount = 0;
+        }
+    }
+
+    private void changeTier(Sunquality.Tier newTier) {
+        // the stylesheet swap makes the next pulse a slow one, startWindow() after this leaves it out
+        tier = newTier;
+        tierListener.accept(newTier);
+    }
+
+
+    // Getterers
+    public boolean getRunningEh() {
+        return runningEh;
+    }
+
+    public Sunquality.Tier getTier() {
+        return tier;
+    }
+
+}
@@ -0,0 +1,170 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Load test harness for Sunserver. Starts a server in-process unless --url points at a running one,
+ * then hammers /sun from a number of keep-alive clients and prints throughput and latency percentiles.
+ * Every request goes into a log-linear latency histogram, buckets are under 2% wide, so the percentiles
+ * cover the whole run.
+ *
+ *   java -cp sunface-1.0.jar Sunhammer --clients 32 --seconds 10 --sites 200
+ */
+public class Sunhammer {
+
+    private static final int DEFAULT_CLIENTS = 16;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int DEFAULT_SITES = 100;
+
+    // values under LINEAR_BUCKETS ns get a bucket each, above that every power of two is split in SUB_BUCKETS
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + 64 * SUB_BUCKETS;
+
+    public static void main(String[] args) throws Exception {
+
+        int clients = DEFAULT_CLIENTS;
+        int seconds = DEFAULT_SECONDS;
+        int sites = DEFAULT_SITES;
+        String url = null;
+
+        for (int i = 0; i + 1 < args.length; i++) {
+            switch (args[i].toLowerCase(Locale.ROOT)) {
+                case "--clients" : clients = Integer.parseInt(args[++i]); break;
+                case "--seconds" : seconds = Integer.parseInt(args[++i]); break;
+                case "--sites" : sites = Integer.parseInt(args[++i]); break;
+                case "--url" : url = args[++i]; break;
+                default: break;
+            }
+        }
+
+        Sunserver sunserver = null;
+        if (url == null) {
+            sunserver = new Sunserver(0, Runtime.getRuntime().availableProcessors());
+            sunserver.start();
+            url = "http://127.0.0.1:" + sunserver.getPort() + "/sun";
+        }
+
+        // a fixed set of sites so the run mixes cold computations with cache hits
+        String[] queries = new String[sites];
+        Random random = new Random(42);
+        for (int i = 0; i < sites; i++) {
+            queries[i] = String.format(Locale.ROOT, "%s?lat=%.4f&lon=%.4f&date=2026-%02d-%02d",
+                    url, random.nextDouble() * 130 - 65, random.nextDouble() * 360 - 180,
+                    1 + random.nextInt(12), 1 + random.nextInt(28));
+        }
+
+        long deadline = System.nanoTime() + seconds * 1000000000L;
+
+        AtomicLong okCount = new AtomicLong();
+        AtomicLong errorCount = new AtomicLong();
+        AtomicLongArray latencyHistogram = new AtomicLongArray(BUCKET_COUNT);
+        AtomicLong latencyMax = new AtomicLong();
+
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int c = 0; c < clients; c++) {
+
+            final int client = c;
+
+            Thread thread = new Thread(() -> {
+
+                Random clientRandom = new Random(client);
+                byte[] buffer = new byte[8192];
+
+                while (System.nanoTime() < deadline) {
+
+                    long startTime = System.nanoTime();
+
+                    try {
+                        HttpURLConnection connection = (HttpURLConnection) new URL(queries[clientRandom.nextInt(queries.length)]).openConnection();
+                        int status = connection.getResponseCode();
+                        InputStream body = (status < 400) ? connection.getInputStream() : connection.getErrorStream();
+                        if (body != null) {
+                            // read to the end so the JDK returns the connection to its keep-alive cache
+                            while (body.read(buffer) != -1) { }
+                            body.close();
+                        }
+                        if (status == 200) { okCount.incrementAndGet(); } else { errorCount.incrementAndGet(); }
+                    } catch (IOException e) {
+                        errorCount.incrementAndGet();
+                    }
+
+                    long latency = System.nanoTime() - startTime;
+                    latencyHistogram.incrementAndGet(getBucket(latency));
+                    latencyMax.accumulateAndGet(latency, Math::max);
+                }
+
+                done.countDown();
+
+            }, "sunhammer-" + client);
+
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        done.await();
+
+        long[] histogram = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) { histogram[i] = latencyHistogram.get(i); }
+
+        System.out.println("clients      = " + clients);
+        System.out.println("seconds      = " + seconds);
+        System.out.println("requests ok  = " + okCount.get());
+        System.out.println("errors       = " + errorCount.get());
+        System.out.println(String.format(Locale.ROOT, "throughput   = %.0f req/s", okCount.get() / (double) seconds));
+        System.out.println(String.format(Locale.ROOT, "latency p50  = %.3f ms", percentile(histogram, 0.50)));
+        System.out.println(String.format(Locale.ROOT, "latency p99  = %.3f ms", percentile(histogram, 0.99)));
+        System.out.println(String.format(Locale.ROOT, "latency max  = %.3f ms", latencyMax.get() / 1000000d));
+
+        if (sunserver != null) {
+            System.out.println("cache hits   = " + sunserver.getCacheHitCount() + " / " + sunserver.getRequestCount());
+            sunserver.stop();
+        }
+    }
+
+    private static int getBucket(long nanos) {
+
+        if (nanos < LINEAR_BUCKETS) { return (int) Math.max(nanos, 0); }
+
+        // keep the top bits, so the bucket is the power of two plus where in it the value falls
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - 6;
+
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (nanos >> shift) - SUB_BUCKETS;
+    }
+
+    // middle of the bucket in ns
+    private static double getBucketValue(int bucket) {
+
+        if (bucket < LINEAR_BUCKETS) { return bucket; }
+
+        int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long low = (long) ((bucket - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS) << shift;
+
+        return low + (1L << shift) / 2d;
+    }
+
+    private static double percentile(long[] histogram, double fraction) {
+
+        long total = 0;
+        for (long count : histogram) { total += count; }
+        if (total == 0) { return 0; }
+
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) { return getBucketValue(i) / 1000000d; }
+        }
+
+        return getBucketValue(histogram.length - 1) / 1000000d;
+    }
+
+}
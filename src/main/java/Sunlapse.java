@@ -0,0 +1,173 @@
+import static java.lang.Math.*;
+
+/**
+ * A time-lapse sweep from one instant to another, played back in a fixed number of seconds.
+ * High noon, sunrise, sunset and the declination of the sun are computed for every day of the range up front
+ * (compute() is meant for a background Task), so frames only look values up and the solver never runs per frame.
+ *
+ * Pacing is tied to the wall clock: a slow frame doesn't slow the sweep down, the next frames just land further
+ * along. When a frame's own work goes over the budget, the following pulses are skipped until it's paid off.
+ */
+public class Sunlapse {
+
+    private final double longitude;
+    private final double latitude;
+
+    private final long firstJulianDayNumber;
+    private final int dayCount;
+
+    private final double[] highNoonJulianDate;
+    private final double[] sunriseJulianDate;
+    private final double[] sunsetJulianDate;
+    private final double[] declination;         // at the start of each day, one more than dayCount
+
+    private final long startMillis;
+    private final long endMillis;
+    private final long durationNanos;
+    private final long budgetNanos;
+
+    private long startNanos = -1;
+    private long lastFrameNanos = -1;
+    private long nextFrameNanos;
+    private long frameCount;
+    private long droppedFrameCount;
+
+    private Sunlapse(double longitude, double latitude, long firstJulianDayNumber, int dayCount,
+                     long startMillis, long endMillis, double durationSeconds) {
+
+        this.longitude = longitude;
+        this.latitude = latitude;
+        this.firstJulianDayNumber = firstJulianDayNumber;
+        this.dayCount = dayCount;
+
+        this.highNoonJulianDate = new double[dayCount];
+        this.sunriseJulianDate = new double[dayCount];
+        this.sunsetJulianDate = new double[dayCount];
+        this.declination = new double[dayCount + 1];
+
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.durationNanos = (long) (durationSeconds * 1e9);
+        this.budgetNanos = (long) (1e9 / Sunconfig.LAPSE_FPS);
+    }
+
+    public static Sunlapse compute(double longitude, double latitude, long firstJulianDayNumber, int dayCount,
+                                   long startMillis, long endMillis, double durationSeconds) {
+
+        Sunlapse sunlapse = new Sunlapse(longitude, latitude, firstJulianDayNumber, dayCount, startMillis, endMillis, durationSeconds);
+
+        Suntime suntime = new Suntime.PleaseBuildSuntime()
+                .julianDayNumber(firstJulianDayNumber)
+                .observerLongitude(longitude)
+                .observerLatitude(latitude)
+                .thankYou();
+
+        for (int day = 0; day < dayCount; day++) {
+
+            long julianDayNumber = firstJulianDayNumber + day;
+            suntime.setJulianDayNumber(julianDayNumber);
+
+            sunlapse.highNoonJulianDate[day] = suntime.getHighnoonJulianDate();
+            sunlapse.sunriseJulianDate[day] = suntime.getSunriseJulianDate();
+            sunlapse.sunsetJulianDate[day] = suntime.getSunsetJulianDate();
+        }
+
+        for (int day = 0; day <= dayCount; day++) {
+            sunlapse.declination[day] = suntime.getRealTimeDeclinationOfTheSun(firstJulianDayNumber + day - 0.5);
+        }
+
+        return sunlapse;
+    }
+
+    public boolean containsEh(long julianDayNumber) {
+        return julianDayNumber >= firstJulianDayNumber && julianDayNumber < firstJulianDayNumber + dayCount;
+    }
+
+    /**
+     * Declination between the precomputed day starts, linear is well under a hundredth of a degree off.
+     */
+    public double getDeclination(double julianDate) {
+
+        double day = julianDate + 0.5 - firstJulianDayNumber;
+        int index = (int) max(0, min(dayCount - 1, floor(day)));
+        double fraction = max(0, min(1, day - index));
+
+        return declination[index] + (declination[index + 1] - declination[index]) * fraction;
+    }
+
+    /**
+     * Simulated time for this pulse. The first call starts the sweep.
+     */
+    public long getMillis(long now) {
+
+        if (startNanos < 0) { startNanos = now; }
+
+        double progress = min(1, (double) (now - startNanos) / durationNanos);
+
+        return startMillis + (long) ((endMillis - startMillis) * progress);
+    }
+
+    /**
+     * Simulated time of a frame in a sequence of frameCount frames, for exports that go frame by frame
+     * instead of following the wall clock. The end of the range is left out, so a year in 365 frames is a day apart.
+     */
+    public long getFrameMillis(int frame, int frameCount) {
+        return startMillis + (long) ((endMillis - startMillis) * ((double) frame / frameCount));
+    }
+
+    public boolean finishedEh(long now) {
+        return startNanos >= 0 && now - startNanos >= durationNanos;
+    }
+
+    public boolean frameDueEh(long now) {
+        return now >= nextFrameNanos;
+    }
+
+    public void frameDone(long now, long costNanos) {
+
+        // drops are counted here from the gap since the last frame, that covers pulses frameDueEh() turned down
+        // as well as ones that never reached us because the renderer fell behind
+        if (lastFrameNanos >= 0) {
+            droppedFrameCount += max(0, (now - lastFrameNanos) / budgetNanos - 1);
+        }
+
+        frameCount++;
+        lastFrameNanos = now;
+        nextFrameNanos = now + max(0, costNanos - budgetNanos);
+    }
+
+
+    // Getterers
+    public double getHighNoonJulianDate(long julianDayNumber) {
+        return highNoonJulianDate[(int) (julianDayNumber - firstJulianDayNumber)];
+    }
+
+    public double getSunriseJulianDate(long julianDayNumber) {
+        return sunriseJulianDate[(int) (julianDayNumber - firstJulianDayNumber)];
+    }
+
+    public double getSunsetJulianDate(long julianDayNumber) {
+        return sunsetJulianDate[(int) (julianDayNumber - firstJulianDayNumber)];
+    }
+
+    public double getNoonDeclination(long julianDayNumber) {
+        return declination[(int) (julianDayNumber - firstJulianDayNumber)];
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    public long getDroppedFrameCount() {
+        return droppedFrameCount;
+    }
+
+}
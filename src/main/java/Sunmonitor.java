@@ -0,0 +1,238 @@
+import javafx.application.Platform;
+import javafx.scene.Node;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Live numbers for jconsole and other JMX clients, for instances that run unattended.
+ * Counters are written on the FX thread and read from the JMX threads, anything that touches the scene
+ * graph or the dial is handed over to the FX thread.
+ *
+ * switchQualityTier takes one of the Sunquality tiers, or auto to hand the choice to the frame-budget governor.
+ */
+public class Sunmonitor implements SunmonitorMXBean {
+
+    public static final String OBJECT_NAME = "Sunface:type=Monitor";
+
+    public static final int SOLVER = 0;
+    public static final int CITY_TABLE = 1;
+    public static final int LAPSE_BUFFER = 2;
+
+    private static final long NODE_COUNT_TIMEOUT = 1000;
+
+    private final CycleProviderRegistry cycleProviderRegistry;
+    private final CycleRefreshScheduler cycleRefreshScheduler;
+    private final Node root;
+    private final Consumer<String> qualityTierListener;
+    private final Consumer<Boolean> animationListener;
+
+    private final Sunperformance sunperformance = new Sunperformance();
+
+    private volatile String qualityTier = Sunquality.STARTUP_TIER.getName();
+    private volatile boolean qualityGovernorOnEh = false;
+
+    private long resetNanos;
+    private long tickCount;
+    private long tickTotalNanos;
+    private long tickMaxNanos;
+    private final long[] daySourceCount = new long[3];
+    private long solverCallsAtReset;
+    private long ephemerisHitsAtReset;
+    private long ephemerisMissesAtReset;
+
+    public Sunmonitor(CycleProviderRegistry cycleProviderRegistry, CycleRefreshScheduler cycleRefreshScheduler, Node root,
+                      Consumer<String> qualityTierListener, Consumer<Boolean> animationListener) {
+
+        this.cycleProviderRegistry = cycleProviderRegistry;
+        this.cycleRefreshScheduler = cycleRefreshScheduler;
+        this.root = root;
+        this.qualityTierListener = qualityTierListener;
+        this.animationListener = animationListener;
+
+        resetStatistics();
+    }
+
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.out.println("Unable to register " + OBJECT_NAME + ": " + e.getMessage());
+        }
+    }
+
+    public synchronized void tickDone(long nanos) {
+        tickCount++;
+        tickTotalNanos += nanos;
+        if (nanos > tickMaxNanos) { tickMaxNanos = nanos; }
+    }
+
+    /**
+     * Where a new day's horizon and high noon came from, SOLVER, CITY_TABLE or LAPSE_BUFFER.
+     */
+    public synchronized void dayDone(int source) {
+        daySourceCount[source]++;
+    }
+
+    @Override
+    public synchronized void resetStatistics() {
+
+        resetNanos = System.nanoTime();
+        tickCount = 0;
+        tickTotalNanos = 0;
+        tickMaxNanos = 0;
+        for (int i = 0; i < daySourceCount.length; i++) { daySourceCount[i] = 0; }
+
+        solverCallsAtReset = Suntime.getSolverCallCount();
+        ephemerisHitsAtReset = Sunephemeris.getLookupHitCount();
+        ephemerisMissesAtReset = Sunephemeris.getLookupMissCount();
+    }
+
+    @Override
+    public void switchQualityTier(String tier) {
+
+        String newTier = (tier == null) ? "" : tier.trim().toLowerCase(Locale.ROOT);
+
+        if (Sunquality.Tier.forName(newTier) == null && !Sunquality.AUTO.equals(newTier)) {
+            throw new IllegalArgumentException("Unknown quality tier: " + tier + ", use full, reduced, minimal or " + Sunquality.AUTO);
+        }
+
+        Platform.runLater(() -> qualityTierListener.accept(newTier));
+    }
+
+    @Override
+    public void pauseAnimations() {
+        Platform.runLater(() -> animationListener.accept(false));
+    }
+
+    @Override
+    public void resumeAnimations() {
+        Platform.runLater(() -> animationListener.accept(true));
+    }
+
+    private double getSeconds() {
+        return (System.nanoTime() - resetNanos) / 1e9;
+    }
+
+    private static double getRate(long hits, long total) {
+        return (total > 0) ? (double) hits / total : 0;
+    }
+
+    private int[] countNodes() {
+
+        FutureTask<int[]> countTask = new FutureTask<>(() -> {
+            sunperformance.countNodes(root);
+            return new int[] { sunperformance.getNodeCount(), sunperformance.getEffectCount() };
+        });
+
+        if (Platform.isFxApplicationThread()) {
+            countTask.run();
+        } else {
+            Platform.runLater(countTask);
+        }
+
+        try {
+            return countTask.get(NODE_COUNT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            return new int[] { -1, -1 };
+        }
+    }
+
+
+    // Getterers
+    @Override
+    public synchronized long getTickCount() {
+        return tickCount;
+    }
+
+    @Override
+    public synchronized double getTickRate() {
+        return tickCount / getSeconds();
+    }
+
+    @Override
+    public synchronized double getAverageTickLatency() {
+        return (tickCount > 0) ? tickTotalNanos / 1e3 / tickCount : 0;
+    }
+
+    @Override
+    public synchronized double getMaxTickLatency() {
+        return tickMaxNanos / 1e3;
+    }
+
+    @Override
+    public synchronized double getSolverCallsPerSecond() {
+        return (Suntime.getSolverCallCount() - solverCallsAtReset) / getSeconds();
+    }
+
+    @Override
+    public synchronized double getCityTableHitRate() {
+        return getRate(daySourceCount[CITY_TABLE], daySourceCount[SOLVER] + daySourceCount[CITY_TABLE]);
+    }
+
+    @Override
+    public synchronized double getLapseBufferHitRate() {
+        return getRate(daySourceCount[LAPSE_BUFFER], daySourceCount[SOLVER] + daySourceCount[CITY_TABLE] + daySourceCount[LAPSE_BUFFER]);
+    }
+
+    @Override
+    public synchronized double getEphemerisHitRate() {
+        long hits = Sunephemeris.getLookupHitCount() - ephemerisHitsAtReset;
+        long misses = Sunephemeris.getLookupMissCount() - ephemerisMissesAtReset;
+        return getRate(hits, hits + misses);
+    }
+
+    @Override
+    public String[] getCycleProviderStatus() {
+
+        ArrayList<String> statusList = new ArrayList<>();
+
+        for (CycleProvider provider : cycleProviderRegistry.getProviders()) {
+            statusList.add(String.format(Locale.ROOT, "%s: ok %s, last refresh %d ms, reloads %d, failures %d, circuit %s, result %s",
+                    provider.getFullName(),
+                    provider.getStatusOkEh(),
+                    cycleRefreshScheduler.getLastRefreshDuration(provider),
+                    provider.getReloadCounter(),
+                    cycleRefreshScheduler.getFailureCount(provider),
+                    cycleRefreshScheduler.getCircuitOpenEh(provider) ? "open" : "closed",
+                    provider.getResult()));
+        }
+
+        return statusList.toArray(new String[0]);
+    }
+
+    @Override
+    public int getNodeCount() {
+        return countNodes()[0];
+    }
+
+    @Override
+    public int getEffectCount() {
+        return countNodes()[1];
+    }
+
+    /**
+     * Called on the FX thread whenever the tier or the governor changes.
+     */
+    public void qualityTierChanged(Sunquality.Tier tier, boolean governorOnEh) {
+        this.qualityTier = tier.getName();
+        this.qualityGovernorOnEh = governorOnEh;
+    }
+
+    @Override
+    public String getQualityTier() {
+        return qualityTier;
+    }
+
+    @Override
+    public boolean isQualityGovernorOn() {
+        return qualityGovernorOnEh;
+    }
+
+}
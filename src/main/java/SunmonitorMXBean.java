@@ -0,0 +1,41 @@
+/**
+ * Management interface of Sunmonitor, registered as "Sunface:type=Monitor". Rates are per second and
+ * averages are taken since start or the last resetStatistics(), latencies are in microseconds.
+ */
+public interface SunmonitorMXBean {
+
+    long getTickCount();
+
+    double getTickRate();
+
+    double getAverageTickLatency();
+
+    double getMaxTickLatency();
+
+    double getSolverCallsPerSecond();
+
+    double getCityTableHitRate();
+
+    double getLapseBufferHitRate();
+
+    double getEphemerisHitRate();
+
+    String[] getCycleProviderStatus();
+
+    int getNodeCount();
+
+    int getEffectCount();
+
+    String getQualityTier();
+
+    boolean isQualityGovernorOn();
+
+    void switchQualityTier(String tier);
+
+    void pauseAnimations();
+
+    void resumeAnimations();
+
+    void resetStatistics();
+
+}
@@ -0,0 +1,266 @@
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.SubScene;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Numbers for the performance panel in the debug window: pulse to pulse frame times, where the time in
+ * updateCurrentTime goes, how big the scene graph is and how fast the FX thread allocates.
+ * Everything is counted from the moment the panel is shown, reset() starts over.
+ */
+public class Sunperformance {
+
+    public static final int SOLVER = 0;
+    public static final int SUNDIAL = 1;
+    public static final int CHART = 2;
+
+    private static final String[] PHASE_NAMES = { "solver", "sundial", "chart" };
+    private static final int[] PHASE_EVENTS = { Sunrecorder.SOLVER, Sunrecorder.SUNDIAL, Sunrecorder.CHART };
+
+    // upper bucket edges in ms, 16.7 is one 60 Hz pulse, the last bucket takes the rest
+    private static final double[] FRAME_BUCKETS = { 8.4, 16.7, 20, 25, 33.4, 50, 100 };
+    private static final int BAR_LENGTH = 40;
+
+    private static final int DIAL = 0;
+    private static final int GLOBE = 1;
+    private static final int MATRIX = 2;
+
+    private static final String[] NODE_GROUP_NAMES = { "dials", "globe", "DotMatrix" };
+
+    private final long[] phaseNanos = new long[PHASE_NAMES.length];
+    private final long[] phaseMaxNanos = new long[PHASE_NAMES.length];
+    private long tickCount;
+    private long tickMaxNanos;
+    private long tickNanos;
+
+    private final long[] frameBucketCount = new long[FRAME_BUCKETS.length + 1];
+    private long lastPulseNanos = -1;
+    private long frameCount;
+    private long frameTotalNanos;
+    private long frameMaxNanos;
+
+    private final int[] nodeCount = new int[NODE_GROUP_NAMES.length];
+    private final int[] effectCount = new int[NODE_GROUP_NAMES.length];
+
+    // looked up on the first sample, the debug window may never be opened and java.management costs start-up time
+    private com.sun.management.ThreadMXBean threadBean;
+    private boolean threadBeanLookedUpEh = false;
+    private long lastAllocatedBytes = -1;
+    private long lastAllocatedNanos;
+    private double allocationRate = -1;
+
+    public void reset() {
+
+        for (int i = 0; i < PHASE_NAMES.length; i++) {
+            phaseNanos[i] = 0;
+            phaseMaxNanos[i] = 0;
+        }
+        tickCount = 0;
+        tickMaxNanos = 0;
+        tickNanos = 0;
+
+        for (int i = 0; i < frameBucketCount.length; i++) { frameBucketCount[i] = 0; }
+        lastPulseNanos = -1;
+        frameCount = 0;
+        frameTotalNanos = 0;
+        frameMaxNanos = 0;
+
+        lastAllocatedBytes = -1;
+        allocationRate = -1;
+    }
+
+    /**
+     * Adds the time since start to the phase and returns now, so consecutive phases can be chained.
+     */
+    public long lap(int phase, long start) {
+
+        long now = System.nanoTime();
+        long nanos = now - start;
+
+        phaseNanos[phase] += nanos;
+        tickNanos += nanos;
+        if (nanos > phaseMaxNanos[phase]) { phaseMaxNanos[phase] = nanos; }
+
+        Sunrecorder.record(PHASE_EVENTS[phase], start, nanos);
+
+        return now;
+    }
+
+    public void tickDone() {
+        tickCount++;
+        if (tickNanos > tickMaxNanos) { tickMaxNanos = tickNanos; }
+        tickNanos = 0;
+    }
+
+    public void pulse(long now) {
+
+        if (lastPulseNanos >= 0) {
+
+            long frameNanos = now - lastPulseNanos;
+            double frameMillis = frameNanos / 1e6;
+
+            int bucket = 0;
+            while (bucket < FRAME_BUCKETS.length && frameMillis >= FRAME_BUCKETS[bucket]) { bucket++; }
+
+            frameBucketCount[bucket]++;
+            frameCount++;
+            frameTotalNanos += frameNanos;
+            if (frameNanos > frameMaxNanos) { frameMaxNanos = frameNanos; }
+        }
+
+        lastPulseNanos = now;
+    }
+
+    /**
+     * Bytes per second the calling thread allocated since the previous sample or skipAllocation(), -1 until
+     * there are two readings or if the JVM can't tell.
+     */
+    public double sampleAllocationRate() {
+
+        long allocatedBytes = getAllocatedBytes();
+        if (allocatedBytes < 0) { return -1; }
+
+        long now = System.nanoTime();
+
+        if (lastAllocatedBytes >= 0 && now > lastAllocatedNanos) {
+            allocationRate = (allocatedBytes - lastAllocatedBytes) / ((now - lastAllocatedNanos) / 1e9);
+        }
+
+        lastAllocatedBytes = allocatedBytes;
+        lastAllocatedNanos = now;
+
+        return allocationRate;
+    }
+
+    /**
+     * Leaves what was allocated since the last sample out of the next one, for the panel's own work.
+     */
+    public void skipAllocation() {
+
+        long allocatedBytes = getAllocatedBytes();
+        if (allocatedBytes < 0) { return; }
+
+        lastAllocatedBytes = allocatedBytes;
+        lastAllocatedNanos = System.nanoTime();
+    }
+
+    private long getAllocatedBytes() {
+
+        if (!threadBeanLookedUpEh) {
+            threadBeanLookedUpEh = true;
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            threadBean = (bean instanceof com.sun.management.ThreadMXBean) ? (com.sun.management.ThreadMXBean) bean : null;
+        }
+
+        if (threadBean == null || !threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public void countNodes(Node root) {
+
+        for (int i = 0; i < NODE_GROUP_NAMES.length; i++) {
+            nodeCount[i] = 0;
+            effectCount[i] = 0;
+        }
+
+        countNodes(root, DIAL);
+    }
+
+    private void countNodes(Node node, int group) {
+
+        if (node == null) { return; }
+
+        if (node instanceof Globe) { group = GLOBE; }
+        else if (node instanceof DotMatrix) { group = MATRIX; }
+
+        nodeCount[group]++;
+        if (node.getEffect() != null) { effectCount[group]++; }
+
+        if (node instanceof SubScene) {
+            countNodes(((SubScene) node).getRoot(), group);
+        } else if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                countNodes(child, group);
+            }
+        }
+    }
+
+    public String report() {
+
+        StringBuilder report = new StringBuilder();
+
+        report.append(String.format(Locale.ROOT, "Pulses                   : %d, avg %.1f ms, max %.1f ms\n",
+                frameCount,
+                (frameCount > 0) ? frameTotalNanos / 1e6 / frameCount : 0,
+                frameMaxNanos / 1e6));
+
+        long mostFrames = 1;
+        for (long count : frameBucketCount) { mostFrames = Math.max(mostFrames, count); }
+
+        for (int i = 0; i < frameBucketCount.length; i++) {
+
+            String label = (i < FRAME_BUCKETS.length)
+                    ? String.format(Locale.ROOT, "  < %5.1f ms", FRAME_BUCKETS[i])
+                    : String.format(Locale.ROOT, "  >=%5.1f ms", FRAME_BUCKETS[FRAME_BUCKETS.length - 1]);
+
+            int bar = (int) (frameBucketCount[i] * BAR_LENGTH / mostFrames);
+
+            report.append(String.format(Locale.ROOT, "%-25s| %-" + BAR_LENGTH + "s %d\n", label, repeat('#', bar), frameBucketCount[i]));
+        }
+
+        report.append("\n");
+        report.append(String.format(Locale.ROOT, "updateCurrentTime        : %d updates, max %.1f us\n", tickCount, tickMaxNanos / 1e3));
+
+        for (int i = 0; i < PHASE_NAMES.length; i++) {
+            report.append(String.format(Locale.ROOT, "  %-23s: avg %8.1f us, max %8.1f us\n",
+                    PHASE_NAMES[i],
+                    (tickCount > 0) ? phaseNanos[i] / 1e3 / tickCount : 0,
+                    phaseMaxNanos[i] / 1e3));
+        }
+
+        report.append("\n");
+
+        int totalNodes = 0;
+        int totalEffects = 0;
+
+        for (int i = 0; i < NODE_GROUP_NAMES.length; i++) {
+            report.append(String.format(Locale.ROOT, "Nodes %-19s: %6d, effects %4d\n", NODE_GROUP_NAMES[i], nodeCount[i], effectCount[i]));
+            totalNodes += nodeCount[i];
+            totalEffects += effectCount[i];
+        }
+
+        report.append(String.format(Locale.ROOT, "Nodes %-19s: %6d, effects %4d\n", "total", totalNodes, totalEffects));
+
+        report.append("\n");
+        report.append((allocationRate < 0)
+                ? "Allocation (FX thread)   : n/a\n"
+                : String.format(Locale.ROOT, "Allocation (FX thread)   : %.1f kB/s\n", allocationRate / 1024));
+
+        return report.toString();
+    }
+
+    public int getNodeCount() {
+        int total = 0;
+        for (int count : nodeCount) { total += count; }
+        return total;
+    }
+
+    public int getEffectCount() {
+        int total = 0;
+        for (int count : effectCount) { total += count; }
+        return total;
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder stringBuilder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) { stringBuilder.append(c); }
+        return stringBuilder.toString();
+    }
+
+}
@@ -0,0 +1,125 @@
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.SceneAntialiasing;
+import javafx.scene.SubScene;
+import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.GaussianBlur;
+
+import java.util.Locale;
+
+/**
+ * Effect quality tiers, for machines that render in software where every effect is paid for on the CPU.
+ *
+ *   full     - the look as designed
+ *   reduced  - one-pass-box shadows instead of three-pass-box, no blur on the globe layers. Its stylesheet is
+ *              made from the full one at build time, see pom.xml
+ *   minimal  - only the hover glows keep a shadow, no blur, plain compositing instead of SCREEN, LIGHTEN and ADD
+ *
+ * Start with -Dsunface.quality=<tier>, or auto to let Sungovernor pick one that holds the frame budget.
+ * SubScene antialiasing can only be set when they're built, so it follows the start-up tier and stays.
+ */
+public class Sunquality {
+
+    public enum Tier {
+
+        FULL(Sunconfig.STYLESHEET, BlurType.THREE_PASS_BOX),
+        REDUCED(Sunconfig.STYLESHEET_REDUCED, BlurType.ONE_PASS_BOX),
+        MINIMAL(Sunconfig.STYLESHEET_MINIMAL, BlurType.ONE_PASS_BOX);
+
+        private final String stylesheet;
+        private final BlurType blurType;
+
+        Tier(String stylesheet, BlurType blurType) {
+            this.stylesheet = stylesheet;
+            this.blurType = blurType;
+        }
+
+        public Tier lower() {
+            return (this == FULL) ? REDUCED : MINIMAL;
+        }
+
+        public Tier higher() {
+            return (this == MINIMAL) ? REDUCED : FULL;
+        }
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public String getStylesheet() {
+            return stylesheet;
+        }
+
+        public BlurType getBlurType() {
+            return blurType;
+        }
+
+        /**
+         * The tier with this name, null if there's none.
+         */
+        public static Tier forName(String name) {
+            for (Tier tier : values()) {
+                if (tier.getName().equals(name)) { return tier; }
+            }
+            return null;
+        }
+    }
+
+    public static final String AUTO = "auto";
+
+    private static final String QUALITY = System.getProperty("sunface.quality", Tier.FULL.getName()).trim().toLowerCase(Locale.ROOT);
+
+    public static final boolean AUTO_EH = AUTO.equals(QUALITY);
+    public static final Tier STARTUP_TIER = (Tier.forName(QUALITY) == null) ? Tier.FULL : Tier.forName(QUALITY);
+    public static final SceneAntialiasing ANTIALIASING = (STARTUP_TIER == Tier.FULL) ? SceneAntialiasing.BALANCED : SceneAntialiasing.DISABLED;
+
+    // what the full tier had, kept on the node while a lower tier has it switched off
+    private static final String FULL_BLUR = "sunquality.blur";
+    private static final String FULL_BLEND_MODE = "sunquality.blendMode";
+
+    /**
+     * Swaps the stylesheet and walks the tree for blur and compositing. Meant for tier changes, not for every frame.
+     */
+    public static void apply(Parent root, Tier tier) {
+        root.getStylesheets().setAll(tier.getStylesheet());
+        applyCompositing(root, tier);
+    }
+
+    private static void applyCompositing(Node node, Tier tier) {
+
+        if (node == null) { return; }
+
+        Object fullBlur = node.getProperties().get(FULL_BLUR);
+        if (fullBlur == null && node.getEffect() instanceof GaussianBlur) {
+            fullBlur = node.getEffect();
+            node.getProperties().put(FULL_BLUR, fullBlur);
+        }
+        if (fullBlur != null) {
+            node.setEffect((tier == Tier.FULL) ? (Effect) fullBlur : null);
+        }
+
+        Object fullBlendMode = node.getProperties().get(FULL_BLEND_MODE);
+        if (fullBlendMode == null && glowBlendModeEh(node.getBlendMode())) {
+            fullBlendMode = node.getBlendMode();
+            node.getProperties().put(FULL_BLEND_MODE, fullBlendMode);
+        }
+        if (fullBlendMode != null) {
+            node.setBlendMode((tier == Tier.MINIMAL) ? null : (BlendMode) fullBlendMode);
+        }
+
+        if (node instanceof SubScene) {
+            applyCompositing(((SubScene) node).getRoot(), tier);
+        } else if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                applyCompositing(child, tier);
+            }
+        }
+    }
+
+    private static boolean glowBlendModeEh(BlendMode blendMode) {
+        return blendMode == BlendMode.SCREEN || blendMode == BlendMode.LIGHTEN || blendMode == BlendMode.ADD;
+    }
+
+}
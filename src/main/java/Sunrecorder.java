@@ -0,0 +1,198 @@
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Event log for hunting down hitches. Every tick phase, drag and background job leaves its start and duration
+ * in a fixed size ring buffer, the oldest entries get overwritten. Writers from any thread claim a slot with one
+ * atomic increment, nothing is locked and nothing is allocated.
+ *
+ * Started with -Dsunface.watchdog=<ms>, a watchdog pings the FX thread and when a ping waits longer than that,
+ * the last few seconds of events and the FX thread stack go to a file in the stall directory.
+ */
+public class Sunrecorder {
+
+    public static final long WATCHDOG_THRESHOLD = Long.getLong("sunface.watchdog", 0);
+
+    public static final int TICK = 0;
+    public static final int SOLVER = 1;
+    public static final int SUNDIAL = 2;
+    public static final int CHART = 3;
+    public static final int INIT = 4;
+    public static final int DRAG_GLOBE = 5;
+    public static final int DRAG_NIGHT = 6;
+    public static final int DRAG_TIME = 7;
+    public static final int DRAG_WINDOW = 8;
+    public static final int CYCLE_REFRESH = 9;
+    public static final int SUNTABLE_LOAD = 10;
+    public static final int SUNYEAR_BUILD = 11;
+    public static final int LAPSE_COMPUTE = 12;
+    public static final int PNG_WRITE = 13;
+    public static final int STALL = 14;
+
+    private static final String[] EVENT_NAMES = {
+            "tick", "  solver", "  sundial", "  chart", "initCurrentTime",
+            "globe drag", "night compression drag", "time drag", "window drag",
+            "cycle refresh", "city table load", "year chart build", "time-lapse compute", "PNG write",
+            "FX thread stall"
+    };
+
+    private static final int CAPACITY = Sunconfig.RECORDER_CAPACITY;   // power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final int FIELDS = 4;                                // sequence, start, duration, type
+
+    private static final AtomicLong cursor = new AtomicLong();
+    private static final AtomicLongArray events = new AtomicLongArray(CAPACITY * FIELDS);
+
+    private static final long START_NANOS = System.nanoTime();
+    private static final long START_MILLIS = System.currentTimeMillis();
+
+    private static ScheduledExecutorService watchdog;
+    private static Thread fxThread;
+    private static volatile long pingNanos;
+    private static volatile boolean pingPendingEh;
+    private static boolean stallDumpedEh;
+
+    public static void record(int type, long startNanos) {
+        record(type, startNanos, System.nanoTime() - startNanos);
+    }
+
+    public static void record(int type, long startNanos, long durationNanos) {
+
+        long sequence = cursor.getAndIncrement();
+        int slot = (int) (sequence & MASK) * FIELDS;
+
+        // a reader that finds -1, or a different sequence after reading the fields, skips the slot
+        events.set(slot, -1);
+        events.set(slot + 1, startNanos);
+        events.set(slot + 2, durationNanos);
+        events.set(slot + 3, type);
+        events.set(slot, sequence);
+    }
+
+    /**
+     * Events that started in the last given nanoseconds, oldest first, one per line.
+     */
+    public static String report(long lastNanos) {
+
+        long now = System.nanoTime();
+        long newest = cursor.get() - 1;
+        long oldest = Math.max(0, newest - MASK);
+
+        StringBuilder report = new StringBuilder();
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+
+        for (long sequence = oldest; sequence <= newest; sequence++) {
+
+            int slot = (int) (sequence & MASK) * FIELDS;
+
+            if (events.get(slot) != sequence) { continue; }
+
+            long startNanos = events.get(slot + 1);
+            long durationNanos = events.get(slot + 2);
+            int type = (int) events.get(slot + 3);
+
+            if (events.get(slot) != sequence) { continue; }
+            if (now - startNanos > lastNanos) { continue; }
+
+            report.append(String.format(Locale.ROOT, "%s %9.1f ms  %-24s %9.3f ms\n",
+                    timeFormat.format(new Date(START_MILLIS + (startNanos - START_NANOS) / 1000000)),
+                    (startNanos - now) / 1e6,
+                    EVENT_NAMES[type],
+                    durationNanos / 1e6));
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Has to be called on the FX thread, that's the thread it keeps an eye on.
+     */
+    public static void startWatchdog() {
+
+        if (WATCHDOG_THRESHOLD <= 0 || watchdog != null) { return; }
+
+        fxThread = Thread.currentThread();
+
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fx-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        watchdog.scheduleWithFixedDelay(Sunrecorder::checkFxThread,
+                Sunconfig.WATCHDOG_INTERVAL, Sunconfig.WATCHDOG_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    public static void stopWatchdog() {
+        if (watchdog != null) { watchdog.shutdownNow(); }
+    }
+
+    private static void checkFxThread() {
+
+        long now = System.nanoTime();
+
+        if (!pingPendingEh) {
+            stallDumpedEh = false;
+            pingNanos = now;
+            pingPendingEh = true;
+            Platform.runLater(Sunrecorder::pong);
+            return;
+        }
+
+        long stallNanos = now - pingNanos;
+
+        // one dump per stall, taken while it's still going so the stack shows where it's stuck
+        if (!stallDumpedEh && stallNanos > WATCHDOG_THRESHOLD * 1000000) {
+            stallDumpedEh = true;
+            dumpStall(stallNanos);
+        }
+    }
+
+    private static void pong() {
+
+        long waitNanos = System.nanoTime() - pingNanos;
+        if (waitNanos > WATCHDOG_THRESHOLD * 1000000) { record(STALL, pingNanos, waitNanos); }
+
+        pingPendingEh = false;
+    }
+
+    private static void dumpStall(long stallNanos) {
+
+        StringBuilder dump = new StringBuilder();
+
+        dump.append(String.format(Locale.ROOT, "FX thread not responding for %.0f ms (threshold %d ms), state %s\n\n",
+                stallNanos / 1e6, WATCHDOG_THRESHOLD, fxThread.getState()));
+
+        dump.append("FX thread stack:\n");
+        for (StackTraceElement element : fxThread.getStackTrace()) {
+            dump.append("    at ").append(element).append("\n");
+        }
+
+        dump.append(String.format(Locale.ROOT, "\nEvents in the last %d s (wall clock, start relative to now, event, duration):\n",
+                Sunconfig.WATCHDOG_DUMP_SECONDS));
+        dump.append(report(Sunconfig.WATCHDOG_DUMP_SECONDS * 1000000000L));
+
+        try {
+            Path directory = Files.createDirectories(Paths.get(System.getProperty("user.home"), Sunconfig.CACHE_DIRECTORY, Sunconfig.STALL_DIRECTORY));
+            Path file = directory.resolve("stall-" + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date()) + ".txt");
+            Files.write(file, dump.toString().getBytes(StandardCharsets.UTF_8));
+            System.out.println("FX thread stall, events written to " + file);
+        } catch (IOException e) {
+            System.out.println("FX thread stall, unable to write events: " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Textures, logos and fonts used by the dial. Sunconfig only holds their paths, nothing here is decoded until
+ * first asked for. Each group sits in its own holder class so the JVM does the lazy, thread safe initialisation,
+ * and warmUp() can decode all groups in parallel while the stage is still being put together.
+ */
+public class Sunresources {
+
+    // one holder per texture, they are the expensive part and can be remapped in parallel
+    private static class GlobeDay {
+        static final Image IMAGE = Sunutil.convertSphericalToCylindricalMapping(new Image(Sunconfig.DEFAULT_DAY_MAP));
+    }
+
+    private static class GlobeNight {
+        static final Image IMAGE = Sunutil.convertSphericalToCylindricalMapping(new Image(Sunconfig.DEFAULT_NIGHT_MAP));
+    }
+
+    private static class GlobeSpecular {
+        static final Image IMAGE = Sunutil.convertSphericalToCylindricalMapping(new Image(Sunconfig.DEFAULT_SPECULAR_MAP));
+    }
+
+    // the edge globes are commented out in Suncreator, so this one isn't warmed up, it only decodes if asked for
+    private static class GlobeEdge {
+        static final Image IMAGE = Sunutil.convertSphericalToCylindricalMapping(new Image(Sunconfig.DEFAULT_EDGE_MAP));
+    }
+
+    private static class Logos {
+        static final Image OSTRON = new Image(Sunconfig.DEFAULT_LOGO_OSTRON, 64, 64, true, true);
+        static final Image SOLARIS_UNITED = new Image(Sunconfig.DEFAULT_LOGO_SOLARIS_UNITED, 64, 64, true, true);
+    }
+
+    private static class Fonts {
+        // read the font file once, every size is loaded from the same bytes
+        static final byte[] COURIER_PRIME_CODE = readResource(Sunconfig.DEFAULT_FONT_COURIER_PRIME_CODE);
+        static final Font DEBUG = loadFont(COURIER_PRIME_CODE, 14);
+        static final Font CHART_INFO = loadFont(COURIER_PRIME_CODE, 16);
+        static final Font MINI = loadFont(COURIER_PRIME_CODE, 8);
+    }
+
+    private static final int WARM_UP_THREADS = 4;
+
+    private static CompletableFuture<Void> warmUpFuture = null;
+
+    /**
+     * Starts decoding every resource group on background threads. Safe to call more than once.
+     */
+    public static synchronized CompletableFuture<Void> warmUp() {
+
+        if (warmUpFuture != null) { return warmUpFuture; }
+
+        int threads = Math.max(2, Math.min(WARM_UP_THREADS, Runtime.getRuntime().availableProcessors()));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "sunresources");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        warmUpFuture = CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> getGlobeDayImage(), executorService),
+                CompletableFuture.runAsync(() -> getGlobeNightImage(), executorService),
+                CompletableFuture.runAsync(() -> getGlobeSpecularImage(), executorService),
+                CompletableFuture.runAsync(() -> getLogoOstron(), executorService),
+                CompletableFuture.runAsync(() -> getFontDebug(), executorService)
+        );
+
+        warmUpFuture.whenComplete((result, throwable) -> executorService.shutdown());
+
+        return warmUpFuture;
+    }
+
+    private static byte[] readResource(String name) {
+
+        try (InputStream inputStream = ClassLoader.getSystemResourceAsStream(name)) {
+
+            if (inputStream == null) { return null; }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) { outputStream.write(buffer, 0, count); }
+
+            return outputStream.toByteArray();
+
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Font loadFont(byte[] fontData, double size) {
+        if (fontData == null) { return Font.font("Monospaced", size); }
+        return Font.loadFont(new ByteArrayInputStream(fontData), size);
+    }
+
+
+    // Gettttterers
+    public static Image getGlobeDayImage() {
+        return GlobeDay.IMAGE;
+    }
+
+    public static Image getGlobeNightImage() {
+        return GlobeNight.IMAGE;
+    }
+
+    public static Image getGlobeSpecularImage() {
+        return GlobeSpecular.IMAGE;
+    }
+
+    public static Image getGlobeEdgeImage() {
+        return GlobeEdge.IMAGE;
+    }
+
+    public static Image getLogoOstron() {
+        return Logos.OSTRON;
+    }
+
+    public static Image getLogoSolarisUnited() {
+        return Logos.SOLARIS_UNITED;
+    }
+
+    public static Font getFontDebug() {
+        return Fonts.DEBUG;
+    }
+
+    public static Font getFontChartInfo() {
+        return Fonts.CHART_INFO;
+    }
+
+    public static Font getFontMini() {
+        return Fonts.MINI;
+    }
+
+}
@@ -0,0 +1,288 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local HTTP endpoint serving the same Suntime numbers the dial shows.
+ *
+ *   GET /sun?lat=45.78&lon=15.98&date=2026-06-21
+ *   GET /sun?lat=45.78&lon=15.98&from=2026-01-01&to=2026-12-31&zone=Europe/Zagreb&format=csv
+ *
+ * Requests run on a bounded pool, responses are kept in an LRU cache keyed by the normalised query and bounded
+ * by total size, long ranges above CACHE_ENTRY_BYTES are built every time instead.
+ * When the pool's queue is full the dispatcher thread answers 503 itself, so no exchange is left open.
+ * Every response carries a Content-Length so HTTP/1.1 clients can keep the connection alive.
+ */
+public class Sunserver {
+
+    public static final String SERVER_SWITCH = "--serve";
+    public static final int DEFAULT_PORT = 8086;
+
+    private static final String DEFAULT_ADDRESS = "127.0.0.1";
+    private static final int MAX_RANGE_DAYS = 3660;
+    private static final long CACHE_BYTES = 32L * 1024 * 1024;
+    private static final int CACHE_ENTRY_BYTES = 64 * 1024;
+    private static final int QUEUE_SIZE = 1024;
+    private static final int BACKLOG = 256;
+    private static final String RETRY_AFTER = "1";         // seconds
+
+    // set while the dispatcher thread runs an exchange the pool turned down
+    private static final ThreadLocal<Boolean> OVERLOADED = ThreadLocal.withInitial(() -> false);
+
+    private HttpServer server;
+    private ThreadPoolExecutor executor;
+    private LinkedHashMap<String, byte[]> cache;
+    private long cacheBytes;
+
+    private AtomicLong requestCount = new AtomicLong();
+    private AtomicLong cacheHitCount = new AtomicLong();
+
+    public Sunserver(int port, int threads) throws IOException {
+
+        // headers and body go out in separate writes, with Nagle on every keep-alive request waits for a delayed ACK
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sunserver");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    // the exchange can only be answered from inside the handler, so it runs here and sends 503
+                    OVERLOADED.set(true);
+                    try {
+                        runnable.run();
+                    } finally {
+                        OVERLOADED.set(false);
+                    }
+                }
+        );
+
+        cache = new LinkedHashMap<>(16, 0.75f, true);
+
+        server = HttpServer.create(new InetSocketAddress(DEFAULT_ADDRESS, port), BACKLOG);
+        server.createContext("/sun", this::handleSun);
+        server.setExecutor(executor);
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        int port = DEFAULT_PORT;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i + 1 < args.length; i++) {
+            switch (args[i].toLowerCase(Locale.ROOT)) {
+                case SERVER_SWITCH : port = Integer.parseInt(args[++i]); break;
+                case "--threads" : threads = Integer.parseInt(args[++i]); break;
+                default: break;
+            }
+        }
+
+        Sunserver sunserver = new Sunserver(port, threads);
+        sunserver.start();
+
+        System.out.println("Serving on http://" + DEFAULT_ADDRESS + ":" + port + "/sun");
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleSun(HttpExchange exchange) throws IOException {
+
+        requestCount.incrementAndGet();
+
+        try {
+
+            // drain whatever the client sent so the connection can be reused
+            InputStream requestBody = exchange.getRequestBody();
+            while (requestBody.read() != -1) { }
+            requestBody.close();
+
+            if (OVERLOADED.get()) {
+                exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER);
+                sendText(exchange, 503, "Busy, try again\n");
+                return;
+            }
+
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendText(exchange, 405, "Only GET is supported\n");
+                return;
+            }
+
+            HashMap<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            double latitude = Double.parseDouble(require(query, "lat"));
+            double longitude = Double.parseDouble(require(query, "lon"));
+
+            if (!Double.isFinite(latitude) || !Double.isFinite(longitude)) {
+                sendText(exchange, 400, "Position must be a number\n");
+                return;
+            }
+
+            if (latitude < Suntime.MIN_LATITUDE || latitude > Suntime.MAX_LATITUDE
+                    || longitude < Suntime.MIN_LONGITUDE || longitude > Suntime.MAX_LONGITUDE) {
+                sendText(exchange, 400, "Position out of range\n");
+                return;
+            }
+
+            ZoneId zone = query.containsKey("zone") ? ZoneId.of(query.get("zone")) : ZoneOffset.UTC;
+            Sunbatch.Format format = query.containsKey("format")
+                    ? Sunbatch.Format.valueOf(query.get("format").toUpperCase(Locale.ROOT))
+                    : Sunbatch.Format.JSON;
+
+            LocalDate from;
+            LocalDate to;
+
+            if (query.containsKey("from")) {
+                from = LocalDate.parse(query.get("from"));
+                to = query.containsKey("to") ? LocalDate.parse(query.get("to")) : from;
+            } else {
+                from = query.containsKey("date") ? LocalDate.parse(query.get("date")) : LocalDate.now(zone);
+                to = from;
+            }
+
+            long rangeDays = ChronoUnit.DAYS.between(from, to) + 1;
+            if (rangeDays < 1 || rangeDays > MAX_RANGE_DAYS) {
+                sendText(exchange, 400, "Range must be 1 to " + MAX_RANGE_DAYS + " days\n");
+                return;
+            }
+
+            String key = latitude + "|" + longitude + "|" + from + "|" + to + "|" + zone.getId() + "|" + format;
+
+            byte[] response;
+            synchronized (cache) { response = cache.get(key); }
+
+            if (response != null) {
+                cacheHitCount.incrementAndGet();
+            } else {
+                response = buildResponse(latitude, longitude, from, to, zone, format);
+                cacheResponse(key, response);
+            }
+
+            exchange.getResponseHeaders().set("Content-Type",
+                    format == Sunbatch.Format.JSON ? "application/json; charset=utf-8" : "text/csv; charset=utf-8");
+            send(exchange, 200, response);
+
+        } catch (IllegalArgumentException | DateTimeException e) {
+            sendText(exchange, 400, "Bad request: " + e.getMessage() + "\n");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private byte[] buildResponse(double latitude, double longitude, LocalDate from, LocalDate to, ZoneId zone, Sunbatch.Format format) {
+
+        StringBuilder body = new StringBuilder();
+
+        if (format == Sunbatch.Format.CSV) {
+            body.append(Sunbatch.CSV_HEADER).append('\n');
+            Sunbatch.appendRows(body, "", longitude, latitude, from, to, format, zone);
+        } else {
+            body.append('[');
+            Sunbatch.appendRows(body, "", longitude, latitude, from, to, format, zone);
+            body.append("]\n");
+        }
+
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void cacheResponse(String key, byte[] response) {
+
+        if (response.length > CACHE_ENTRY_BYTES) { return; }
+
+        synchronized (cache) {
+
+            byte[] previous = cache.put(key, response);
+            cacheBytes += response.length - ((previous == null) ? 0 : previous.length);
+
+            // access order, the eldest entries are the least recently used
+            Iterator<Map.Entry<String, byte[]>> entries = cache.entrySet().iterator();
+            while (cacheBytes > CACHE_BYTES && entries.hasNext()) {
+                cacheBytes -= entries.next().getValue().length;
+                entries.remove();
+            }
+        }
+    }
+
+    private static String require(HashMap<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) { throw new IllegalArgumentException("missing " + name); }
+        return value;
+    }
+
+    private static HashMap<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+
+        HashMap<String, String> query = new HashMap<>();
+        if (rawQuery == null) { return query; }
+
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator <= 0) { continue; }
+            String name = URLDecoder.decode(pair.substring(0, separator), "UTF-8");
+            String value = URLDecoder.decode(pair.substring(separator + 1), "UTF-8");
+            query.put(name.toLowerCase(Locale.ROOT), value);
+        }
+
+        return query;
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        send(exchange, status, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+
+    // Getterers
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount.get();
+    }
+
+}
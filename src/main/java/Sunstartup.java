@@ -0,0 +1,60 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Startup phase timing. Phases are marked as start() goes along and the breakdown is printed once the first
+ * frame is out. Off unless started with -Dsunface.startup.timing=true, marking is then just a flag check.
+ * With -Dsunface.startup.exit=true the app quits right after the first frame, which is what the AppCDS
+ * training run in the pom uses.
+ * The first phase is timed from JVM start, java.management only gets loaded for that when the report is printed.
+ */
+public class Sunstartup {
+
+    public static final boolean TIMING_EH = Boolean.getBoolean("sunface.startup.timing");
+    public static final boolean EXIT_EH = Boolean.getBoolean("sunface.startup.exit");
+
+    private static ArrayList<String> phaseNames = new ArrayList<>();
+    private static ArrayList<Long> phaseTimes = new ArrayList<>();
+    private static long firstMarkNanos = 0;
+    private static long firstMarkMillis = 0;
+
+    public static void mark(String phaseName) {
+
+        if (!TIMING_EH) { return; }
+
+        if (phaseTimes.isEmpty()) {
+            firstMarkNanos = System.nanoTime();
+            firstMarkMillis = System.currentTimeMillis();
+        }
+
+        phaseNames.add(phaseName);
+        phaseTimes.add(System.nanoTime());
+    }
+
+    public static void report() {
+
+        if (!TIMING_EH || phaseTimes.isEmpty()) { return; }
+
+        long launchMillis = firstMarkMillis - ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        StringBuilder report = new StringBuilder();
+        report.append("Startup timing:\n");
+
+        // nothing runs before the first mark, so it's timed from JVM start, the rest from the mark before
+        report.append(String.format(Locale.ROOT, "  %-28s %8.1f ms\n", phaseNames.get(0), (double) launchMillis));
+
+        long previous = firstMarkNanos;
+        for (int i = 1; i < phaseTimes.size(); i++) {
+            long time = phaseTimes.get(i);
+            report.append(String.format(Locale.ROOT, "  %-28s %8.1f ms\n", phaseNames.get(i), (time - previous) / 1000000d));
+            previous = time;
+        }
+
+        long total = launchMillis + (previous - firstMarkNanos) / 1000000;
+        report.append(String.format(Locale.ROOT, "  %-28s %8d ms\n", "time to first frame", total));
+
+        System.out.print(report);
+    }
+
+}
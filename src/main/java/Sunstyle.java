@@ -0,0 +1,34 @@
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * Hooks into the effects stylesheet. A node gets its style class once when it's built, state that changes
+ * while running (hover glow, the cycle timer phase) only flips a pseudo-class, so JavaFX re-matches
+ * the few selectors that depend on it instead of parsing an inline style string on every change.
+ */
+public class Sunstyle {
+
+    public static final PseudoClass GLOW = PseudoClass.getPseudoClass("glow");
+    public static final PseudoClass LAST = PseudoClass.getPseudoClass("last");
+
+    /**
+     * Goes on the root group instead of the scene, so snapshots of groups that aren't in a window get styled as well.
+     */
+    public static void addStylesheet(Parent root) {
+        root.getStylesheets().add(Sunconfig.STYLESHEET);
+    }
+
+    public static void setStyleClass(Node node, String styleClass) {
+        if (styleClass == null || styleClass.isEmpty()) {
+            node.getStyleClass().clear();
+        } else {
+            node.getStyleClass().setAll(styleClass);
+        }
+    }
+
+    public static void setGlow(Node node, boolean glowEh) {
+        node.pseudoClassStateChanged(GLOW, glowEh);
+    }
+
+}
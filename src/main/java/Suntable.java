@@ -0,0 +1,251 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+
+import static java.lang.Math.abs;
+
+/**
+ * Precomputed high noon, sunrise and sunset for a gazetteer of cities, read from a memory mapped binary table.
+ * Layout: header, city coordinates (float lon, float lat), then for every city one row per day of
+ * (transit, sunrise, sunset) floats stored as day offsets from that day's Julian day number.
+ * Offsets are under a day, where a float's ulp is 2^-24 day, so values are within about 2.6 ms of the solver.
+ */
+public class Suntable {
+
+    public static final double MATCH_TOLERANCE = 0.01;   // degrees, roughly a kilometer and a couple of seconds of sunrise
+
+    private static final int MAGIC = 0x53554E54;           // "SUNT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 8;
+    private static final int CITY_SIZE = 2 * 4;
+    private static final int VALUES_PER_DAY = 3;
+    private static final int DAY_SIZE = VALUES_PER_DAY * 4;
+    private static final int DAYS_PER_TABLE = 366;
+
+    private static final int TRANSIT = 0;
+    private static final int SUNRISE = 1;
+    private static final int SUNSET = 2;
+
+    private MappedByteBuffer buffer;
+    private ArrayList<String> cityNames;
+    private int cityCount;
+    private int dayCount;
+    private long firstJulianDayNumber;
+    private int dataOffset;
+
+    private Suntable(MappedByteBuffer buffer, ArrayList<String> cityNames) throws IOException {
+
+        this.buffer = buffer;
+        this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a suntable file");
+        }
+
+        this.cityCount = buffer.getInt(8);
+        this.dayCount = buffer.getInt(12);
+        this.firstJulianDayNumber = buffer.getLong(16);
+        this.dataOffset = HEADER_SIZE + cityCount * CITY_SIZE;
+
+        if (buffer.capacity() != dataOffset + (long) cityCount * dayCount * DAY_SIZE) {
+            throw new IOException("Truncated suntable file");
+        }
+
+        this.cityNames = cityNames;
+    }
+
+    /**
+     * Maps the table for the given year from the cache directory, building it from the gazetteer first if it's
+     * missing or was built from a different city list.
+     */
+    public static Suntable load(String gazetteerResource, Path cacheDirectory, int year) throws IOException {
+
+        InputStream inputStream = ClassLoader.getSystemResourceAsStream(gazetteerResource);
+        if (inputStream == null) { throw new IOException("Gazetteer not found: " + gazetteerResource); }
+
+        ArrayList<String> cityNames = new ArrayList<>();
+        ArrayList<double[]> cityPositions = new ArrayList<>();
+        readGazetteer(inputStream, cityNames, cityPositions);
+
+        GregorianCalendar newYear = new GregorianCalendar(year, 0, 1, 12, 0, 0);
+        long firstJulianDayNumber = Suntime.getJulianDayNumber(newYear);
+
+        Path tableFile = cacheDirectory.resolve("suntable-" + year + ".bin");
+
+        if (Files.exists(tableFile)) {
+            try {
+                Suntable suntable = open(tableFile, cityNames);
+                if (suntable.matchesEh(cityPositions, firstJulianDayNumber)) { return suntable; }
+            } catch (IOException e) {
+                // stale or broken cache, rebuild it below
+            }
+        }
+
+        Files.createDirectories(cacheDirectory);
+        write(tableFile, cityPositions, firstJulianDayNumber, DAYS_PER_TABLE);
+
+        return open(tableFile, cityNames);
+    }
+
+    public static Suntable open(Path tableFile, ArrayList<String> cityNames) throws IOException {
+        try (FileChannel channel = FileChannel.open(tableFile, StandardOpenOption.READ)) {
+            return new Suntable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), cityNames);
+        }
+    }
+
+    public static void write(Path tableFile, ArrayList<double[]> cityPositions, long firstJulianDayNumber, int dayCount) throws IOException {
+
+        int cityCount = cityPositions.size();
+        long size = HEADER_SIZE + (long) cityCount * CITY_SIZE + (long) cityCount * dayCount * DAY_SIZE;
+
+        ByteBuffer table = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+
+        table.putInt(MAGIC);
+        table.putInt(VERSION);
+        table.putInt(cityCount);
+        table.putInt(dayCount);
+        table.putLong(firstJulianDayNumber);
+
+        for (double[] position : cityPositions) {
+            table.putFloat((float) position[0]);
+            table.putFloat((float) position[1]);
+        }
+
+        for (double[] position : cityPositions) {
+
+            Suntime suntime = new Suntime.PleaseBuildSuntime()
+                    .julianDayNumber(firstJulianDayNumber)
+                    .observerLongitude(position[0])
+                    .observerLatitude(position[1])
+                    .thankYou();
+
+            for (int day = 0; day < dayCount; day++) {
+
+                long julianDayNumber = firstJulianDayNumber + day;
+                suntime.setJulianDayNumber(julianDayNumber);
+
+                table.putFloat((float) (suntime.getHighnoonJulianDate() - julianDayNumber));
+                table.putFloat((float) (suntime.getSunriseJulianDate() - julianDayNumber));
+                table.putFloat((float) (suntime.getSunsetJulianDate() - julianDayNumber));
+            }
+        }
+
+        // write next to the target and swap it in, so a reader never maps a half written table
+        Path tempFile = tableFile.resolveSibling(tableFile.getFileName() + ".tmp");
+        Files.write(tempFile, table.array());
+        Files.move(tempFile, tableFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public static void readGazetteer(InputStream inputStream, ArrayList<String> cityNames, ArrayList<double[]> cityPositions) throws IOException {
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) { continue; }
+
+                String[] parts = line.split(";");
+                if (parts.length < 3) { continue; }
+
+                try {
+                    double latitude = Double.parseDouble(parts[1].trim());
+                    double longitude = Double.parseDouble(parts[2].trim());
+                    cityNames.add(parts[0].trim());
+                    cityPositions.add(new double[] {longitude, latitude});
+                } catch (NumberFormatException e) {
+                    // skip broken entries
+                }
+            }
+        }
+    }
+
+    private boolean matchesEh(ArrayList<double[]> cityPositions, long firstJulianDayNumber) {
+
+        if (this.firstJulianDayNumber != firstJulianDayNumber || this.dayCount != DAYS_PER_TABLE) { return false; }
+        if (this.cityCount != cityPositions.size()) { return false; }
+
+        for (int i = 0; i < cityCount; i++) {
+            if (getCityLongitude(i) != (float) cityPositions.get(i)[0]) { return false; }
+            if (getCityLatitude(i) != (float) cityPositions.get(i)[1]) { return false; }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the index of the city at the given position, or -1 if there isn't one within MATCH_TOLERANCE.
+     */
+    public int findCity(double longitude, double latitude) {
+
+        for (int i = 0; i < cityCount; i++) {
+            if (abs(getCityLongitude(i) - longitude) <= MATCH_TOLERANCE && abs(getCityLatitude(i) - latitude) <= MATCH_TOLERANCE) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean containsEh(long julianDayNumber) {
+        return julianDayNumber >= firstJulianDayNumber && julianDayNumber < firstJulianDayNumber + dayCount;
+    }
+
+    private double getValue(int city, long julianDayNumber, int column) {
+        int day = (int) (julianDayNumber - firstJulianDayNumber);
+        int index = dataOffset + (city * dayCount + day) * DAY_SIZE + column * 4;
+        return (double) julianDayNumber + buffer.getFloat(index);
+    }
+
+
+    // Getterers
+    public double getHighNoonJulianDate(int city, long julianDayNumber) {
+        return getValue(city, julianDayNumber, TRANSIT);
+    }
+
+    public double getSunriseJulianDate(int city, long julianDayNumber) {
+        return getValue(city, julianDayNumber, SUNRISE);
+    }
+
+    public double getSunsetJulianDate(int city, long julianDayNumber) {
+        return getValue(city, julianDayNumber, SUNSET);
+    }
+
+    public float getCityLongitude(int city) {
+        return buffer.getFloat(HEADER_SIZE + city * CITY_SIZE);
+    }
+
+    public float getCityLatitude(int city) {
+        return buffer.getFloat(HEADER_SIZE + city * CITY_SIZE + 4);
+    }
+
+    public String getCityName(int city) {
+        return (cityNames != null && city >= 0 && city < cityNames.size()) ? cityNames.get(city) : "";
+    }
+
+    public int getCityCount() {
+        return cityCount;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public long getFirstJulianDayNumber() {
+        return firstJulianDayNumber;
+    }
+
+}
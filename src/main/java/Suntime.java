@@ -1,6 +1,7 @@
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.lang.Math.*;
 
@@ -41,6 +42,12 @@ public class Suntime {
     private double localHourAngle;
     private double siderealTime;
 
+    // sunrise and sunset refinement steps since this instance was built, for profiling
+    private long iterations;
+
+    // solver runs over all instances and threads, for the JMX monitor
+    private final static LongAdder SOLVER_CALLS = new LongAdder();
+
     // Constructors
     private Suntime(PleaseBuildSuntime builder) {
         this.localTime = builder.localTime;
@@ -53,6 +60,7 @@ public class Suntime {
     }
 
     private void init() {
+        SOLVER_CALLS.increment();
         this.meanAnomaly            = this.calcMeanAnomaly(this.julianDayNumber);
         this.equationOfCenter       = this.calcEquationOfCenter(this.meanAnomaly);
         this.eclipticalLongitude    = this.calcEclipticalLongitude(this.meanAnomaly, this.equationOfCenter);
@@ -338,12 +346,22 @@ public class Suntime {
 
             JDcorrection = newJulianDate - estimateJulianDate;
             estimateJulianDate = newJulianDate;
+
+            iterations++;
         }
 
         return estimateJulianDate;
     }
 
     // Getters
+    public static long getSolverCallCount() {
+        return SOLVER_CALLS.sum();
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
     public double getMeanAnomaly() {
         return meanAnomaly;
     }
@@ -431,6 +449,15 @@ public class Suntime {
         }
     }
 
+    // moves the solver to another day for table builders that walk day by day,
+    // julianDate and localTime are left alone and keep describing the observer time set before
+    public void setJulianDayNumber(long julianDayNumber) {
+        if(this.julianDayNumber != julianDayNumber) {
+            this.julianDayNumber = julianDayNumber;
+            init();
+        }
+    }
+
     public void setObserverPosition(double observerLongitude, double observerLatitude) {
         if(this.observerLongitude != observerLongitude || this.observerLatitude != observerLatitude) {
             this.observerLongitude = observerLongitude;
@@ -8,7 +8,6 @@ import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
-import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
@@ -17,8 +16,73 @@ import static java.lang.Math.*;
 
 public class Sunutil {
 
+    // night compression only moves in STEP_nightCompression steps, each level's mapping is worked out once:
+    // where the quarter points 0, 90, 180, 270 and 360 end up, and the 96 marker angles
+    private static final int NIGHT_COMPRESSION_LEVELS =
+            (int) round((Sunconfig.MAX_nightCompression - Sunconfig.MIN_nightCompression) / Sunconfig.STEP_nightCompression) + 1;
+
+    private static final double[][] NIGHT_COMPRESSION_QUARTERS = new double[NIGHT_COMPRESSION_LEVELS][5];
+    private static final double[][] NIGHT_COMPRESSION_MARKERS = new double[NIGHT_COMPRESSION_LEVELS][Sunconfig.MAX_MARKER];
+
+    static {
+        for (int level = 0; level < NIGHT_COMPRESSION_LEVELS; level++) {
+
+            double nightCompression = Sunconfig.MIN_nightCompression + level * Sunconfig.STEP_nightCompression;
+
+            for (int quarter = 0; quarter < 5; quarter++) {
+                NIGHT_COMPRESSION_QUARTERS[level][quarter] = calcNightCompressionAngle(quarter * 90d, nightCompression);
+            }
+            for (int marker = 0; marker < Sunconfig.MAX_MARKER; marker++) {
+                NIGHT_COMPRESSION_MARKERS[level][marker] = calcNightCompressionAngle(marker * 360d / Sunconfig.MAX_MARKER, nightCompression);
+            }
+        }
+    }
+
+    /**
+     * Table row for this compression, or -1 if it's not one of the stepped levels.
+     */
+    private static int getNightCompressionLevel(double nightCompression) {
+
+        double level = (nightCompression - Sunconfig.MIN_nightCompression) / Sunconfig.STEP_nightCompression;
+        int index = (int) round(level);
+
+        if (index < 0 || index >= NIGHT_COMPRESSION_LEVELS || abs(level - index) > 1e-9) { return -1; }
+
+        return index;
+    }
+
     public static double getNightCompressionAngle(double angle, double nightCompression) {
 
+        int level = getNightCompressionLevel(nightCompression);
+
+        if (level < 0 || angle < 0 || angle > 360) { return calcNightCompressionAngle(angle, nightCompression); }
+
+        // the mapping is linear within each quarter, so interpolating between the quarter points is exact
+        int quarter = min(3, (int) (angle / 90));
+        double[] quarters = NIGHT_COMPRESSION_QUARTERS[level];
+
+        return quarters[quarter] + (quarters[quarter + 1] - quarters[quarter]) * (angle - quarter * 90) / 90;
+    }
+
+    /**
+     * Angles of the 96 dial markers. Shared between callers for the stepped levels, don't write into it.
+     */
+    public static double[] getNightCompressionMarkerAngles(double nightCompression) {
+
+        int level = getNightCompressionLevel(nightCompression);
+
+        if (level >= 0) { return NIGHT_COMPRESSION_MARKERS[level]; }
+
+        double[] markerAngles = new double[Sunconfig.MAX_MARKER];
+        for (int marker = 0; marker < Sunconfig.MAX_MARKER; marker++) {
+            markerAngles[marker] = calcNightCompressionAngle(marker * 360d / Sunconfig.MAX_MARKER, nightCompression);
+        }
+
+        return markerAngles;
+    }
+
+    private static double calcNightCompressionAngle(double angle, double nightCompression) {
+
         double newAngle = angle;
 
         if (angle > 0 && angle <= 90) { newAngle = angle + angle * nightCompression / 90; }
@@ -57,16 +121,10 @@ public class Sunutil {
 
     public static String getShortTimeString(GregorianCalendar calendar) {
 
-        String hourString = ("00" + calendar.get(Calendar.HOUR_OF_DAY));
-        hourString = hourString.substring(hourString.length() - 2);
-
-        String minuteString = ("00" + calendar.get(Calendar.MINUTE));
-        minuteString = minuteString.substring(minuteString.length() - 2);
+        char[] chars = new char[Sunformat.SHORT_TIME_LENGTH];
+        Sunformat.putShortTime(chars, 0, calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND));
 
-        String secondString = ("00" + calendar.get(Calendar.SECOND));
-        secondString = secondString.substring(secondString.length() - 2);
-
-        return hourString + ":" + minuteString + ":" + secondString;
+        return new String(chars);
     }
 
     public static String getShorterTimeString(GregorianCalendar calendar) {
@@ -84,49 +142,54 @@ public class Sunutil {
             }
         }
 
-        String hourString = ("00" + hours);
-        hourString = hourString.substring(hourString.length() - 2);
+        char[] chars = new char[Sunformat.SHORTER_TIME_LENGTH];
+        Sunformat.putShorterTime(chars, 0, hours * 60 + minutes);
 
-        String minuteString = ("00" + minutes);
-        minuteString = minuteString.substring(minuteString.length() - 2);
+        return new String(chars);
+    }
 
-        return hourString + ":" + minuteString;
+    public static double getCleanAngle(long millisOfDay) {
+
+        long seconds = millisOfDay / 1000;
+
+        return (seconds / (24d * 60d * 60d)) * 360d + 180d;
     }
 
-    public static String getShortTimeLengthString(double inputSeconds) {
+    public static int getRoundedMinuteOfDay(long millisOfDay) {
 
-        double precisionHours = inputSeconds / (60 * 60);
-        int hours = (int) floor(precisionHours);
+        long seconds = millisOfDay / 1000;
 
-        double precisionMins = (precisionHours - hours) * 60;
-        int minutes = (int) floor(precisionMins);
+        return (int) (((seconds + 30) / 60) % (24 * 60));
+    }
 
-        double precisionSecs = (precisionMins - minutes) * 60;
-        int seconds = (int) floor(precisionSecs);
+    public static String getShorterTimeString(long millisOfDay) {
 
-        String hoursString = ("00" + hours);
-        hoursString = hoursString.substring(hoursString.length() - 2);
+        char[] chars = new char[Sunformat.SHORTER_TIME_LENGTH];
+        Sunformat.putShorterTime(chars, 0, getRoundedMinuteOfDay(millisOfDay));
 
-        String minutesString = ("00" + minutes);
-        minutesString = minutesString.substring(minutesString.length() - 2);
+        return new String(chars);
+    }
 
-        String secondsString = ("00" + seconds);
-        secondsString = secondsString.substring(secondsString.length() - 2);
+    public static String getShortTimeLengthString(double inputSeconds) {
 
-        return hoursString + "h" + minutesString + "m" + secondsString + "s";
+        char[] chars = new char[Sunformat.TIME_LENGTH_LENGTH];
+        Sunformat.putTimeLength(chars, 0, inputSeconds);
+
+        return new String(chars);
     }
 
     public static String getShortDateString(GregorianCalendar calendar) {
 
-        String dayString = "00" + calendar.get(Calendar.DAY_OF_MONTH);
-        String monthString = "00" + (calendar.get(Calendar.MONTH) + 1);
-        String yearString = "0000" + calendar.get(Calendar.YEAR);
+        char[] chars = new char[11];
 
-        dayString = dayString.substring(dayString.length() - 2);
-        monthString = monthString.substring(monthString.length() - 2);
-        yearString = yearString.substring(yearString.length() - 4);
+        int offset = Sunformat.putDigits(chars, 0, calendar.get(Calendar.DAY_OF_MONTH), 2);
+        chars[offset++] = '.';
+        offset = Sunformat.putDigits(chars, offset, calendar.get(Calendar.MONTH) + 1, 2);
+        chars[offset++] = '.';
+        offset = Sunformat.putDigits(chars, offset, calendar.get(Calendar.YEAR), 4);
+        chars[offset] = '.';
 
-        return dayString + "." + monthString + "." + yearString + ".";
+        return new String(chars);
     }
 
     public static String getShorterTimeLengthString(double inputSeconds) {
@@ -137,35 +200,22 @@ public class Sunutil {
         double precisionMins = (precisionHours - hours) * 60;
         int minutes = (int) round(precisionMins);
 
-        String hoursString = ("00" + hours);
-        hoursString = hoursString.substring(hoursString.length() - 2);
+        char[] chars = new char[6];
 
-        String minutesString = ("00" + minutes);
-        minutesString = minutesString.substring(minutesString.length() - 2);
+        int offset = Sunformat.putDigits(chars, 0, hours, 2);
+        chars[offset++] = 'h';
+        offset = Sunformat.putDigits(chars, offset, minutes, 2);
+        chars[offset] = 'm';
 
-        return hoursString + "h" + minutesString + "m";
+        return new String(chars);
     }
 
     public static String formatCoordinateToString(double coordinate, String suffixPositive, String suffixNegative) {
 
-        DecimalFormat coordinateFormat = new DecimalFormat("#0.00");
-
-        String coordinateString = coordinateFormat.format(coordinate);
-
-        String whole = "   " + coordinateString.replace("-", "").split("[.,]")[0];
-        whole = whole.substring(whole.length() - 3);
-
-        String decimal = coordinateString.split("[.,]")[1].substring(0, 2);
-
-        String result = whole + "." + decimal;
-
-        if (coordinate < 0) {
-            result += suffixNegative;
-        } else {
-            result += suffixPositive;
-        }
+        char[] chars = new char[Sunformat.COORDINATE_LENGTH];
+        Sunformat.putCoordinate(chars, 0, coordinate);
 
-        return result;
+        return new String(chars) + ((coordinate < 0) ? suffixNegative : suffixPositive);
     }
 
     public static double getRemainder(double a, double b) {
@@ -177,6 +227,9 @@ public class Sunutil {
 
         if (input == null) { return null; }
 
+        Sunevents.TextureConversionEvent conversionEvent = Sunevents.JFR_EH ? new Sunevents.TextureConversionEvent() : null;
+        if (conversionEvent != null) { conversionEvent.begin(); }
+
         double H = input.getHeight();
         double L = input.getHeight();
 
@@ -195,6 +248,16 @@ public class Sunutil {
 
         }
 
+        if (conversionEvent != null) {
+            conversionEvent.end();
+            if (conversionEvent.shouldCommit()) {
+                conversionEvent.width = width;
+                conversionEvent.height = height;
+                conversionEvent.pixels = (long) width * height;
+                conversionEvent.commit();
+            }
+        }
+
         return output;
     }
 
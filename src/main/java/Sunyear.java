@@ -1,3 +1,4 @@
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.event.Event;
 import javafx.scene.Group;
@@ -13,6 +14,8 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
+import java.nio.file.Path;
+import java.time.Clock;
 import java.util.*;
 
 import static java.lang.Math.*;
@@ -39,9 +42,9 @@ public class Sunyear {
     private final static Color Color_Of_Sunset_Line     = new Color(0.20, 0.50, 1.00, 1.00);
     private final static Color Color_Of_Daylength_Line  = new Color(0.30, 0.70, 0.30, 1.00);
 
-    private final static String SUNRISE_GLOW    = "-fx-effect: dropshadow(three-pass-box, rgba(255, 64, 0, 1.0),  8.0, 0.60, 0, 0);";
-    private final static String SUNSET_GLOW     = "-fx-effect: dropshadow(three-pass-box, rgba(0, 64, 255, 1.0),  8.0, 0.60, 0, 0);";
-    private final static String DAYLENGTH_GLOW  = "-fx-effect: dropshadow(three-pass-box, rgba(0, 192, 0, 1.0),  8.0, 0.60, 0, 0);";
+    private final static String SUNRISE_GLOW    = "sunrise-glow";
+    private final static String SUNSET_GLOW     = "sunset-glow";
+    private final static String DAYLENGTH_GLOW  = "daylength-glow";
 
     enum InfoType { SUNRISE, SUNSET, DAYLENGTH };
 
@@ -57,8 +60,11 @@ public class Sunyear {
     private double savedMouseY;
 
     private Suntime suntime;
+    private Sunephemeris ephemeris;
+    private Path ephemerisDirectory;
 
     private GregorianCalendar calendar;
+    private Clock clock;
     private GregorianCalendar localDate;
 
     private ArrayList<GregorianCalendar> sunriseDateList;
@@ -103,7 +109,12 @@ public class Sunyear {
     private Group chart;
 
     public Sunyear(double longitude, double latitude, GregorianCalendar date, long timeZoneOffset) {
+        this(longitude, latitude, date, timeZoneOffset, Sunclock.real());
+    }
+
+    public Sunyear(double longitude, double latitude, GregorianCalendar date, long timeZoneOffset, Clock clock) {
 
+        this.clock = clock;
         this.longitude = longitude;
         this.latitude = latitude;
         this.year = date.get(Calendar.YEAR);
@@ -116,7 +127,7 @@ public class Sunyear {
         sunsetList = new ArrayList<>();
         daylengthList = new ArrayList<>();
 
-        calendar = new GregorianCalendar();
+        calendar = Sunclock.now(clock);
         calendar.set(Calendar.YEAR, this.year);
 
         localDate = new GregorianCalendar(date.getTimeZone());
@@ -129,6 +140,7 @@ public class Sunyear {
                 .thankYou();
 
         chart = createChartGroup();
+        Sunstyle.addStylesheet(chart);
 
         defaultWidth = chart.getLayoutBounds().getWidth();
         defaultHeight = chart.getLayoutBounds().getHeight();
@@ -136,6 +148,11 @@ public class Sunyear {
 
     private void recalculateDataPoints() {
 
+        Sunevents.SunyearRecalculateEvent recalculateEvent = Sunevents.JFR_EH ? new Sunevents.SunyearRecalculateEvent() : null;
+        if (recalculateEvent != null) { recalculateEvent.begin(); }
+
+        long iterations = suntime.getIterations();
+
         sunriseDateList.clear();
         sunsetDateList.clear();
 
@@ -143,6 +160,34 @@ public class Sunyear {
         sunsetList.clear();
         daylengthList.clear();
 
+        loadEphemeris(calendar.get(Calendar.YEAR));
+
+        int daysComputed = calculateDataPoints(suntime, ephemeris, calendar, longitude, latitude, timeZoneOffset,
+                sunriseDateList, sunsetDateList, sunriseList, sunsetList, daylengthList);
+
+        if (recalculateEvent != null) {
+            recalculateEvent.end();
+            if (recalculateEvent.shouldCommit()) {
+                recalculateEvent.year = calendar.get(Calendar.YEAR);
+                recalculateEvent.daysComputed = daysComputed;
+                recalculateEvent.daysFromEphemeris = DAYS_IN_YEAR - daysComputed;
+                recalculateEvent.iterations = suntime.getIterations() - iterations;
+                recalculateEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * A year of sunrise, sunset and daylength for the chart, from the ephemeris for the days it covers and from
+     * the solver for the rest. Static so the benchmarks run exactly this. Returns the number of days solved.
+     */
+    public static int calculateDataPoints(Suntime suntime, Sunephemeris ephemeris, GregorianCalendar calendar,
+                                          double longitude, double latitude, long timeZoneOffset,
+                                          List<GregorianCalendar> sunriseDateList, List<GregorianCalendar> sunsetDateList,
+                                          List<Double> sunriseList, List<Double> sunsetList, List<Double> daylengthList) {
+
+        int daysComputed = 0;
+
         GregorianCalendar gregorianCalendar = new GregorianCalendar(calendar.getTimeZone());
         gregorianCalendar.set(Calendar.YEAR, calendar.get(Calendar.YEAR));
 
@@ -168,11 +213,22 @@ public class Sunyear {
                     23, 59, 59
             );
 
-            suntime.setObserverTime(gregorianCalendar);
-            suntime.setObserverPosition(longitude, latitude);
+            long julianDayNumber = Suntime.getJulianDayNumber(gregorianCalendar);
+
+            double sunrise;
+            double sunset;
+
+            if (ephemeris != null && ephemeris.containsEh(julianDayNumber)) {
+                sunrise = ephemeris.getSunriseJulianDate(julianDayNumber);
+                sunset = ephemeris.getSunsetJulianDate(julianDayNumber);
+            } else {
+                suntime.setObserverTime(gregorianCalendar);
+                suntime.setObserverPosition(longitude, latitude);
+                sunrise = suntime.getSunriseJulianDate();
+                sunset = suntime.getSunsetJulianDate();
+                daysComputed++;
+            }
 
-            double sunrise = suntime.getSunriseJulianDate();
-            double sunset = suntime.getSunsetJulianDate();
             double daylength = (sunset - sunrise) * 24;
 
             GregorianCalendar sunriseDate = Suntime.getCalendarDate(sunrise, gregorianCalendar.getTimeZone());
@@ -233,6 +289,23 @@ public class Sunyear {
             sunsetList.add(sunsetTime);
             daylengthList.add(daylength);
         }
+
+        return daysComputed;
+    }
+
+    private void loadEphemeris(int year) {
+
+        if (ephemerisDirectory == null) { return; }
+
+        ephemeris = Sunephemeris.lookup(ephemerisDirectory, ephemeris, longitude, latitude, year);
+        if (ephemeris != null) { return; }
+
+        // the solver does this year meanwhile, the file is there for the next time the chart comes here
+        Sunephemeris.writeLater(ephemerisDirectory, longitude, latitude, year, written ->
+                Platform.runLater(() -> {
+                    if (ephemeris == null && written.coversEh(this.longitude, this.latitude, this.year)) { ephemeris = written; }
+                })
+        );
     }
 
     private void refreshLocalDateBar() {
@@ -247,11 +320,14 @@ public class Sunyear {
 
     private void refreshLines() {
 
+        Sunevents.SunyearRefreshLinesEvent refreshLinesEvent = Sunevents.JFR_EH ? new Sunevents.SunyearRefreshLinesEvent() : null;
+        if (refreshLinesEvent != null) { refreshLinesEvent.begin(); }
+
         sunrisePolyline.getPoints().clear();
         sunsetPolyline.getPoints().clear();
         daylengthPolyline.getPoints().clear();
 
-        GregorianCalendar gregorianCalendar = new GregorianCalendar();
+        GregorianCalendar gregorianCalendar = Sunclock.now(clock);
         gregorianCalendar.set(Calendar.YEAR, year);
 
         refreshLocalDateBar();
@@ -324,6 +400,14 @@ public class Sunyear {
             }
         }
 
+        if (refreshLinesEvent != null) {
+            refreshLinesEvent.end();
+            if (refreshLinesEvent.shouldCommit()) {
+                // three polyline points a day, four marker nodes a month
+                refreshLinesEvent.nodeWrites = 3 * DAYS_IN_YEAR + 4 * month;
+                refreshLinesEvent.commit();
+            }
+        }
     }
 
     private void showMouseTrapInfo(MouseEvent event) {
@@ -487,11 +571,11 @@ public class Sunyear {
 
 
         int month;
-        GregorianCalendar gregorianCalendar = new GregorianCalendar();
+        GregorianCalendar gregorianCalendar = Sunclock.now(clock);
 
         Font fontAxis = new Font(12);
         Font fontTitle = new Font(24);
-        Font fontInfo = Sunconfig.FONT_CHART_INFO;
+        Font fontInfo = Sunresources.getFontChartInfo();
 
         // MOUSE TRAP INFO
         infoTextDate = new Text("Spice must flow.");
@@ -505,7 +589,7 @@ public class Sunyear {
         infoTextSunrise.setFont(fontInfo);
         infoTextSunrise.setFill(Color.WHITE);
         infoTextSunrise.setStroke(Color.WHITE);
-        infoTextSunrise.setStyle(SUNRISE_GLOW);
+        Sunstyle.setStyleClass(infoTextSunrise, SUNRISE_GLOW);
         infoTextSunrise.setX(INFO_MARGIN);
         infoTextSunrise.setY(fontInfo.getSize() * 4 + INFO_MARGIN);
         infoTextSunrise.setBlendMode(BlendMode.SCREEN);
@@ -515,7 +599,7 @@ public class Sunyear {
         infoTextSunset.setFont(fontInfo);
         infoTextSunset.setFill(Color.WHITE);
         infoTextSunset.setStroke(Color.WHITE);
-        infoTextSunset.setStyle(SUNSET_GLOW);
+        Sunstyle.setStyleClass(infoTextSunset, SUNSET_GLOW);
         infoTextSunset.setX(INFO_MARGIN);
         infoTextSunset.setY(fontInfo.getSize() * 2 + INFO_MARGIN);
         infoTextSunset.setBlendMode(BlendMode.SCREEN);
@@ -525,7 +609,7 @@ public class Sunyear {
         infoTextDaylength.setFont(fontInfo);
         infoTextDaylength.setFill(Color.WHITE);
         infoTextDaylength.setStroke(Color.WHITE);
-        infoTextDaylength.setStyle(DAYLENGTH_GLOW);
+        Sunstyle.setStyleClass(infoTextDaylength, DAYLENGTH_GLOW);
         infoTextDaylength.setX(INFO_MARGIN);
         infoTextDaylength.setY(fontInfo.getSize() * 3 + INFO_MARGIN);
         infoTextDaylength.setBlendMode(BlendMode.SCREEN);
@@ -562,7 +646,7 @@ public class Sunyear {
         sunrisePolyline = new Polyline();
         sunrisePolyline.setStroke(Color.WHITE);
         sunrisePolyline.setStrokeWidth(2.0);
-        sunrisePolyline.setStyle(SUNRISE_GLOW);
+        Sunstyle.setStyleClass(sunrisePolyline, SUNRISE_GLOW);
         sunrisePolyline.setBlendMode(BlendMode.SCREEN);
         sunrisePolyline.setMouseTransparent(true);
 
@@ -571,7 +655,7 @@ public class Sunyear {
             Line sunriseLine = new Line(0, 0, SPACING_X, 0);
             sunriseLine.setStroke(Color.WHITE);
             sunriseLine.setStrokeWidth(2.0);
-            sunriseLine.setStyle(SUNRISE_GLOW);
+            Sunstyle.setStyleClass(sunriseLine, SUNRISE_GLOW);
             sunriseLine.setBlendMode(BlendMode.SCREEN);
             sunriseLine.setMouseTransparent(true);
             sunriseLineList.getChildren().add(sunriseLine);
@@ -579,7 +663,7 @@ public class Sunyear {
             Line sunsetLine = new Line(0, 0, SPACING_X, 0);
             sunsetLine.setStroke(Color.WHITE);
             sunsetLine.setStrokeWidth(2.0);
-            sunsetLine.setStyle(SUNSET_GLOW);
+            Sunstyle.setStyleClass(sunsetLine, SUNSET_GLOW);
             sunsetLine.setBlendMode(BlendMode.SCREEN);
             sunsetLine.setMouseTransparent(true);
             sunsetLineList.getChildren().add(sunsetLine);
@@ -589,14 +673,14 @@ public class Sunyear {
         sunsetPolyline = new Polyline();
         sunsetPolyline.setStroke(Color.WHITE);
         sunsetPolyline.setStrokeWidth(2.0);
-        sunsetPolyline.setStyle(SUNSET_GLOW);
+        Sunstyle.setStyleClass(sunsetPolyline, SUNSET_GLOW);
         sunsetPolyline.setBlendMode(BlendMode.SCREEN);
         sunsetPolyline.setMouseTransparent(true);
 
         daylengthPolyline = new Polyline();
         daylengthPolyline.setStroke(Color.WHITE);
         daylengthPolyline.setStrokeWidth(2.0);
-        daylengthPolyline.setStyle(DAYLENGTH_GLOW);
+        Sunstyle.setStyleClass(daylengthPolyline, DAYLENGTH_GLOW);
         daylengthPolyline.setBlendMode(BlendMode.SCREEN);
         daylengthPolyline.setMouseTransparent(true);
 
@@ -924,6 +1008,10 @@ public class Sunyear {
         refreshLines();
     }
 
+    public void setEphemerisDirectory(Path ephemerisDirectory) {
+        this.ephemerisDirectory = ephemerisDirectory;
+    }
+
     public void setTimeZone(TimeZone timeZone) {
         calendar.setTimeZone(timeZone);
         calendar.get(Calendar.HOUR_OF_DAY);
@@ -935,6 +1023,10 @@ public class Sunyear {
         refreshLocalDateBar();
     }
 
+    public void setQualityTier(Sunquality.Tier tier) {
+        Sunquality.apply(chart, tier);
+    }
+
     public GregorianCalendar getLocalDate() {
         return localDate;
     }
@@ -310,16 +310,16 @@ public class SuperNiceArc extends Group {
         dial.setFill(color);
     }
 
-    public void setNiceArcStyle(String style) {
-        niceArc.setStyle(style);
+    public void setNiceArcStyle(String styleClass) {
+        Sunstyle.setStyleClass(niceArc, styleClass);
     }
 
     public void setNiceArcBlendMode(BlendMode blendMode) {
         niceArc.setBlendMode(blendMode);
     }
 
-    public void setDialStyle(String style) {
-        dial.setStyle(style);
+    public void setDialStyle(String styleClass) {
+        Sunstyle.setStyleClass(dial, styleClass);
     }
 
     public void setDialBlendMode(BlendMode blendMode) {